@@ -0,0 +1,93 @@
+package net.enigmablade.riotapi.bench;
+
+import java.lang.invoke.*;
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.*;
+import net.enigmablade.jsonic.*;
+import net.enigmablade.riotapi.*;
+import net.enigmablade.riotapi.constants.*;
+import net.enigmablade.riotapi.constants.Locale;
+import net.enigmablade.riotapi.constants.staticdata.*;
+import net.enigmablade.riotapi.methods.*;
+import net.enigmablade.riotapi.types.*;
+import net.enigmablade.riotapi.util.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * <p>Compares binding responses with a {@link JsonReader} against parsing them into a JSONic tree and converting the tree,
+ * on a batch of 10 summoners' leagues with 200 entries each and on the static data of 120 champions with all data types.</p>
+ * <p>The benchmarks call the methods' private binders, so they measure exactly what a request does after the response arrives.
+ * The tree converters are the ones the binders replaced, see {@link TreeConverters}.</p>
+ * <p>JMH isn't a dependency of the library, so the benchmarks are compiled separately with the JMH 1.37 jars
+ * (jmh-core, jmh-generator-annprocess, jopt-simple, commons-math3) in <code>jmh/</code>:
+ * <pre>
+ * javac -encoding ISO-8859-1 -cp lib/JSONic.jar:jmh/* -d bench-out $(find src bench -name '*.java')
+ * java -cp bench-out:lib/JSONic.jar:jmh/* org.openjdk.jmh.Main BindingBenchmark -prof gc
+ * </pre></p>
+ * 
+ * @author Enigma
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BindingBenchmark
+{
+	private String leaguesJson, championsJson;
+	
+	private TreeConverters tree;
+	private MethodHandle bindLeagues, bindChampionList;
+	private EnumSet<ChampionDataType> allData;
+	
+	@Setup
+	public void setup() throws ReflectiveOperationException
+	{
+		leaguesJson = Fixtures.leagues(10, 200);
+		championsJson = Fixtures.champions(120);
+		
+		RiotApi api = new RiotApi("bench");
+		tree = new TreeConverters(api);
+		allData = EnumSet.of(ChampionDataType.ALL);
+		
+		Method leagues = LeagueMethod.class.getDeclaredMethod("bindLeagues", JsonReader.class);
+		leagues.setAccessible(true);
+		bindLeagues = MethodHandles.lookup().unreflect(leagues).bindTo(api.getLeagueApiMethod());
+		
+		Method champions = StaticDataMethod.class.getDeclaredMethod("bindChampionList", JsonReader.class, EnumSet.class, Region.class, Locale.class);
+		champions.setAccessible(true);
+		bindChampionList = MethodHandles.lookup().unreflect(champions).bindTo(api.getStaticDataApiMethod());
+	}
+	
+	//Leagues
+	
+	@Benchmark
+	public Map<String, List<League>> leaguesTree() throws JsonParseException
+	{
+		return tree.convertLeagues((JsonObject)JsonParser.parse(leaguesJson));
+	}
+	
+	@Benchmark
+	@SuppressWarnings("unchecked")
+	public Map<String, List<League>> leaguesPull() throws Throwable
+	{
+		return (Map<String, List<League>>)bindLeagues.invoke(new JsonReader(leaguesJson));
+	}
+	
+	//Static data
+	
+	@Benchmark
+	public Map<String, Champion> championsTree() throws JsonParseException
+	{
+		return tree.convertChampionList((JsonObject)JsonParser.parse(championsJson), allData, Region.NA, Locale.ENGLISH_US);
+	}
+	
+	@Benchmark
+	@SuppressWarnings("unchecked")
+	public Map<String, Champion> championsPull() throws Throwable
+	{
+		return (Map<String, Champion>)bindChampionList.invoke(new JsonReader(championsJson), allData, Region.NA, Locale.ENGLISH_US);
+	}
+}
@@ -0,0 +1,199 @@
+package net.enigmablade.riotapi.bench;
+
+import java.util.*;
+
+/**
+ * <p>Generates the JSON responses the benchmarks read, with the shape and size of real responses.
+ * The same seed always generates the same text, so runs are comparable.</p>
+ * <p>Run as a program to print a fixture: <code>leagues</code> or <code>champions</code>.</p>
+ * 
+ * @author Enigma
+ */
+public class Fixtures
+{
+	private static final String[] TIERS = {"BRONZE", "SILVER", "GOLD", "PLATINUM", "DIAMOND"};
+	private static final String[] DIVISIONS = {"I", "II", "III", "IV", "V"};
+	private static final String[] WORDS = {"the", "enemy", "deals", "magic", "damage", "to", "all", "nearby", "units", "and",
+			"gains", "bonus", "movement", "speed", "for", "seconds", "after", "casting", "a", "spell"};
+	
+	/**
+	 * Generates a league response for a batch of summoners: a map of summoner IDs to their leagues, with full entry lists.
+	 * @param summoners The number of summoners in the batch.
+	 * @param entries The number of entries in each league.
+	 * @return The JSON text.
+	 */
+	public static String leagues(int summoners, int entries)
+	{
+		Random random = new Random(31);
+		StringBuilder out = new StringBuilder(summoners*entries*260);
+		out.append('{');
+		for(int s = 0; s < summoners; s++)
+		{
+			if(s > 0)
+				out.append(',');
+			long summonerId = 20000000L+s;
+			out.append('"').append(summonerId).append("\":[{");
+			out.append("\"name\":\"Leona's Zealots\",\"participantId\":\"").append(summonerId).append("\",");
+			out.append("\"queue\":\"RANKED_SOLO_5x5\",\"tier\":\"").append(TIERS[s%TIERS.length]).append("\",\"entries\":[");
+			for(int e = 0; e < entries; e++)
+			{
+				if(e > 0)
+					out.append(',');
+				out.append("{\"playerOrTeamId\":\"").append(30000000L+s*entries+e).append('"');
+				out.append(",\"playerOrTeamName\":\"Summoner ").append(s).append('_').append(e).append('"');
+				out.append(",\"division\":\"").append(DIVISIONS[random.nextInt(DIVISIONS.length)]).append('"');
+				out.append(",\"leaguePoints\":").append(random.nextInt(101));
+				out.append(",\"wins\":").append(random.nextInt(400));
+				out.append(",\"isHotStreak\":").append(random.nextBoolean());
+				out.append(",\"isVeteran\":").append(random.nextBoolean());
+				out.append(",\"isFreshBlood\":").append(random.nextBoolean());
+				out.append(",\"isInactive\":false");
+				if(random.nextInt(10) == 0)
+					out.append(",\"miniSeries\":{\"target\":2,\"wins\":1,\"losses\":0,\"progress\":\"WNN\"}");
+				out.append('}');
+			}
+			out.append("]}]");
+		}
+		out.append('}');
+		return out.toString();
+	}
+	
+	/**
+	 * Generates a static data champion list response with all data types.
+	 * @param champions The number of champions.
+	 * @return The JSON text.
+	 */
+	public static String champions(int champions)
+	{
+		Random random = new Random(17);
+		StringBuilder out = new StringBuilder(champions*24000);
+		out.append("{\"type\":\"champion\",\"version\":\"4.21.5\",\"data\":{");
+		for(int c = 0; c < champions; c++)
+		{
+			if(c > 0)
+				out.append(',');
+			String key = "Champion"+c;
+			out.append('"').append(key).append("\":{");
+			out.append("\"id\":").append(c+1).append(",\"key\":\"").append(key).append("\",\"name\":\"").append(key).append('"');
+			out.append(",\"title\":\"the ").append(words(random, 2)).append('"');
+			out.append(",\"partype\":\"Mana\"");
+			out.append(",\"blurb\":\"").append(words(random, 40)).append('"');
+			out.append(",\"lore\":\"").append(words(random, 250)).append("<br><br>").append(words(random, 100)).append('"');
+			out.append(",\"info\":{\"attack\":").append(random.nextInt(11)).append(",\"defense\":").append(random.nextInt(11))
+					.append(",\"magic\":").append(random.nextInt(11)).append(",\"difficulty\":").append(random.nextInt(11)).append('}');
+			out.append(",\"tags\":[\"Mage\",\"Support\"]");
+			out.append(",\"allytips\":[");
+			appendStrings(out, random, 3, 20);
+			out.append("],\"enemytips\":[");
+			appendStrings(out, random, 3, 20);
+			out.append(']');
+			out.append(",\"image\":");
+			appendImage(out, key+".png", "champion", c);
+			out.append(",\"skins\":[");
+			for(int n = 0; n < 6; n++)
+			{
+				if(n > 0)
+					out.append(',');
+				out.append("{\"id\":\"").append((c+1)*1000+n).append("\",\"name\":\"").append(n == 0 ? "default" : words(random, 2)).append("\",\"num\":").append(n).append('}');
+			}
+			out.append("],\"stats\":{");
+			String[] stats = {"armor", "armorperlevel", "attackdamage", "attackdamageperlevel", "attackrange", "attackspeedoffset",
+					"attackspeedperlevel", "crit", "critperlevel", "hp", "hpperlevel", "hpregen", "hpregenperlevel", "movespeed",
+					"mp", "mpperlevel", "mpregen", "mpregenperlevel", "spellblock", "spellblockperlevel"};
+			for(int n = 0; n < stats.length; n++)
+			{
+				if(n > 0)
+					out.append(',');
+				out.append('"').append(stats[n]).append("\":").append(random.nextInt(600)).append('.').append(random.nextInt(1000));
+			}
+			out.append("},\"passive\":{\"name\":\"").append(words(random, 2)).append("\",\"description\":\"").append(words(random, 30)).append("\",\"image\":");
+			appendImage(out, key+"_P.png", "passive", c);
+			out.append("},\"spells\":[");
+			for(int n = 0; n < 4; n++)
+			{
+				if(n > 0)
+					out.append(',');
+				appendSpell(out, random, key+"QWER".charAt(n), c);
+			}
+			out.append("],\"recommended\":[");
+			for(int n = 0; n < 4; n++)
+			{
+				if(n > 0)
+					out.append(',');
+				out.append("{\"champion\":\"").append(key).append("\",\"title\":\"").append(key).append("SR\",\"type\":\"riot\",\"map\":\"SR\",\"mode\":\"CLASSIC\",\"priority\":false,\"blocks\":[");
+				for(int b = 0; b < 6; b++)
+				{
+					if(b > 0)
+						out.append(',');
+					out.append("{\"type\":\"block").append(b).append("\",\"items\":[");
+					for(int i = 0; i < 4; i++)
+					{
+						if(i > 0)
+							out.append(',');
+						out.append("{\"id\":\"").append(1000+random.nextInt(3000)).append("\",\"count\":").append(1+random.nextInt(2)).append('}');
+					}
+					out.append("]}");
+				}
+				out.append("]}");
+			}
+			out.append("]}");
+		}
+		out.append("}}");
+		return out.toString();
+	}
+	
+	public static void main(String[] args)
+	{
+		System.out.println("champions".equals(args.length > 0 ? args[0] : null) ? champions(120) : leagues(10, 200));
+	}
+	
+	//Helper methods
+	
+	private static void appendSpell(StringBuilder out, Random random, String id, int c)
+	{
+		out.append("{\"id\":\"").append(id).append("\",\"name\":\"").append(words(random, 2)).append('"');
+		out.append(",\"description\":\"").append(words(random, 40)).append('"');
+		out.append(",\"tooltip\":\"Deals {{ e1 }} <span class=\\\"color99FF99\\\">(+{{ a1 }})</span> ").append(words(random, 40)).append('"');
+		out.append(",\"leveltip\":{\"label\":[\"Damage\",\"Cooldown\"],\"effect\":[\"{{ e1 }} -> {{ e1NL }}\",\"{{ cooldown }} -> {{ cooldownnNL }}\"]}");
+		out.append(",\"image\":");
+		appendImage(out, id+".png", "spell", c);
+		out.append(",\"resource\":\"{{ cost }} Mana\",\"maxrank\":5");
+		out.append(",\"cost\":[60,65,70,75,80],\"costType\":\"Mana\",\"costBurn\":\"60/65/70/75/80\"");
+		out.append(",\"cooldown\":[10,9,8,7,6],\"cooldownBurn\":\"10/9/8/7/6\"");
+		out.append(",\"effect\":[null,[80,125,170,215,260],[1,1,1,1,1],[20,20,20,20,20]],\"effectBurn\":[\"\",\"80/125/170/215/260\",\"1\",\"20\"]");
+		out.append(",\"vars\":[{\"link\":\"spelldamage\",\"coeff\":[0.6],\"key\":\"a1\"},{\"link\":\"bonusattackdamage\",\"coeff\":0.4,\"key\":\"f1\"}]");
+		if(random.nextInt(5) == 0)
+			out.append(",\"range\":\"self\",\"rangeBurn\":\"self\"");
+		else
+			out.append(",\"range\":[625,625,625,625,625],\"rangeBurn\":\"625\"");
+		out.append('}');
+	}
+	
+	private static void appendImage(StringBuilder out, String full, String group, int c)
+	{
+		out.append("{\"full\":\"").append(full).append("\",\"sprite\":\"").append(group).append(c/40).append(".png\",\"group\":\"").append(group)
+				.append("\",\"x\":").append(c%10*48).append(",\"y\":").append(c/10%4*48).append(",\"w\":48,\"h\":48}");
+	}
+	
+	private static void appendStrings(StringBuilder out, Random random, int count, int words)
+	{
+		for(int n = 0; n < count; n++)
+		{
+			if(n > 0)
+				out.append(',');
+			out.append('"').append(words(random, words)).append('"');
+		}
+	}
+	
+	private static String words(Random random, int count)
+	{
+		StringBuilder words = new StringBuilder(count*7);
+		for(int n = 0; n < count; n++)
+		{
+			if(n > 0)
+				words.append(' ');
+			words.append(WORDS[random.nextInt(WORDS.length)]);
+		}
+		return words.toString();
+	}
+}
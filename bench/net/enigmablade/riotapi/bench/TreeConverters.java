@@ -0,0 +1,419 @@
+package net.enigmablade.riotapi.bench;
+
+import java.util.*;
+import net.enigmablade.jsonic.*;
+import net.enigmablade.riotapi.*;
+import net.enigmablade.riotapi.constants.*;
+import net.enigmablade.riotapi.constants.Locale;
+import net.enigmablade.riotapi.constants.staticdata.*;
+import net.enigmablade.riotapi.types.*;
+import net.enigmablade.riotapi.types.staticdata.*;
+import net.enigmablade.riotapi.util.*;
+
+/**
+ * <p>The JSON tree converters that league and champion responses went through before they were bound with a {@link JsonReader},
+ * kept unchanged as the baseline of {@link BindingBenchmark}.</p>
+ * 
+ * @author Enigma
+ */
+class TreeConverters
+{
+	private RiotApi api;
+	
+	public TreeConverters(RiotApi api)
+	{
+		this.api = api;
+	}
+	
+	/**
+	 * Converts a JSON array of leagues to a list of league objects.
+	 * @param leaguesObject The JSON array to be converted.
+	 * @return The converted list of leagues.
+	 */
+	Map<String, List<League>> convertLeagues(JsonObject leaguesObject)
+	{
+		Map<String, List<League>> leagues = new HashMap<>(leaguesObject.size());
+		
+		//Convert to list of leagues
+		for(String participantId : leaguesObject.keySet())
+		{
+			JsonArray leaguesArray = leaguesObject.getArray(participantId);
+			List<League> leaguesList = new ArrayList<>(leaguesArray.size());
+			
+			for(JsonIterator it = leaguesArray.iterator(); it.hasNext();)
+				leaguesList.add(convertLeague(it.nextObject()));
+			
+			//Convert league object
+			leagues.put(participantId, leaguesList);
+		}
+		
+		return leagues;
+	}
+	
+	/**
+	 * Converts a JSON league to a league object.
+	 * @param leagueObject The JSON league.
+	 * @return The league.
+	 */
+	private League convertLeague(JsonObject leagueObject)
+	{
+		//Convert league entries list
+		JsonArray entriesArray = leagueObject.getArray("entries");
+		List<League.Entry> entries = new ArrayList<>(entriesArray.size());
+		for(int l = 0; l < entriesArray.size(); l++)
+		{
+			JsonObject entryObject = entriesArray.getObject(l);
+			League.Entry entry = convertLeagueEntry(entryObject);
+			entries.add(entry);
+		}
+		
+		//Create league
+		League league = new League(leagueObject.getString("name"), leagueObject.getString("participantId"), leagueObject.getString("queue"), leagueObject.getString("tier"), entries);
+		return league;
+	}
+	
+	/**
+	 * Converts a JSON object representing a league entry into a league entry object.
+	 * @param entryObject The JSON object.
+	 * @return The converted league entry.
+	 */
+	private League.Entry convertLeagueEntry(JsonObject entryObject)
+	{
+		//Convert league entry series if exists
+		League.Entry.Series series = convertMiniSeries(entryObject.getObject("miniSeries"));
+		
+		//Create entry
+		League.Entry entry = new League.Entry(entryObject.getString("division"),
+				entryObject.getString("playerOrTeamId"), entryObject.getString("playerOrTeamName"),
+				entryObject.getBoolean("isHotStreak"), entryObject.getBoolean("isFreshBlood"), entryObject.getBoolean("isVeteran"), entryObject.getBoolean("isInactive"),
+				entryObject.getInt("wins"), entryObject.getInt("leaguePoints"),
+				series);
+		return entry;
+	}
+	
+	/**
+	 * Converts a JSON series object to a series object.
+	 * @param seriesObject The JSON series object.
+	 * @return The converted series object.
+	 */
+	private League.Entry.Series convertMiniSeries(JsonObject seriesObject)
+	{
+		League.Entry.Series series = null;
+		if(seriesObject != null)
+		{
+			series = new League.Entry.Series(seriesObject.getInt("target"),
+					seriesObject.getInt("wins"), seriesObject.getInt("losses"),
+					seriesObject.getString("progress"));
+		}
+		return series;
+	}
+	
+	Map<String, Champion> convertChampionList(JsonObject rootObject, EnumSet<ChampionDataType> loadedData, Region region, Locale locale)
+	{
+		//Convert the list of champions
+		JsonObject championsObject = rootObject.getObject("data");
+		Map<String, Champion> champions = new HashMap<>(championsObject.size());
+		for(String championKey : championsObject.keySet())
+		{
+			//Convert a champion
+			JsonObject championObject = championsObject.getObject(championKey);
+			Champion champion = convertChampion(championObject, loadedData, region, locale);
+			champions.put(championKey, champion);
+		}
+		return champions;
+	}
+	
+	private Champion convertChampion(JsonObject championObject, EnumSet<ChampionDataType> loadedData, Region region, Locale locale)
+	{
+		String name = championObject.getString("name");
+		long id = championObject.getLong("id");
+		String key = championObject.getString("key");
+		String title = championObject.getString("title");
+		
+		Champion c = new Champion(api, region, locale, name, id, key, title);
+		
+		//Convert exactly the requested data and mark it loaded
+		if(loadedData != null)
+		{
+			for(ChampionDataType type : loadedData.contains(ChampionDataType.ALL) ? EnumSet.allOf(ChampionDataType.class) : loadedData)
+			{
+				convertChampionData(championObject, type, c);
+				c.setStaticDataLoaded(type);
+			}
+		}
+		
+		return c;
+	}
+	
+	private void convertChampionData(JsonObject championObject, ChampionDataType type, Champion c)
+	{
+		switch(type)
+		{
+			//Basic data
+			case PARTYPE:
+				String partype = championObject.getString("partype");
+				ResourceType resourceType = ResourceType.getResourceType(partype);
+				c.setResourceType(resourceType);
+				break;
+			
+			case BLURB:
+				String blurb = championObject.getString("blurb");
+				c.setBlurb(blurb);
+				break;
+			
+			case LORE:
+				String lore = championObject.getString("lore");
+				c.setLore(lore);
+				break;
+			
+			case INFO:
+				JsonObject infoObject = championObject.getObject("info");
+				c.setInfo(infoObject.getInt("attack"), infoObject.getInt("magic"), infoObject.getInt("defense"), infoObject.getInt("difficulty"));
+				break;
+			
+			//Lists
+			case ALLYTIPS:
+				JsonArray allyTipsArray = championObject.getArray("allytips");
+				List<String> allyTips = convertChampionTips(allyTipsArray);
+				c.setAllyTips(allyTips);
+				break;
+			
+			case ENEMYTIPS:
+				JsonArray enemyTipsArray = championObject.getArray("enemytips");
+				List<String> enemyTips = convertChampionTips(enemyTipsArray);
+				c.setEnemyTips(enemyTips);
+				break;
+			
+			case RECOMMENDED:
+				JsonArray recommendedArray = championObject.getArray("recommended");
+				List<RecommendedItems> recommended = convertChampionRecommended(recommendedArray);
+				c.setRecommendedItems(recommended);
+				break;
+			
+			case SKINS:
+				JsonArray skinsArray = championObject.getArray("skins");
+				List<Skin> skins = convertChampionSkins(skinsArray);
+				c.setSkins(skins);
+				break;
+			
+			case SPELLS:
+				JsonArray spellsArray = championObject.getArray("spells");
+				List<Spell> spells = convertSpells(spellsArray);
+				c.setSpells(spells);
+				break;
+			
+			case TAGS:
+				JsonArray tagsArray = championObject.getArray("tags");
+				List<String> tags = convertChampionTags(tagsArray);
+				c.setTags(tags);
+				break;
+			
+			//Objects
+			case IMAGE:
+				JsonObject imageObject = championObject.getObject("image");
+				Image image = convertImage(imageObject);
+				c.setImage(image);
+				break;
+			
+			case PASSIVE:
+				JsonObject passiveObject = championObject.getObject("passive");
+				Passive passive = convertChampionPassive(passiveObject);
+				c.setPassive(passive);
+				break;
+			
+			case STATS:
+				JsonObject statsObject = championObject.getObject("stats");
+				Champion.Stats stats = convertChampionStats(statsObject);
+				c.setStats(stats);
+				break;
+		}
+	}
+	
+	private List<String> convertChampionTips(JsonArray tipsArray)
+	{
+		List<String> tips = new ArrayList<>(tipsArray.size());
+		for(JsonIterator it = tipsArray.iterator(); it.hasNext();)
+			tips.add(it.nextString());
+		return tips;
+	}
+	
+	private List<String> convertChampionTags(JsonArray tagsArray)
+	{
+		List<String> tags = new ArrayList<>(tagsArray.size());
+		for(JsonIterator it = tagsArray.iterator(); it.hasNext();)
+			tags.add(it.nextString());
+		return tags;
+	}
+	
+	private List<RecommendedItems> convertChampionRecommended(JsonArray recommendedArray)
+	{
+		List<RecommendedItems> recommendedItems = new ArrayList<>(recommendedArray.size());
+		for(JsonIterator it = recommendedArray.iterator(); it.hasNext();)
+		{
+			JsonObject recommendedObject = it.nextObject();
+			
+			//Convert blocks
+			JsonArray blocksArray = recommendedObject.getArray("blocks");
+			List<RecommendedItems.Block> blocks = new ArrayList<>(blocksArray.size());
+			for(JsonIterator it2 = blocksArray.iterator(); it2.hasNext();)
+			{
+				JsonObject blockObject = it2.nextObject();
+				
+				//Convert items
+				JsonArray itemsArray = blockObject.getArray("items");
+				if(itemsArray != null)
+				{
+					List<RecommendedItems.Block.Item> items = new ArrayList<>(itemsArray.size());
+					for(JsonIterator it3 = itemsArray.iterator(); it3.hasNext();)
+					{
+						JsonObject itemObject = it3.nextObject();
+						
+						//Convert item
+						RecommendedItems.Block.Item item = new RecommendedItems.Block.Item(itemObject.getString("id"), itemObject.getInt("count"));
+						items.add(item);
+					}
+					
+					//Convert block
+					RecommendedItems.Block block = new RecommendedItems.Block(blockObject.getString("type"), items);
+					blocks.add(block);
+				}
+			}
+			
+			//Convert recommended set
+			RecommendedItems recommended = new RecommendedItems(recommendedObject.getString("champion"),
+					recommendedObject.getString("map"), recommendedObject.getString("mode"), recommendedObject.getString("type"),
+					recommendedObject.getString("title"), recommendedObject.getBoolean("priority"),
+					blocks);
+			recommendedItems.add(recommended);
+		}
+		return recommendedItems;
+	}
+	
+	private List<Skin> convertChampionSkins(JsonArray skinsArray)
+	{
+		List<Skin> skins = new ArrayList<>(skinsArray.size());
+		for(JsonIterator it = skinsArray.iterator(); it.hasNext();)
+		{
+			JsonObject skinObject = it.nextObject();
+			
+			//Convert skin
+			Skin skin = new Skin(
+					skinObject.getString("id"),
+					skinObject.getString("name"),
+					skinObject.getInt("num"));
+			skins.add(skin);
+		}
+		return skins;
+	}
+	
+	private Champion.Stats convertChampionStats(JsonObject statsObject)
+	{
+		Champion.Stats stats = new Champion.Stats(
+				statsObject.getDouble("attackdamage"), statsObject.getDouble("attackdamageperlevel"), statsObject.getDouble("attackrange"),
+				statsObject.getDouble("attackspeedoffset"), statsObject.getDouble("attackspeedperlevel"), statsObject.getDouble("crit"), statsObject.getDouble("critperlevel"),
+				statsObject.getDouble("hp"), statsObject.getDouble("hpperlevel"), statsObject.getDouble("hpregen"), statsObject.getDouble("hpregenperlevel"),
+				statsObject.getDouble("mp"), statsObject.getDouble("mpperlevel"), statsObject.getDouble("mpregen"), statsObject.getDouble("mpregenperlevel"),
+				statsObject.getDouble("armor"), statsObject.getDouble("armorperlevel"), statsObject.getDouble("spellblock"), statsObject.getDouble("spellblockperlevel"),
+				statsObject.getDouble("movespeed"));
+		return stats;
+	}
+	
+	private Passive convertChampionPassive(JsonObject passiveObject)
+	{
+		Image image = convertImage(passiveObject.getObject("image"));
+		Passive passive = new Passive(passiveObject.getString("name"), passiveObject.getString("description"), image);
+		return passive;
+	}
+	
+	private List<Spell> convertSpells(JsonArray spellArray)
+	{
+		List<Spell> spells = new ArrayList<>(spellArray.size());
+		for(JsonIterator it = spellArray.iterator(); it.hasNext();)
+		{
+			JsonObject spellObject = it.nextObject();
+			
+			//Convert spell
+			Image image = convertImage(spellObject.getObject("image"));
+			Spell spell = new Spell(spellObject.getString("name"), spellObject.getString("id"), spellObject.getString("description"), image);
+			spells.add(spell);
+			
+			//Convert general
+			JsonObject levelTipObject = spellObject.getObject("leveltip");
+			List<String> levelTipLabels = ApiUtil.convertStringArray(levelTipObject.getArray("label"));
+			List<String> levelTipEffects = ApiUtil.convertStringArray(levelTipObject.getArray("effect"));
+			
+			JsonArray varsArray = spellObject.getArray("vars");
+			List<Spell.SpellVar> vars = convertSpellVars(varsArray, spell);
+			
+			spell.initGeneral(spellObject.getString("tooltip"), levelTipLabels, levelTipEffects, spellObject.getInt("maxrank"), vars);
+			
+			//Convert resource
+			ResourceType resourceType = ResourceType.getResourceType(spellObject.getString("costType"));
+			List<Integer> costs = ApiUtil.convertIntArray(spellObject.getArray("cost"));
+			
+			spell.initResource(resourceType, spellObject.getString("resource"), costs, spellObject.getString("costBurn"));
+			
+			//Convert info
+			List<Integer> cooldowns = ApiUtil.convertIntArray(spellObject.getArray("cooldown"));
+			
+			Object rangeObj = spellObject.get("range");
+			List<Integer> ranges = null;
+			if(ValueUtil.isJsonArray(rangeObj))	//Leave the range null if not an array, means it's "self"
+				ranges = ApiUtil.convertIntArray(spellObject.getArray("range"));
+			
+			spell.initInfo(cooldowns, spellObject.getString("cooldownBurn"), ranges, spellObject.getString("rangeBurn"));
+			
+			//Convert effects
+			JsonArray effectsArray = spellObject.getArray("effect");
+			List<List<Integer>> effects = new ArrayList<List<Integer>>();
+			if(effectsArray != null)
+			{
+				for(JsonIterator it2 = effectsArray.iterator(); it2.hasNext();)
+					effects.add(ApiUtil.convertIntArray(it2.nextArray()));
+			}
+			
+			List<String> effectBurns = ApiUtil.convertStringArray(spellObject.getArray("effectBurn"));
+			
+			spell.initEffects(effects, effectBurns);
+		}
+		return spells;
+	}
+	
+	private List<Spell.SpellVar> convertSpellVars(JsonArray spellVarsArray, Spell spell)
+	{
+		if(spellVarsArray == null)
+			return new ArrayList<>(0);
+		
+		List<Spell.SpellVar> vars = new ArrayList<>(spellVarsArray.size());
+		for(JsonIterator it = spellVarsArray.iterator(); it.hasNext();)
+		{
+			JsonObject varObject = it.nextObject();
+			String key = varObject.getString("key");
+			String link = varObject.getString("link");
+			boolean dynamic = "+".equals(varObject.getString("dyn"));
+			
+			Spell.SpellVar var;
+			/*if(dynamic)
+				var = spell.new DynamicSpellVar(key, link, convertFloatArray(varObject.getArray("coeff")));
+			else
+				var = spell.new StaticSpellVar(key, link, varObject.getFloat("coeff"));*/
+			Object coeff = varObject.get("coeff");
+			if(coeff instanceof JsonArray)
+				coeff = ApiUtil.convertArray((JsonArray)coeff);
+			var = spell.new SpellVar(key, link, coeff, dynamic);
+			vars.add(var);
+		}
+		return vars;
+	}
+	
+	private Image convertImage(JsonObject imageObject)
+	{
+		Image image = new Image(
+				imageObject.getString("full"),
+				imageObject.getString("group"),
+				imageObject.getString("sprite"),
+				imageObject.getInt("x"), imageObject.getInt("y"),
+				imageObject.getInt("w"), imageObject.getInt("h"));
+		return image;
+	}
+}
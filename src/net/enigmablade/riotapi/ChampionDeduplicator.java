@@ -0,0 +1,166 @@
+package net.enigmablade.riotapi;
+
+import java.util.*;
+import net.enigmablade.riotapi.exceptions.*;
+import net.enigmablade.riotapi.types.*;
+import net.enigmablade.riotapi.types.staticdata.*;
+
+/**
+ * <p>Shares the locale-independent data of the same champions loaded in different locales, so it's stored once instead of once per locale.</p>
+ * <p>Champions are copied, never changed, so instances that are already in use (or in a static data snapshot) can be given to it.
+ * The copy of the first instance of each champion is its core. Copies of later instances of the champion (in other locales) reuse the core's stats, image,
+ * recommended items, and passive image, and any equal strings and number lists (keys, tags, skin IDs, spell costs, cooldowns, ranges, effects, coefficients, etc.)
+ * are replaced by one shared, unmodifiable instance. Only translated text is left per locale.</p>
+ * <p>Champions must have all static data loaded. Not thread-safe.</p>
+ * 
+ * @author Enigma
+ */
+public class ChampionDeduplicator
+{
+	private RiotApi api;
+	private Map<Object, Object> canonical;
+	private Map<Long, Champion> cores;
+	
+	/**
+	 * Creates a new deduplicator without any shared data.
+	 * @param api The API instance the copied champions use.
+	 */
+	public ChampionDeduplicator(RiotApi api)
+	{
+		this.api = api;
+		canonical = new HashMap<>();
+		cores = new HashMap<>();
+	}
+	
+	//Functionality
+	
+	/**
+	 * Copies a champion, with its locale-independent data replaced by the data shared by all instances of the champion.
+	 * @param original The champion, with all static data loaded. It isn't changed.
+	 * @return The copy of the champion.
+	 * @throws RiotApiException If the champion didn't have all static data loaded and loading it failed.
+	 */
+	public Champion deduplicate(Champion original) throws RiotApiException
+	{
+		//Copies the fields as they are, the original's accessors would try to fill it from the registry
+		Champion champion = new Champion(api, original.getRegion(), original.getLocale(), original.getKnownName(), original.getKnownId(), null, null);
+		champion.fillStaticData(original);
+		
+		Champion core = cores.putIfAbsent(champion.getId(), champion);
+		if(core == null)
+			core = champion;
+		
+		//Structural data, the same in every locale
+		if(core != champion)
+		{
+			champion.setImage(core.getImage());
+			champion.setStats(core.getStats());
+			champion.setRecommendedItems(core.getRecommendedItems());
+		}
+		champion.setKey(intern(champion.getKey()));
+		champion.setTags(internStrings(champion.getTags()));
+		
+		List<Skin> skins = champion.getSkins();
+		if(skins != null)
+		{
+			List<Skin> shared = new ArrayList<>(skins.size());
+			for(Skin skin : skins)
+				shared.add(new Skin(intern(skin.getId()), skin.getName(), skin.getNum()));
+			champion.setSkins(shared);
+		}
+		
+		Passive passive = champion.getPassive();
+		if(passive != null && core != champion && core.getPassive() != null)
+			champion.setPassive(new Passive(passive.getName(), passive.getDescription(), core.getPassive().getImage()));
+		
+		List<Spell> spells = champion.getSpells();
+		if(spells != null)
+		{
+			List<Spell> shared = new ArrayList<>(spells.size());
+			for(Spell spell : spells)
+				shared.add(deduplicate(spell));
+			champion.setSpells(shared);
+		}
+		
+		return champion;
+	}
+	
+	/**
+	 * Returns the number of distinct shared values, not including shared champion data.
+	 * @return The number of shared values.
+	 */
+	public int size()
+	{
+		return canonical.size();
+	}
+	
+	//Helper methods
+	
+	private Spell deduplicate(Spell original)
+	{
+		Spell spell = new Spell(original.getName(), original.getId(), original.getDescription(), original.getImage());
+		
+		List<Spell.SpellVar> vars = null;
+		if(original.getVars() != null)
+		{
+			vars = new ArrayList<>(original.getVars().size());
+			for(Spell.SpellVar var : original.getVars())
+				vars.add(spell.new SpellVar(intern(var.key), intern(var.link), internValue(var.getCoeff()), var.isDynamic()));
+		}
+		
+		spell.initGeneral(original.getTooltip(), original.getLevelTipLabels(), internStrings(original.getLevelTipEffects()), original.getMaxRank(), vars);
+		spell.initResource(original.getResourceType(), original.getResourceUsage(), internInts(original.getCosts()), intern(original.getCost()));
+		spell.initInfo(internInts(original.getCooldowns()), intern(original.getCooldown()), internInts(original.getRanges()), intern(original.getRange()));
+		
+		List<List<Integer>> effects = null;
+		if(original.getEffects() != null)
+		{
+			effects = new ArrayList<>(original.getEffects().size());
+			for(List<Integer> effect : original.getEffects())
+				effects.add(internInts(effect));
+			effects = intern(Collections.unmodifiableList(effects));
+		}
+		spell.initEffects(effects, internStrings(original.getEffectBurns()));
+		return spell;
+	}
+	
+	private List<String> internStrings(List<String> strings)
+	{
+		if(strings == null)
+			return null;
+		
+		List<String> interned = new ArrayList<>(strings.size());
+		for(String s : strings)
+			interned.add(intern(s));
+		return intern(Collections.unmodifiableList(interned));
+	}
+	
+	private List<Integer> internInts(List<Integer> ints)
+	{
+		if(ints == null)
+			return null;
+		return intern(Collections.unmodifiableList(new ArrayList<>(ints)));
+	}
+	
+	private Object internValue(Object value)
+	{
+		if(value instanceof List)
+		{
+			List<Object> interned = new ArrayList<>();
+			for(Object element : (List<?>)value)
+				interned.add(internValue(element));
+			return intern(Collections.unmodifiableList(interned));
+		}
+		return intern(value);
+	}
+	
+	@SuppressWarnings("unchecked")
+	private <T> T intern(T value)
+	{
+		if(value == null)
+			return null;
+		
+		Object existing = canonical.putIfAbsent(value, value);
+		return existing != null ? (T)existing : value;
+	}
+}
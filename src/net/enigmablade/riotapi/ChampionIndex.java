@@ -0,0 +1,126 @@
+package net.enigmablade.riotapi;
+
+import java.util.*;
+import net.enigmablade.riotapi.types.*;
+
+/**
+ * <p>An immutable index of a list of champions by ID, key, and case-folded name, built once per list.</p>
+ * <p>Names are folded by lower-casing and dropping everything but letters and digits, so "Kha'Zix", "kha zix" and "KHAZIX" are the same name.
+ * Keys and names are only indexed for champions with static data, such as those of the champion registry.</p>
+ * 
+ * @author Enigma
+ */
+public class ChampionIndex
+{
+	private List<Champion> champions;
+	private Map<Long, Champion> byId;
+	private Map<String, Champion> byKey, byName;
+	private long timeCreated;
+	
+	/**
+	 * Creates a new index of champions.
+	 * @param champions The champions.
+	 */
+	public ChampionIndex(Collection<Champion> champions)
+	{
+		this.champions = Collections.unmodifiableList(new ArrayList<>(champions));
+		
+		int capacity = champions.size()*4/3+1;
+		byId = new HashMap<>(capacity);
+		byKey = new HashMap<>(capacity);
+		byName = new HashMap<>(capacity);
+		for(Champion champion : champions)
+		{
+			long id = champion.getKnownId();
+			if(id >= 0)
+				byId.put(id, champion);
+			if(champion.getKnownKey() != null)
+				byKey.put(foldName(champion.getKnownKey()), champion);
+			if(champion.getKnownName() != null)
+				byName.put(foldName(champion.getKnownName()), champion);
+		}
+		
+		timeCreated = System.currentTimeMillis();
+	}
+	
+	//Lookup methods
+	
+	/**
+	 * Returns the champion with the given ID.
+	 * @param id The champion ID.
+	 * @return The champion, or <code>null</code> if there is none.
+	 */
+	public Champion getChampion(long id)
+	{
+		return byId.get(id);
+	}
+	
+	/**
+	 * Returns the champion with the given key, ex. "MonkeyKing". Keys are matched like names.
+	 * @param key The champion key.
+	 * @return The champion, or <code>null</code> if there is none.
+	 */
+	public Champion getChampionByKey(String key)
+	{
+		return key != null ? byKey.get(foldName(key)) : null;
+	}
+	
+	/**
+	 * Returns the champion with the given name, ignoring case, whitespace, and punctuation.
+	 * @param name The champion name.
+	 * @return The champion, or <code>null</code> if there is none.
+	 */
+	public Champion getChampionByName(String name)
+	{
+		return name != null ? byName.get(foldName(name)) : null;
+	}
+	
+	//Accessor methods
+	
+	/**
+	 * Returns all indexed champions in their original order.
+	 * @return An unmodifiable list of champions.
+	 */
+	public List<Champion> getChampions()
+	{
+		return champions;
+	}
+	
+	/**
+	 * Returns all indexed champions by ID.
+	 * @return An unmodifiable map of champion IDs to champions.
+	 */
+	public Map<Long, Champion> getChampionsById()
+	{
+		return Collections.unmodifiableMap(byId);
+	}
+	
+	public int size()
+	{
+		return champions.size();
+	}
+	
+	public long getTimeCreated()
+	{
+		return timeCreated;
+	}
+	
+	//Helper methods
+	
+	/**
+	 * Folds a champion name or key for lookups: lower-cased, with only letters and digits.
+	 * @param name The name.
+	 * @return The folded name.
+	 */
+	public static String foldName(String name)
+	{
+		StringBuilder folded = new StringBuilder(name.length());
+		for(int n = 0; n < name.length(); n++)
+		{
+			char c = name.charAt(n);
+			if(Character.isLetterOrDigit(c))
+				folded.append(Character.toLowerCase(c));
+		}
+		return folded.toString();
+	}
+}
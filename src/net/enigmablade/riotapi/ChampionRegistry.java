@@ -0,0 +1,306 @@
+package net.enigmablade.riotapi;
+
+import java.util.*;
+import java.util.concurrent.*;
+import net.enigmablade.riotapi.constants.*;
+import net.enigmablade.riotapi.constants.Locale;
+import net.enigmablade.riotapi.constants.staticdata.*;
+import net.enigmablade.riotapi.exceptions.*;
+import net.enigmablade.riotapi.types.*;
+import net.enigmablade.riotapi.types.staticdata.*;
+
+/**
+ * <p>All static champion data, per region and locale, shared by every <code>Champion</code> of an API instance.</p>
+ * <p>The first champion needing static data in a region and locale loads all data of all champions at once (<code>champData=all</code>),
+ * which is then copied into any champion from memory. Champions never make another static data request after that.
+ * Concurrent loads of the same region and locale wait for the first one, and a failed load is tried again by the next caller.
+ * If a static data snapshot of the region and locale is set, champions are loaded from the snapshot instead.</p>
+ * <p>The locales of a region store the data they have in common only once: every load is deduplicated against the region's
+ * earlier loads with a {@link ChampionDeduplicator} before it's published, so champions are never changed after other threads can see them.
+ * Several locales can be loaded at once with {@link #loadLocales(Region, Collection)}.</p>
+ * 
+ * @author Enigma
+ */
+public class ChampionRegistry
+{
+	private RiotApi api;
+	private ConcurrentMap<Key, CompletableFuture<ChampionIndex>> champions;
+	private ConcurrentMap<Region, ChampionDeduplicator> deduplicators;
+	
+	/**
+	 * Creates a new empty champion registry.
+	 * @param api The API instance being used.
+	 */
+	public ChampionRegistry(RiotApi api)
+	{
+		this.api = api;
+		champions = new ConcurrentHashMap<>();
+		deduplicators = new ConcurrentHashMap<>();
+	}
+	
+	//Functionality
+	
+	/**
+	 * Returns all champions of a region and locale with all static data, loading them if they aren't loaded yet.
+	 * @param region The region.
+	 * @param locale The language locale.
+	 * @return An unmodifiable map of champion IDs to champions.
+	 * @throws RiotApiException If there was an exception or error from the server.
+	 */
+	public Map<Long, Champion> getChampions(Region region, Locale locale) throws RiotApiException
+	{
+		return getIndex(region, locale).getChampionsById();
+	}
+	
+	/**
+	 * Returns the index of all champions of a region and locale with all static data, loading them if they aren't loaded yet.
+	 * @param region The region.
+	 * @param locale The language locale.
+	 * @return The index of champions by ID, key, and name.
+	 * @throws RiotApiException If there was an exception or error from the server.
+	 */
+	public ChampionIndex getIndex(Region region, Locale locale) throws RiotApiException
+	{
+		Key key = new Key(region, locale);
+		CompletableFuture<ChampionIndex> future = champions.get(key);
+		if(future == null)
+		{
+			CompletableFuture<ChampionIndex> created = new CompletableFuture<>();
+			future = champions.putIfAbsent(key, created);
+			if(future == null)
+				return load(key, created);
+		}
+		
+		try
+		{
+			return future.get();
+		}
+		catch(InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new RiotApiException("Interrupted while waiting for champions", e);
+		}
+		catch(ExecutionException e)
+		{
+			if(e.getCause() instanceof RiotApiException)
+				throw (RiotApiException)e.getCause();
+			throw new RiotApiException("Failed to load champions", e.getCause());
+		}
+	}
+	
+	/**
+	 * Returns the champion with the given ID with all static data, loading all champions of the region and locale if they aren't loaded yet.
+	 * @param region The region.
+	 * @param locale The language locale.
+	 * @param championId The champion ID.
+	 * @return The champion, or <code>null</code> if there is none.
+	 * @throws RiotApiException If there was an exception or error from the server.
+	 */
+	public Champion getChampion(Region region, Locale locale, long championId) throws RiotApiException
+	{
+		return getIndex(region, locale).getChampion(championId);
+	}
+	
+	/**
+	 * <p>Loads the champions of several locales concurrently. Like any load, their locale-independent data
+	 * (stats, images, IDs, spell costs, cooldowns, effects, etc.) is shared with the region's other locales,
+	 * so each locale only keeps its own translated text.</p>
+	 * <p>Locales already loaded aren't requested again.</p>
+	 * @param region The region.
+	 * @param locales The language locales.
+	 * @return The index of each locale's champions, in the order of the given locales.
+	 * @throws RiotApiException If there was an exception or error from the server.
+	 */
+	public Map<Locale, ChampionIndex> loadLocales(Region region, Collection<Locale> locales) throws RiotApiException
+	{
+		//Load all locales at once
+		ExecutorService executor = api.getExecutor();
+		Map<Locale, FutureTask<ChampionIndex>> futures = new LinkedHashMap<>();
+		for(Locale locale : locales)
+		{
+			FutureTask<ChampionIndex> future = new FutureTask<>(() -> getIndex(region, locale));
+			futures.put(locale, future);
+			executor.execute(future);
+		}
+		
+		Map<Locale, ChampionIndex> indexes = new LinkedHashMap<>();
+		try
+		{
+			//Locales no worker started yet are loaded on this thread, which may be a worker itself
+			for(Map.Entry<Locale, FutureTask<ChampionIndex>> entry : futures.entrySet())
+			{
+				entry.getValue().run();
+				indexes.put(entry.getKey(), entry.getValue().get());
+			}
+		}
+		catch(InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new RiotApiException("Interrupted while waiting for champions", e);
+		}
+		catch(ExecutionException e)
+		{
+			if(e.getCause() instanceof RiotApiException)
+				throw (RiotApiException)e.getCause();
+			throw new RiotApiException("Failed to load champions", e.getCause());
+		}
+		finally
+		{
+			for(FutureTask<ChampionIndex> future : futures.values())
+				future.cancel(false);
+		}
+		
+		return indexes;
+	}
+	
+	/**
+	 * <p>Loads the champions of several locales (see {@link #loadLocales(Region, Collection)}) and renders the tooltips of every spell
+	 * at every rank in parallel, one task per champion and locale, so later calls to {@link Spell#getTooltip(int)} only look them up.</p>
+	 * @param region The region.
+	 * @param locales The language locales.
+	 * @return The number of tooltips rendered.
+	 * @throws RiotApiException If there was an exception or error from the server.
+	 */
+	public int prerenderTooltips(Region region, Collection<Locale> locales) throws RiotApiException
+	{
+		Map<Locale, ChampionIndex> indexes = loadLocales(region, locales);
+		
+		ExecutorService executor = api.getExecutor();
+		List<FutureTask<Integer>> futures = new ArrayList<>();
+		for(ChampionIndex index : indexes.values())
+			for(Champion champion : index.getChampions())
+			{
+				FutureTask<Integer> future = new FutureTask<>(() -> {
+					int rendered = 0;
+					for(Spell spell : champion.getSpells())
+						rendered += spell.getTooltips().size();
+					return rendered;
+				});
+				futures.add(future);
+				executor.execute(future);
+			}
+		
+		int rendered = 0;
+		try
+		{
+			//Champions no worker started yet are rendered on this thread, which may be a worker itself
+			for(FutureTask<Integer> future : futures)
+			{
+				future.run();
+				rendered += future.get();
+			}
+		}
+		catch(InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new RiotApiException("Interrupted while rendering tooltips", e);
+		}
+		catch(ExecutionException e)
+		{
+			if(e.getCause() instanceof RiotApiException)
+				throw (RiotApiException)e.getCause();
+			throw new RiotApiException("Failed to render tooltips", e.getCause());
+		}
+		finally
+		{
+			for(FutureTask<Integer> future : futures)
+				future.cancel(false);
+		}
+		return rendered;
+	}
+	
+	/**
+	 * Fills all static data of a champion from the registry.
+	 * @param champion The champion.
+	 * @return <code>true</code> if the champion was filled, or <code>false</code> if it isn't in the registry.
+	 * @throws RiotApiException If there was an exception or error from the server.
+	 */
+	public boolean fill(Champion champion) throws RiotApiException
+	{
+		Champion loaded = getChampion(champion.getRegion(), champion.getLocale(), champion.getId());
+		if(loaded == null)
+			return false;
+		
+		if(loaded != champion)
+			champion.fillStaticData(loaded);
+		return true;
+	}
+	
+	/**
+	 * Returns whether or not the champions of a region and locale are loaded.
+	 * @param region The region.
+	 * @param locale The language locale.
+	 * @return <code>true</code> if loaded, otherwise <code>false</code>.
+	 */
+	public boolean isLoaded(Region region, Locale locale)
+	{
+		CompletableFuture<ChampionIndex> future = champions.get(new Key(region, locale));
+		return future != null && future.isDone() && !future.isCompletedExceptionally();
+	}
+	
+	/**
+	 * Removes all loaded champions and their shared data, such as after a new patch. Champions already filled keep their data.
+	 */
+	public void clear()
+	{
+		champions.clear();
+		deduplicators.clear();
+	}
+	
+	//Helper methods
+	
+	private ChampionIndex load(Key key, CompletableFuture<ChampionIndex> future) throws RiotApiException
+	{
+		try
+		{
+			Map<String, Champion> loaded = api.getStaticDataApiMethod().getChampions(key.region, key.locale, ChampionDataType.ALL);
+			
+			//Share the common data with the region's other locales, copying the champions since snapshot champions are shared
+			ChampionDeduplicator deduplicator = deduplicators.computeIfAbsent(key.region, region -> new ChampionDeduplicator(api));
+			List<Champion> shared = new ArrayList<>(loaded.size());
+			synchronized(deduplicator)
+			{
+				for(Champion champion : loaded.values())
+					shared.add(deduplicator.deduplicate(champion));
+			}
+			
+			ChampionIndex index = new ChampionIndex(shared);
+			future.complete(index);
+			return index;
+		}
+		catch(RiotApiException | RuntimeException e)
+		{
+			//Let the next caller try again
+			champions.remove(key, future);
+			future.completeExceptionally(e);
+			throw e;
+		}
+	}
+	
+	private static class Key
+	{
+		private Region region;
+		private Locale locale;
+		
+		public Key(Region region, Locale locale)
+		{
+			this.region = region;
+			this.locale = locale;
+		}
+		
+		@Override
+		public boolean equals(Object o)
+		{
+			if(!(o instanceof Key))
+				return false;
+			Key k = (Key)o;
+			return region == k.region && locale == k.locale;
+		}
+		
+		@Override
+		public int hashCode()
+		{
+			return Objects.hash(region, locale);
+		}
+	}
+}
@@ -0,0 +1,179 @@
+package net.enigmablade.riotapi;
+
+import java.util.*;
+import net.enigmablade.riotapi.constants.*;
+
+/**
+ * <p>A cache of individual entities (summoners, rune pages, leagues, etc.) keyed by region, entity type, and ID or name.</p>
+ * <p>Unlike the request cache, which is keyed by the full request, every entity in a batch response is cached separately.
+ * This lets batch responses serve later single lookups and lets later batches only request the entities that are missing.
+ * Entities are replaced using LRU and expire after the same age limit as requests.</p>
+ * 
+ * @author Enigma
+ */
+public class EntityCache
+{
+	/**
+	 * The types of cached entities. The type of the ID used as key is noted for each.
+	 * 
+	 * @author Enigma
+	 */
+	public static enum Type
+	{
+		SUMMONER,			//Summoner ID
+		SUMMONER_BY_NAME,	//Standardized summoner name
+		SUMMONER_NAME,		//Summoner ID
+		RUNE_PAGES,			//Summoner ID
+		MASTERY_PAGES,		//Summoner ID
+		LEAGUES,			//Summoner or team ID
+		LEAGUE_ENTRIES,		//Summoner or team ID
+		TEAM				//Team ID
+	}
+	
+	public static final int DEFAULT_CAPACITY = 10000;
+	private static final int AGE_LIMIT = 600000;	//10 minutes
+	
+	private LinkedHashMap<Key, CachedEntity> entities;
+	private int capacity;
+	
+	/**
+	 * Creates a new entity cache with a capacity of {@value #DEFAULT_CAPACITY} entities.
+	 */
+	public EntityCache()
+	{
+		this(DEFAULT_CAPACITY);
+	}
+	
+	/**
+	 * Creates a new entity cache with the given capacity.
+	 * @param capacity The maximum number of cached entities.
+	 */
+	public EntityCache(int capacity)
+	{
+		this.capacity = capacity;
+		entities = new LinkedHashMap<Key, CachedEntity>(16, 0.75f, true)
+		{
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, CachedEntity> eldest)
+			{
+				return size() > EntityCache.this.capacity;
+			}
+		};
+	}
+	
+	//Functionality
+	
+	/**
+	 * Returns the cached entity, or <code>null</code> if it's not cached or too old.
+	 * @param region The region of the entity.
+	 * @param type The type of the entity.
+	 * @param id The ID or name of the entity.
+	 * @return The entity, or <code>null</code> if not cached.
+	 */
+	@SuppressWarnings("unchecked")
+	public synchronized <V> V get(Region region, Type type, Object id)
+	{
+		Key key = new Key(region, type, id);
+		CachedEntity entity = entities.get(key);
+		if(entity == null)
+			return null;
+		
+		if(System.currentTimeMillis()-entity.added >= AGE_LIMIT)
+		{
+			entities.remove(key);
+			return null;
+		}
+		return (V)entity.value;
+	}
+	
+	/**
+	 * Adds an entity to the cache, replacing any entity already cached with the same key.
+	 * @param region The region of the entity.
+	 * @param type The type of the entity.
+	 * @param id The ID or name of the entity.
+	 * @param value The entity.
+	 */
+	public synchronized void put(Region region, Type type, Object id, Object value)
+	{
+		if(value != null)
+			entities.put(new Key(region, type, id), new CachedEntity(value));
+	}
+	
+	/**
+	 * Removes all cached entities.
+	 */
+	public synchronized void clear()
+	{
+		entities.clear();
+	}
+	
+	//Accessor methods
+	
+	public synchronized int size()
+	{
+		return entities.size();
+	}
+	
+	public synchronized int getCapacity()
+	{
+		return capacity;
+	}
+	
+	public synchronized void setCapacity(int capacity)
+	{
+		this.capacity = capacity;
+		
+		Iterator<Key> it = entities.keySet().iterator();
+		while(entities.size() > capacity && it.hasNext())
+		{
+			it.next();
+			it.remove();
+		}
+	}
+	
+	//Cache structures
+	
+	private static class Key
+	{
+		private Region region;
+		private Type type;
+		private Object id;
+		private int hash;
+		
+		public Key(Region region, Type type, Object id)
+		{
+			this.region = region;
+			this.type = type;
+			this.id = id;
+			
+			hash = (31*region.hashCode()+type.hashCode())*31+id.hashCode();
+		}
+		
+		@Override
+		public boolean equals(Object o)
+		{
+			if(!(o instanceof Key))
+				return false;
+			Key k = (Key)o;
+			return region == k.region && type == k.type && id.equals(k.id);
+		}
+		
+		@Override
+		public int hashCode()
+		{
+			return hash;
+		}
+	}
+	
+	private static class CachedEntity
+	{
+		private Object value;
+		private long added;
+		
+		public CachedEntity(Object value)
+		{
+			this.value = value;
+			added = System.currentTimeMillis();
+		}
+	}
+}
@@ -0,0 +1,265 @@
+package net.enigmablade.riotapi;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import net.enigmablade.riotapi.constants.*;
+import net.enigmablade.riotapi.exceptions.*;
+import net.enigmablade.riotapi.types.lolstatus.*;
+import net.enigmablade.riotapi.watchers.*;
+
+/**
+ * <p>Stops requests to regions whose shard is down, so they don't wait for errors while requests to healthy regions keep going.</p>
+ * <p>A region is down while any of the watched services of its shard (by default the game) has a down status (by default offline or deploying).
+ * Requests to a region that's down either fail immediately with a {@link RegionUnavailableException}, or are parked for up to the park timeout
+ * and sent as soon as the region recovers. Requests with a cached response, status requests, and other global requests are never stopped.</p>
+ * <p>The gate is kept up to date by adding it as a listener to a {@link ShardStatusWatcher}, or by calling {@link #update(Region, Shard)}.
+ * While requests are parked, the gate also polls the status of their region on its own thread until it recovers,
+ * so parked requests are released even when they fill the API's executor that the watcher polls on.</p>
+ * 
+ * <p><b>Example</b>:<br/>
+ * <code>ShardStatusWatcher watcher = new ShardStatusWatcher(api);<br/>
+ * watcher.addListener(api.getOutageGate());<br/>
+ * watcher.watchAll(1, TimeUnit.MINUTES);</code></p>
+ * 
+ * @author Enigma
+ */
+public class RegionOutageGate implements ShardStatusListener
+{
+	private static final long RECOVERY_PERIOD = 30000;		//30 seconds
+	
+	private RiotApi api;
+	private ConcurrentMap<Region, Outage> outages;
+	private volatile Set<String> services, downStatuses;
+	private volatile long parkTimeout;		//Milliseconds, 0 to fail immediately
+	
+	private ScheduledExecutorService recoveryPoller;		//Created when first needed
+	
+	/**
+	 * Creates a new gate with every region up, watching the game service and failing immediately.
+	 * @param api The API instance being used.
+	 */
+	public RegionOutageGate(RiotApi api)
+	{
+		this.api = api;
+		outages = new ConcurrentHashMap<>();
+		setServices("game");
+		setDownStatuses("offline", "deploying");
+		parkTimeout = 0;
+	}
+	
+	//Functionality
+	
+	/**
+	 * Checks if requests can be sent to a region. If the region is down, waits up to the park timeout for it to recover.
+	 * @param region The game region (NA, EUW, EUNE, etc.)
+	 * @throws RegionUnavailableException If the region is down and didn't recover in time.
+	 */
+	public void check(Region region) throws RegionUnavailableException
+	{
+		Outage outage = outages.get(region);
+		if(outage == null)
+			return;
+		
+		long timeout = parkTimeout;
+		if(timeout > 0)
+		{
+			pollRecovery(region, outage);
+			try
+			{
+				outage.recovered.get(timeout, TimeUnit.MILLISECONDS);
+				return;
+			}
+			catch(InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+			}
+			catch(ExecutionException | TimeoutException e)
+			{
+			}
+		}
+		throw new RegionUnavailableException(region, outage.reason);
+	}
+	
+	/**
+	 * Marks a region down or up from the status of its shard.
+	 * @param region The game region (NA, EUW, EUNE, etc.)
+	 * @param shard The status of the region's shard, with its services.
+	 * @throws RiotApiException If there was an exception or error from the server.
+	 */
+	public void update(Region region, Shard shard) throws RiotApiException
+	{
+		Set<String> services = this.services;
+		Set<String> downStatuses = this.downStatuses;
+		
+		for(Service service : shard.getServices())
+		{
+			String status = service.getStatus();
+			if(service.getSlug() != null && services.contains(service.getSlug().toLowerCase(java.util.Locale.ROOT)) && status != null && downStatuses.contains(status.toLowerCase(java.util.Locale.ROOT)))
+			{
+				markDown(region, service.getName()+" is "+status);
+				return;
+			}
+		}
+		markUp(region);
+	}
+	
+	/**
+	 * Marks a region down. Does nothing if it's already down.
+	 * @param region The game region (NA, EUW, EUNE, etc.)
+	 * @param reason The reason, included in the exceptions of stopped requests.
+	 */
+	public void markDown(Region region, String reason)
+	{
+		outages.putIfAbsent(region, new Outage(reason));
+	}
+	
+	/**
+	 * Marks a region up, releasing any requests parked for it.
+	 * @param region The game region (NA, EUW, EUNE, etc.)
+	 */
+	public void markUp(Region region)
+	{
+		Outage outage = outages.remove(region);
+		if(outage != null)
+		{
+			outage.recovered.complete(null);
+			ScheduledFuture<?> recoveryPoll = outage.recoveryPoll;
+			if(recoveryPoll != null)
+				recoveryPoll.cancel(false);
+		}
+	}
+	
+	public boolean isDown(Region region)
+	{
+		return outages.containsKey(region);
+	}
+	
+	/**
+	 * Returns the regions that are currently down.
+	 * @return The regions.
+	 */
+	public Set<Region> getDownRegions()
+	{
+		return Collections.unmodifiableSet(new HashSet<>(outages.keySet()));
+	}
+	
+	//Listener methods
+	
+	@Override
+	public void statusChanged(ShardStatusDiff diff)
+	{
+		try
+		{
+			update(diff.getRegion(), diff.getCurrent());
+		}
+		catch(RiotApiException e)
+		{
+			//Services are always loaded on polled shards
+			e.printStackTrace();
+		}
+	}
+	
+	//Accessor and modifier methods
+	
+	/**
+	 * Sets the slugs of the services that take a region down, such as "game".
+	 * @param services The service slugs.
+	 */
+	public void setServices(String... services)
+	{
+		this.services = toLowerCase(services);
+	}
+	
+	/**
+	 * Sets the service statuses that take a region down, such as "offline". Degraded services ("alert") are up by default.
+	 * @param statuses The statuses.
+	 */
+	public void setDownStatuses(String... statuses)
+	{
+		this.downStatuses = toLowerCase(statuses);
+	}
+	
+	/**
+	 * Sets how long requests to a region that's down wait for it to recover before failing.
+	 * Parked requests hold their thread while waiting, and are released by the gate's own status polls.
+	 * @param timeout The timeout, or 0 to fail immediately.
+	 * @param unit The unit of the timeout.
+	 */
+	public void setParkTimeout(long timeout, TimeUnit unit)
+	{
+		if(timeout < 0)
+			throw new IllegalArgumentException("Park timeout must be greater than or equal to 0.");
+		parkTimeout = unit.toMillis(timeout);
+	}
+	
+	public long getParkTimeout(TimeUnit unit)
+	{
+		return unit.convert(parkTimeout, TimeUnit.MILLISECONDS);
+	}
+	
+	//Helper methods
+	
+	/**
+	 * Polls the status of a region on the gate's own thread until it recovers, if not already polling it.
+	 * @param region The game region.
+	 * @param outage The outage of the region.
+	 */
+	private void pollRecovery(Region region, Outage outage)
+	{
+		if(!outage.polling.compareAndSet(false, true))
+			return;
+		
+		ScheduledExecutorService poller;
+		synchronized(this)
+		{
+			if(recoveryPoller == null)
+				recoveryPoller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+					Thread thread = new Thread(runnable, "riot-api-outage-gate");
+					thread.setDaemon(true);
+					return thread;
+				});
+			poller = recoveryPoller;
+		}
+		
+		outage.recoveryPoll = poller.scheduleWithFixedDelay(() -> {
+			if(outage.recovered.isDone())
+				return;
+			try
+			{
+				//Uncached and not rate limited, so it's never parked itself
+				update(region, api.getLolStatusApiMethod().convertShard(api.getLolStatusApiMethod().getShardJson(region)));
+			}
+			catch(RiotApiException | RuntimeException e)
+			{
+				//Try again on the next poll
+			}
+		}, RECOVERY_PERIOD, RECOVERY_PERIOD, TimeUnit.MILLISECONDS);
+		if(outage.recovered.isDone())
+			outage.recoveryPoll.cancel(false);
+	}
+	
+	private static Set<String> toLowerCase(String[] values)
+	{
+		Set<String> set = new HashSet<>(values.length);
+		for(String value : values)
+			set.add(value.toLowerCase(java.util.Locale.ROOT));
+		return Collections.unmodifiableSet(set);
+	}
+	
+	//Helper classes
+	
+	private static class Outage
+	{
+		private String reason;
+		private CompletableFuture<Void> recovered;
+		private AtomicBoolean polling = new AtomicBoolean();
+		private volatile ScheduledFuture<?> recoveryPoll;
+		
+		public Outage(String reason)
+		{
+			this.reason = reason;
+			recovered = new CompletableFuture<>();
+		}
+	}
+}
@@ -0,0 +1,156 @@
+package net.enigmablade.riotapi;
+
+import java.util.*;
+import net.enigmablade.riotapi.constants.*;
+
+/**
+ * <p>Identifies a logical API request independently of the API key and the order arguments were given in.</p>
+ * <p>Two requests for the same method, version, region, and operation with the same path and query arguments have equal keys,
+ * so they share cached responses, in-flight requests, and backdoor files even if the API key changes in between.
+ * The hash is computed once when the key is created.</p>
+ * 
+ * @author Enigma
+ */
+public final class RequestKey
+{
+	private static final String[] NO_ARGS = new String[0];
+	
+	private final String header;
+	private final String method;
+	private final String version;
+	private final Region region;
+	private final String operation;
+	private final String[] pathArgs;		//Key-value pairs sorted by key
+	private final String[] queryArgs;		//Key-value pairs sorted by key
+	private final int hash;
+	
+	private String string;
+	
+	/**
+	 * Creates a new request key. Credentials such as the API key must not be included in the arguments.
+	 * @param header The header of the method, ex. "api/lol".
+	 * @param method The name of the method, ex. "summoner". May be <code>null</code>.
+	 * @param version The version of the method. May be <code>null</code>.
+	 * @param region The region. May be <code>null</code>.
+	 * @param operation The operation pattern, ex. "{summonerIds}/name". May be <code>null</code>.
+	 * @param pathArgs The path arguments. May be <code>null</code>.
+	 * @param queryArgs The query arguments. May be <code>null</code>.
+	 */
+	public RequestKey(String header, String method, String version, Region region, String operation, Map<String, String> pathArgs, Map<String, String> queryArgs)
+	{
+		this.header = header;
+		this.method = method;
+		this.version = version;
+		this.region = region;
+		this.operation = operation;
+		this.pathArgs = toSortedPairs(pathArgs);
+		this.queryArgs = toSortedPairs(queryArgs);
+		
+		int h = Objects.hash(header, method, version, region, operation);
+		h = 31*h+Arrays.hashCode(this.pathArgs);
+		h = 31*h+Arrays.hashCode(this.queryArgs);
+		hash = h;
+	}
+	
+	private static String[] toSortedPairs(Map<String, String> args)
+	{
+		if(args == null || args.isEmpty())
+			return NO_ARGS;
+		
+		String[] keys = args.keySet().toArray(new String[args.size()]);
+		if(keys.length > 1)
+			Arrays.sort(keys);
+		
+		String[] pairs = new String[keys.length*2];
+		for(int n = 0; n < keys.length; n++)
+		{
+			pairs[n*2] = keys[n];
+			pairs[n*2+1] = args.get(keys[n]);
+		}
+		return pairs;
+	}
+	
+	//Object methods
+	
+	@Override
+	public boolean equals(Object o)
+	{
+		if(this == o)
+			return true;
+		if(!(o instanceof RequestKey))
+			return false;
+		
+		RequestKey k = (RequestKey)o;
+		return hash == k.hash && region == k.region
+				&& Objects.equals(header, k.header) && Objects.equals(method, k.method)
+				&& Objects.equals(version, k.version) && Objects.equals(operation, k.operation)
+				&& Arrays.equals(pathArgs, k.pathArgs) && Arrays.equals(queryArgs, k.queryArgs);
+	}
+	
+	@Override
+	public int hashCode()
+	{
+		return hash;
+	}
+	
+	/**
+	 * Returns the canonical form of the key, ex. "<code>api/lol/na/v1.4/summoner/{summonerIds}/name?summonerIds=1,2</code>".
+	 * Path arguments are listed with the query arguments so the operation pattern is kept intact.
+	 * @return The canonical form.
+	 */
+	@Override
+	public String toString()
+	{
+		if(string == null)
+		{
+			StringBuilder s = new StringBuilder(header);
+			if(region != null)
+				s.append('/').append(region.getValue());
+			if(version != null)
+				s.append("/v").append(version);
+			if(method != null)
+				s.append('/').append(method);
+			if(operation != null)
+				s.append('/').append(operation);
+			
+			char separator = '?';
+			for(String[] args : new String[][]{pathArgs, queryArgs})
+			{
+				for(int n = 0; n < args.length; n += 2)
+				{
+					s.append(separator).append(args[n]).append('=').append(args[n+1]);
+					separator = '&';
+				}
+			}
+			string = s.toString();
+		}
+		return string;
+	}
+	
+	//Accessor methods
+	
+	public String getHeader()
+	{
+		return header;
+	}
+	
+	public String getMethod()
+	{
+		return method;
+	}
+	
+	public String getVersion()
+	{
+		return version;
+	}
+	
+	public Region getRegion()
+	{
+		return region;
+	}
+	
+	public String getOperation()
+	{
+		return operation;
+	}
+}
@@ -34,10 +34,10 @@ public class Requester
 	private String protocol, method, encoding;
 	private Map<String, String> headers;
 	
-	private File backdoorDir = null;
+	private volatile File backdoorDir = null;
 	
 	//Rate limiting
-	private boolean limiterEnabled = true;
+	private volatile boolean limiterEnabled = true;
 	
 	private int limitShort, limitLong;
 	private long limitShortInterval, limitLongInterval;
@@ -47,9 +47,12 @@ public class Requester
 	//Caching
 	private boolean cacheEnabled = true;
 	
-	private BufferPool<String, Response> cache;
+	private BufferPool<Object, Response> cache;		//Keyed by RequestKey, or by URL for raw requests
 	private static final int CACHE_AGE_LIMIT = 600000;	//10 minutes
 	
+	//Requests currently being sent, so identical concurrent requests only send once
+	private ConcurrentMap<Object, CompletableFuture<Response>> inFlight = new ConcurrentHashMap<>();
+	
 	/**
 	 * Create a new HTTPS Requester with the given user agent and rate limits.
 	 * @param userAgent The user agent for HTTP requests.
@@ -165,7 +168,7 @@ public class Requester
 	 * @return The response from the request.
 	 * @throws IOException If there was an error when sending the request.
 	 */
-	public synchronized Response request(String requestUrl)
+	public Response request(String requestUrl)
 	{
 		return request(requestUrl, null);
 	}
@@ -177,22 +180,77 @@ public class Requester
 	 * @return The response from the request.
 	 * @throws IOException If there was an error when sending the request.
 	 */
-	public synchronized Response request(String requestUrl, String requestBody)
+	public Response request(String requestUrl, String requestBody)
 	{
-		return requestHelper(requestUrl, requestBody);
+		return request(requestUrl, requestBody, true);
 	}
 	
 	/**
-	 * Checks if a request response is already in the cache, otherwise sends a new request.
+	 * <p>Sends a request to the server at the given URL with an optional request body and returns the response.</p>
+	 * <p>Requests may be sent from multiple threads at once. Only reserving a slot in the rate limit is serialized,
+	 * the requests themselves are sent concurrently.</p>
+	 * @param requestUrl The request URL.
+	 * @param requestBody The optional request body.
+	 * @param limited Whether or not the request counts towards the rate limit.
+	 * @return The response from the request.
+	 */
+	public Response request(String requestUrl, String requestBody, boolean limited)
+	{
+		return requestHelper(null, requestUrl, requestBody, limited, false);
+	}
+	
+	/**
+	 * <p>Sends a request to the server at the given URL with an optional request body and returns the response.</p>
+	 * <p>The response is cached by the request key instead of the URL, so it's independent of the API key and argument order.
+	 * If an identical request is already being sent by another thread, its response is shared instead of sending another.</p>
+	 * @param key The key identifying the request.
+	 * @param requestUrl The request URL.
+	 * @param requestBody The optional request body.
+	 * @param limited Whether or not the request counts towards the rate limit.
+	 * @return The response from the request.
+	 */
+	public Response request(RequestKey key, String requestUrl, String requestBody, boolean limited)
+	{
+		return requestHelper(key, requestUrl, requestBody, limited, false);
+	}
+	
+	/**
+	 * <p>Sends a request like {@link #request(RequestKey, String, String, boolean)}, but doesn't parse the response.</p>
+	 * <p>The value of the response is the unparsed JSON text, to be bound directly to objects with a {@link JsonReader}.
+	 * Raw responses are cached separately from parsed responses.</p>
+	 * @param key The key identifying the request.
+	 * @param requestUrl The request URL.
+	 * @param requestBody The optional request body.
+	 * @param limited Whether or not the request counts towards the rate limit.
+	 * @return The response from the request, with a <code>String</code> value.
+	 */
+	public Response requestRaw(RequestKey key, String requestUrl, String requestBody, boolean limited)
+	{
+		return requestHelper(key, requestUrl, requestBody, limited, true);
+	}
+	
+	/**
+	 * Checks if a request response is already in the cache or being requested, otherwise sends a new request.
+	 * @param key The requests's key, or <code>null</code> to use the URL
 	 * @param requestUrl The requests's URL
 	 * @param requestBody The requests's body
+	 * @param limited Whether or not the request counts towards the rate limit
+	 * @param raw Whether or not to leave the response unparsed
 	 * @return The response to the request (possibly from the cache)
 	 */
-	private Response requestHelper(String requestUrl, String requestBody)
+	private Response requestHelper(RequestKey key, String requestUrl, String requestBody, boolean limited, boolean raw)
 	{
-		Response response = backdoorRequest(requestUrl);
+		Object cacheKey = key != null ? key : requestUrl;
+		if(raw)
+			cacheKey = new RawKey(cacheKey);
+		
+		Response response = backdoorRequest(key, requestUrl);
 		if(response != null && response.getValue() != null)
 		{
+			//Raw requests take the replayed text as is
+			if(raw)
+				return response;
+			
 			try
 			{
 				response.value = JsonParser.parse((String)response.getValue());
@@ -210,21 +268,86 @@ public class Requester
 		//Check if it's in the cache
 		if(cacheEnabled)
 		{
-			response = cache.get(requestUrl);
+			synchronized(cache)
+			{
+				response = cache.get(cacheKey);
+			}
 			//Ignore if not in cache or too old
 			if(response != null && System.currentTimeMillis()-response.getTimeReceived() < CACHE_AGE_LIMIT)
 				return response;
 		}
 		
+		//Requests with a body can't be shared since the body isn't part of the key
+		if(requestBody != null)
+			return sendAndParse(cacheKey, requestUrl, requestBody, limited, raw);
+		
+		//Wait for the same request if it's already being sent
+		CompletableFuture<Response> future = new CompletableFuture<>();
+		CompletableFuture<Response> existing = inFlight.putIfAbsent(cacheKey, future);
+		if(existing != null)
+		{
+			try
+			{
+				return existing.get();
+			}
+			catch(InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+				return new Response(null, -1);
+			}
+			catch(ExecutionException e)
+			{
+				return new Response(null, -1);
+			}
+		}
+		
 		//Otherwise send the request
-		response = sendLimitedRequest(requestUrl, requestBody);
-		if(response.getValue() != null)
+		try
+		{
+			response = sendAndParse(cacheKey, requestUrl, requestBody, limited, raw);
+			future.complete(response);
+			return response;
+		}
+		catch(RuntimeException | Error e)
+		{
+			future.completeExceptionally(e);
+			throw e;
+		}
+		finally
+		{
+			inFlight.remove(cacheKey, future);
+		}
+	}
+	
+	/**
+	 * Sends a request, then parses (unless raw) and caches the response.
+	 * @param cacheKey The key used to cache the response
+	 * @param requestUrl The requests's URL
+	 * @param requestBody The requests's body
+	 * @param limited Whether or not the request counts towards the rate limit
+	 * @param raw Whether or not to leave the response unparsed
+	 * @return The response to the request
+	 */
+	private Response sendAndParse(Object cacheKey, String requestUrl, String requestBody, boolean limited, boolean raw)
+	{
+		Response response = limited ? sendLimitedRequest(requestUrl, requestBody) : sendRequest(requestUrl, requestBody);
+		if(response.getValue() != null && raw)
+		{
+			synchronized(cache)
+			{
+				cache.add(cacheKey, response);
+			}
+		}
+		else if(response.getValue() != null)
 		{
 			//Parse the request
 			try
 			{
 				response.value = JsonParser.parse((String)response.getValue());
-				cache.add(requestUrl, response);
+				synchronized(cache)
+				{
+					cache.add(cacheKey, response);
+				}
 			}
 			catch(JsonParseException e)
 			{
@@ -238,13 +361,21 @@ public class Requester
 		return response;
 	}
 	
-	private Response backdoorRequest(String requestUrl)
+	/**
+	 * Reads the response to a request from the backdoor directory, if set.
+	 * Files are named after the request key (or the URL without the protocol for raw requests) with '/' replaced by "__".
+	 * @param key The requests's key, or <code>null</code> to use the URL
+	 * @param requestUrl The requests's URL
+	 * @return The response, or <code>null</code> if there is no backdoor directory.
+	 */
+	private Response backdoorRequest(RequestKey key, String requestUrl)
 	{
+		File backdoorDir = this.backdoorDir;
 		if(backdoorDir == null)
 			return null;
 		
-		requestUrl = requestUrl.substring(requestUrl.indexOf("//")+2).replace("/", "__");
-		Path path = Paths.get(backdoorDir.getAbsolutePath(), requestUrl);
+		String fileName = key != null ? key.toString() : requestUrl.substring(requestUrl.indexOf("//")+2);
+		Path path = Paths.get(backdoorDir.getAbsolutePath(), fileName.replace("/", "__"));
 		
 		try
 		{
@@ -346,38 +477,40 @@ public class Requester
 	 */
 	private Response sendLimitedRequest(String requestUrl, String requestBody)
 	{
-		//Lock to prevent multiple requests from executing at once
+		//Wait (if required) for the request time limit
+		if(limiterEnabled)
+			acquireRequestSlot();
+		
+		//Send request, other requests can be sent at the same time
+		return sendRequest(requestUrl, requestBody);
+	}
+	
+	/**
+	 * Waits until a request can be sent without exceeding the rate limits, then reserves it.
+	 * Reserving is done under a lock so concurrent requests can't take the same slot.
+	 */
+	private void acquireRequestSlot()
+	{
+		//Lock to prevent multiple requests from reserving at once
 		rateLock.lock();
 		
 		try
 		{
-			//Wait (if required) for the request time limit
-			if(limiterEnabled)
+			try
 			{
-				try
-				{
-					if(requestQueueShort.size() == limitShort)
-						requestQueueShort.take();
-					if(requestQueueLong.size() == limitLong)
-						requestQueueLong.take();
-				}
-				catch(InterruptedException e)
-				{
-					// Dunno lol
-				}
+				while(requestQueueShort.size() >= limitShort)
+					requestQueueShort.take();
+				while(requestQueueLong.size() >= limitLong)
+					requestQueueLong.take();
 			}
-			
-			//Send request
-			Response response = sendRequest(requestUrl, requestBody);
-			
-			//Add a request locks
-			if(limiterEnabled)
+			catch(InterruptedException e)
 			{
-				requestQueueShort.add(new RequestLock(limitShortInterval));
-				requestQueueLong.add(new RequestLock(limitLongInterval));
+				Thread.currentThread().interrupt();
 			}
 			
-			return response;
+			//Add request locks
+			requestQueueShort.add(new RequestLock(limitShortInterval));
+			requestQueueLong.add(new RequestLock(limitLongInterval));
 		}
 		finally
 		{
@@ -648,12 +781,47 @@ public class Requester
 		return cacheEnabled;
 	}
 	
+	/**
+	 * Returns whether or not a response to a request is cached and recent enough to be served without sending it.
+	 * @param key The key identifying the request.
+	 * @param raw Whether or not the request is raw.
+	 * @return <code>true</code> if cached, otherwise <code>false</code>.
+	 */
+	public boolean isCached(RequestKey key, boolean raw)
+	{
+		if(!cacheEnabled)
+			return false;
+		
+		Response response;
+		synchronized(cache)
+		{
+			response = cache.get(raw ? new RawKey(key) : key);
+		}
+		return response != null && System.currentTimeMillis()-response.getTimeReceived() < CACHE_AGE_LIMIT;
+	}
+	
+	/**
+	 * Removes the cached responses of a request, both parsed and raw, so the next identical request is sent to the server.
+	 * @param key The key identifying the request.
+	 */
+	public void evictCache(RequestKey key)
+	{
+		synchronized(cache)
+		{
+			cache.remove(key);
+			cache.remove(new RawKey(key));
+		}
+	}
+	
 	/**
 	 * Clears the request cache.
 	 */
-	public synchronized void clearCache()
+	public void clearCache()
 	{
-		cache.clear();
+		synchronized(cache)
+		{
+			cache.clear();
+		}
 	}
 	
 	public synchronized void setBackdoorDir(File dir)
@@ -665,6 +833,33 @@ public class Requester
 			backdoorDir = dir;
 	}
 	
+	/**
+	 * Cache key of a raw response, so raw and parsed responses to the same request don't replace each other.
+	 * 
+	 * @author Enigma
+	 */
+	private static class RawKey
+	{
+		private Object key;
+		
+		public RawKey(Object key)
+		{
+			this.key = key;
+		}
+		
+		@Override
+		public boolean equals(Object o)
+		{
+			return o instanceof RawKey && key.equals(((RawKey)o).key);
+		}
+		
+		@Override
+		public int hashCode()
+		{
+			return ~key.hashCode();
+		}
+	}
+	
 	/**
 	 * Delayed Lock used for request limiting.
 	 * 
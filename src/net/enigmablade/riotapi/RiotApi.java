@@ -28,9 +28,16 @@ public class RiotApi
 	public static final int DEFAULT_SHORT_RATE_INTERVAL = 10;
 	public static final int DEFAULT_LONG_RATE_LIMIT = 500;
 	public static final int DEFAULT_LONG_RATE_INTERVAL = 10;
+	public static final int DEFAULT_WORKER_THREADS = 8;
 	
 	private String apiKey;
 	private Requester requester;
+	private EntityCache entityCache;
+	private ChampionRegistry championRegistry;
+	private RegionOutageGate outageGate;
+	private volatile SummonerIdentityMap summonerIdentityMap;
+	private ExecutorService executor;
+	private ScheduledExecutorService scheduler;
 	
 	private Locale defaultLocale;
 	private Region defaultRegion;
@@ -68,6 +75,9 @@ public class RiotApi
 		this.apiKey = apiKey;
 		
 		requester = new Requester(userAgent, limitPer10Seconds, DEFAULT_SHORT_RATE_INTERVAL, TimeUnit.SECONDS, limitPer10Minutes, DEFAULT_LONG_RATE_INTERVAL, TimeUnit.MINUTES);
+		entityCache = new EntityCache();
+		championRegistry = new ChampionRegistry(this);
+		outageGate = new RegionOutageGate(this);
 		
 		defaultLocale = null;
 	}
@@ -240,15 +250,75 @@ public class RiotApi
 	}
 	
 	/**
-	 * Clears the request cache.
+	 * Clears the request cache and the entity cache.
 	 */
 	public void clearApiCallCache()
 	{
 		requester.clearCache();
+		entityCache.clear();
+	}
+	
+	/**
+	 * Sets whether or not converters share one canonical <code>Summoner</code> instance per summoner.
+	 * Disabled by default. Disabling drops the current identity map.
+	 * @param enabled Whether or not summoner identity mapping is enabled.
+	 * @see SummonerIdentityMap
+	 */
+	public synchronized void setSummonerIdentityMapEnabled(boolean enabled)
+	{
+		if(!enabled)
+			summonerIdentityMap = null;
+		else if(summonerIdentityMap == null)
+			summonerIdentityMap = new SummonerIdentityMap();
+	}
+	
+	/**
+	 * Returns whether or not converters share one canonical <code>Summoner</code> instance per summoner.
+	 * @return <code>true</code> if summoner identity mapping is enabled, otherwise <code>false</code>.
+	 */
+	public boolean isSummonerIdentityMapEnabled()
+	{
+		return summonerIdentityMap != null;
 	}
 	
 	//Accessor methods
 	
+	/**
+	 * Returns the map of canonical summoner instances.
+	 * @return The current SummonerIdentityMap, or <code>null</code> if summoner identity mapping is disabled.
+	 */
+	public SummonerIdentityMap getSummonerIdentityMap()
+	{
+		return summonerIdentityMap;
+	}
+	
+	/**
+	 * Returns the cache of individual entities filled by batch requests.
+	 * @return The current EntityCache.
+	 */
+	public EntityCache getEntityCache()
+	{
+		return entityCache;
+	}
+	
+	/**
+	 * Returns the registry of static champion data shared by all champions.
+	 * @return The current ChampionRegistry.
+	 */
+	public ChampionRegistry getChampionRegistry()
+	{
+		return championRegistry;
+	}
+	
+	/**
+	 * Returns the gate that stops requests to regions whose shard is down.
+	 * @return The current RegionOutageGate.
+	 */
+	public RegionOutageGate getOutageGate()
+	{
+		return outageGate;
+	}
+	
 	/**
 	 * Returns the requester being used to send and limit API requests.
 	 * @return The current Requester.
@@ -258,6 +328,52 @@ public class RiotApi
 		return requester;
 	}
 	
+	/**
+	 * <p>Returns the executor used to send batches of bulk operations concurrently.</p>
+	 * <p>Defaults to a pool of {@value RiotApi#DEFAULT_WORKER_THREADS} daemon threads, created when first needed.</p>
+	 * @return The current executor.
+	 */
+	public synchronized ExecutorService getExecutor()
+	{
+		if(executor == null)
+		{
+			executor = Executors.newFixedThreadPool(DEFAULT_WORKER_THREADS, runnable -> {
+				Thread thread = new Thread(runnable, "riot-api-worker");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return executor;
+	}
+	
+	/**
+	 * <p>Returns the scheduler used for delayed and periodic tasks, such as sending micro-batched lookups.</p>
+	 * <p>Defaults to a single daemon thread, created when first needed. Scheduled tasks should be short and hand off any requests to the executor.</p>
+	 * @return The current scheduler.
+	 */
+	public synchronized ScheduledExecutorService getScheduler()
+	{
+		if(scheduler == null)
+		{
+			scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "riot-api-scheduler");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return scheduler;
+	}
+	
+	/**
+	 * Sets the executor used to send batches of bulk operations concurrently.
+	 * The previous executor is not shut down.
+	 * @param executor The new executor, or <code>null</code> to use the default.
+	 */
+	public synchronized void setExecutor(ExecutorService executor)
+	{
+		this.executor = executor;
+	}
+	
 	/**
 	 * Returns the API key being used for API requests.
 	 * @return The current API key.
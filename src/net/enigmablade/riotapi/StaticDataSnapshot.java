@@ -0,0 +1,817 @@
+package net.enigmablade.riotapi;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import net.enigmablade.riotapi.constants.*;
+import net.enigmablade.riotapi.constants.Locale;
+import net.enigmablade.riotapi.constants.staticdata.*;
+import net.enigmablade.riotapi.exceptions.*;
+import net.enigmablade.riotapi.types.*;
+import net.enigmablade.riotapi.types.staticdata.*;
+
+/**
+ * <p>All static data of one version, region, and locale: the version list, the region info, and every champion with all of its data.</p>
+ * <p>A snapshot is downloaded once and saved to a compact binary file, which later starts load by memory-mapping it
+ * instead of requesting and parsing the JSON again. Once set in {@link net.enigmablade.riotapi.methods.StaticDataMethod StaticDataMethod},
+ * static data requests are served from the snapshot until the snapshot of a new patch is swapped in.
+ * Snapshots are immutable, a new patch always gets a new snapshot.</p>
+ * <p>The file starts with a header and a table of every distinct string, followed by the data itself, which refers to strings by their index in the table.
+ * Numbers are stored as variable-length integers.</p>
+ * 
+ * @author Enigma
+ */
+public class StaticDataSnapshot
+{
+	private static final int MAGIC = 0x52534453;	//"RSDS"
+	private static final int FORMAT_VERSION = 1;
+	
+	private Region region;
+	private Locale locale;
+	private String version;
+	private List<String> versions;
+	private RegionInfo regionInfo;
+	private Map<String, Champion> champions;
+	private Map<Long, Champion> championsById;
+	
+	/**
+	 * Creates a new snapshot of the given data.
+	 * @param region The region of the data.
+	 * @param locale The locale of the data.
+	 * @param versions The list of versions, latest first.
+	 * @param regionInfo The region info.
+	 * @param champions The map of champion keys to champions, with all data loaded.
+	 */
+	public StaticDataSnapshot(Region region, Locale locale, List<String> versions, RegionInfo regionInfo, Map<String, Champion> champions)
+	{
+		this.region = region;
+		this.locale = locale;
+		this.version = versions.isEmpty() ? null : versions.get(0);
+		this.versions = Collections.unmodifiableList(versions);
+		this.regionInfo = regionInfo;
+		this.champions = Collections.unmodifiableMap(champions);
+		
+		championsById = new HashMap<>(champions.size());
+		try
+		{
+			for(Champion champion : champions.values())
+				championsById.put(champion.getId(), champion);
+		}
+		catch(RiotApiException e)
+		{
+			//Champions from static data always have an ID
+		}
+	}
+	
+	//Serialization methods
+	
+	/**
+	 * Loads a snapshot from a file written by {@link #write(Path)}. The file is memory-mapped while loading.
+	 * @param api The API instance being used.
+	 * @param file The snapshot file.
+	 * @return The snapshot.
+	 * @throws IOException If the file couldn't be read or isn't a valid snapshot.
+	 */
+	public static StaticDataSnapshot read(RiotApi api, Path file) throws IOException
+	{
+		try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ))
+		{
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			if(buffer.remaining() < 8 || buffer.getInt() != MAGIC)
+				throw new IOException("Not a static data snapshot: "+file);
+			int formatVersion = buffer.getInt();
+			if(formatVersion != FORMAT_VERSION)
+				throw new IOException("Unsupported snapshot format version: "+formatVersion);
+			
+			try
+			{
+				return new Input(api, buffer).readSnapshot();
+			}
+			catch(BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException e)
+			{
+				throw new IOException("Corrupt static data snapshot: "+file, e);
+			}
+		}
+	}
+	
+	/**
+	 * Writes the snapshot to a file, replacing it once the whole snapshot is written.
+	 * @param file The snapshot file.
+	 * @throws IOException If the file couldn't be written.
+	 */
+	public void write(Path file) throws IOException
+	{
+		Output output = new Output();
+		try
+		{
+			output.writeSnapshot(this);
+		}
+		catch(RiotApiException e)
+		{
+			throw new IOException("Champion data not loaded", e);
+		}
+		
+		Path parent = file.toAbsolutePath().getParent();
+		Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+		try
+		{
+			try(DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp))))
+			{
+				out.writeInt(MAGIC);
+				out.writeInt(FORMAT_VERSION);
+				output.writeTo(out);
+			}
+			
+			try
+			{
+				Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch(AtomicMoveNotSupportedException e)
+			{
+				Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		finally
+		{
+			Files.deleteIfExists(temp);
+		}
+	}
+	
+	//Accessor methods
+	
+	public Region getRegion()
+	{
+		return region;
+	}
+	
+	public Locale getLocale()
+	{
+		return locale;
+	}
+	
+	/**
+	 * Returns the version of the data, which is the latest version when the snapshot was downloaded.
+	 * @return The version.
+	 */
+	public String getVersion()
+	{
+		return version;
+	}
+	
+	public List<String> getVersions()
+	{
+		return versions;
+	}
+	
+	public RegionInfo getRegionInfo()
+	{
+		return regionInfo;
+	}
+	
+	/**
+	 * Returns all champions, with all data loaded.
+	 * @return A map of champion keys to champions.
+	 */
+	public Map<String, Champion> getChampions()
+	{
+		return champions;
+	}
+	
+	/**
+	 * Returns the champion with the given ID.
+	 * @param championId The champion ID.
+	 * @return The champion, or <code>null</code> if there is none.
+	 */
+	public Champion getChampion(long championId)
+	{
+		return championsById.get(championId);
+	}
+	
+	/**
+	 * Returns whether or not the snapshot has the data of the given region and locale.
+	 * @param region The region.
+	 * @param locale The language locale.
+	 * @return <code>true</code> if the region and locale match, otherwise <code>false</code>.
+	 */
+	public boolean matches(Region region, Locale locale)
+	{
+		return this.region == region && this.locale == locale;
+	}
+	
+	//Serialization classes
+	
+	/**
+	 * Collects the data and its string table while writing, since the table has to come first.
+	 */
+	private static class Output
+	{
+		private ByteArrayOutputStream bytes;
+		private DataOutputStream out;
+		private Map<String, Integer> stringIndices;
+		private List<String> strings;
+		
+		public Output()
+		{
+			bytes = new ByteArrayOutputStream(1 << 16);
+			out = new DataOutputStream(bytes);
+			stringIndices = new HashMap<>();
+			strings = new ArrayList<>();
+		}
+		
+		public void writeTo(DataOutputStream file) throws IOException
+		{
+			writeVarLong(file, strings.size());
+			for(String s : strings)
+			{
+				byte[] encoded = s.getBytes(StandardCharsets.UTF_8);
+				writeVarLong(file, encoded.length);
+				file.write(encoded);
+			}
+			bytes.writeTo(file);
+		}
+		
+		////Types
+		
+		public void writeSnapshot(StaticDataSnapshot snapshot) throws IOException, RiotApiException
+		{
+			writeString(snapshot.region.name());
+			writeString(snapshot.locale != null ? snapshot.locale.name() : null);
+			writeStringList(snapshot.versions);
+			
+			RegionInfo info = snapshot.regionInfo;
+			out.writeBoolean(info != null);
+			if(info != null)
+			{
+				writeString(info.getCdnUrl());
+				writeString(info.getDragonMagic());
+				writeString(info.getDragonMagicCss());
+				writeString(info.getDefaultLanguage());
+				writeString(info.getLegacyMode());
+				writeInt(info.getProfileIconMax());
+				writeString(info.getStore());
+				writeString(info.getRealmVersion());
+				
+				Map<String, String> typeVersions = info.getTypeVersions();
+				writeInt(typeVersions.size());
+				for(Map.Entry<String, String> entry : typeVersions.entrySet())
+				{
+					writeString(entry.getKey());
+					writeString(entry.getValue());
+				}
+			}
+			
+			writeInt(snapshot.champions.size());
+			for(Map.Entry<String, Champion> entry : snapshot.champions.entrySet())
+			{
+				writeString(entry.getKey());
+				writeChampion(entry.getValue());
+			}
+		}
+		
+		private void writeChampion(Champion c) throws IOException, RiotApiException
+		{
+			writeLong(c.getId());
+			writeString(c.getName());
+			writeString(c.getKey());
+			writeString(c.getTitle());
+			writeString(c.getResourceType() != null ? c.getResourceType().name() : null);
+			writeString(c.getBlurb());
+			writeString(c.getLore());
+			writeInt(c.getAttackRank());
+			writeInt(c.getMagicRank());
+			writeInt(c.getDefenseRank());
+			writeInt(c.getDifficultyRank());
+			writeStringList(c.getAllyTips());
+			writeStringList(c.getEnemyTips());
+			writeStringList(c.getTags());
+			writeImage(c.getImage());
+			
+			List<Skin> skins = c.getSkins();
+			writeSize(skins);
+			if(skins != null)
+				for(Skin skin : skins)
+				{
+					writeString(skin.getId());
+					writeString(skin.getName());
+					writeInt(skin.getNum());
+				}
+			
+			List<RecommendedItems> recommended = c.getRecommendedItems();
+			writeSize(recommended);
+			if(recommended != null)
+				for(RecommendedItems items : recommended)
+					writeRecommendedItems(items);
+			
+			Passive passive = c.getPassive();
+			out.writeBoolean(passive != null);
+			if(passive != null)
+			{
+				writeString(passive.getName());
+				writeString(passive.getDescription());
+				writeImage(passive.getImage());
+			}
+			
+			List<Spell> spells = c.getSpells();
+			writeSize(spells);
+			if(spells != null)
+				for(Spell spell : spells)
+					writeSpell(spell);
+			
+			Champion.Stats s = c.getStats();
+			out.writeBoolean(s != null);
+			if(s != null)
+			{
+				double[] values = {s.attackDamage, s.attackDamagePerLevel, s.attackRange,
+						s.attackSpeedOffset, s.attackSpeedPerLevel, s.crit, s.critPerLevel,
+						s.hp, s.hpPerLevel, s.hpRegen, s.hpRegenPerLevel,
+						s.mp, s.mpPerLevel, s.mpRegen, s.mpRegenPerLevel,
+						s.armor, s.armorPerLevel, s.magicResist, s.magicResistPerLevel, s.movespeed};
+				for(double value : values)
+					out.writeDouble(value);
+			}
+		}
+		
+		private void writeRecommendedItems(RecommendedItems items) throws IOException
+		{
+			writeString(items.getChampion());
+			writeString(items.getMap());
+			writeString(items.getMode());
+			writeString(items.getType());
+			writeString(items.getTitle());
+			out.writeBoolean(items.isPriority());
+			
+			writeSize(items.getBlocks());
+			if(items.getBlocks() != null)
+				for(RecommendedItems.Block block : items.getBlocks())
+				{
+					writeString(block.getType());
+					writeSize(block.getItems());
+					if(block.getItems() != null)
+						for(RecommendedItems.Block.Item item : block.getItems())
+						{
+							writeString(item.getId());
+							writeInt(item.getCount());
+						}
+				}
+		}
+		
+		private void writeSpell(Spell spell) throws IOException
+		{
+			writeString(spell.getName());
+			writeString(spell.getId());
+			writeString(spell.getDescription());
+			writeImage(spell.getImage());
+			
+			writeString(spell.getTooltip());
+			writeStringList(spell.getLevelTipLabels());
+			writeStringList(spell.getLevelTipEffects());
+			writeInt(spell.getMaxRank());
+			
+			List<Spell.SpellVar> vars = spell.getVars();
+			writeSize(vars);
+			if(vars != null)
+				for(Spell.SpellVar var : vars)
+				{
+					writeString(var.key);
+					writeString(var.link);
+					writeValue(var.getCoeff());
+					out.writeBoolean(var.isDynamic());
+				}
+			
+			writeString(spell.getResourceType() != null ? spell.getResourceType().name() : null);
+			writeString(spell.getResourceUsage());
+			writeIntList(spell.getCosts());
+			writeString(spell.getCost());
+			writeIntList(spell.getCooldowns());
+			writeString(spell.getCooldown());
+			writeIntList(spell.getRanges());
+			writeString(spell.getRange());
+			
+			List<List<Integer>> effects = spell.getEffects();
+			writeSize(effects);
+			if(effects != null)
+				for(List<Integer> effect : effects)
+					writeIntList(effect);
+			writeStringList(spell.getEffectBurns());
+		}
+		
+		private void writeImage(Image image) throws IOException
+		{
+			out.writeBoolean(image != null);
+			if(image != null)
+			{
+				writeString(image.getFull());
+				writeString(image.getGroup());
+				writeString(image.getSprite());
+				writeInt(image.getX());
+				writeInt(image.getY());
+				writeInt(image.getW());
+				writeInt(image.getH());
+			}
+		}
+		
+		////Values
+		
+		private void writeValue(Object value) throws IOException
+		{
+			if(value == null)
+				out.writeByte(0);
+			else if(value instanceof Integer)
+			{
+				out.writeByte(1);
+				writeInt((Integer)value);
+			}
+			else if(value instanceof Long)
+			{
+				out.writeByte(2);
+				writeLong((Long)value);
+			}
+			else if(value instanceof Float)
+			{
+				out.writeByte(3);
+				out.writeFloat((Float)value);
+			}
+			else if(value instanceof Number)
+			{
+				out.writeByte(4);
+				out.writeDouble(((Number)value).doubleValue());
+			}
+			else if(value instanceof Boolean)
+			{
+				out.writeByte(5);
+				out.writeBoolean((Boolean)value);
+			}
+			else if(value instanceof List)
+			{
+				out.writeByte(6);
+				List<?> list = (List<?>)value;
+				writeInt(list.size());
+				for(Object element : list)
+					writeValue(element);
+			}
+			else
+			{
+				out.writeByte(7);
+				writeString(value.toString());
+			}
+		}
+		
+		private void writeStringList(List<String> list) throws IOException
+		{
+			writeSize(list);
+			if(list != null)
+				for(String s : list)
+					writeString(s);
+		}
+		
+		private void writeIntList(List<Integer> list) throws IOException
+		{
+			writeSize(list);
+			if(list != null)
+				for(int i : list)
+					writeInt(i);
+		}
+		
+		//Size plus one, zero for null
+		private void writeSize(Collection<?> collection) throws IOException
+		{
+			writeVarLong(out, collection != null ? collection.size()+1 : 0);
+		}
+		
+		//Index plus one, zero for null
+		private void writeString(String s) throws IOException
+		{
+			if(s == null)
+			{
+				writeVarLong(out, 0);
+				return;
+			}
+			
+			Integer index = stringIndices.get(s);
+			if(index == null)
+			{
+				index = strings.size();
+				stringIndices.put(s, index);
+				strings.add(s);
+			}
+			writeVarLong(out, index+1);
+		}
+		
+		private void writeInt(int value) throws IOException
+		{
+			writeLong(value);
+		}
+		
+		private void writeLong(long value) throws IOException
+		{
+			writeVarLong(out, (value << 1) ^ (value >> 63));	//Zig-zag so small negatives stay small
+		}
+		
+		private static void writeVarLong(DataOutput out, long value) throws IOException
+		{
+			while((value & ~0x7FL) != 0)
+			{
+				out.writeByte((int)(value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+			out.writeByte((int)value);
+		}
+	}
+	
+	/**
+	 * Reads the data of a snapshot, the reverse of <code>Output</code>.
+	 */
+	private static class Input
+	{
+		private RiotApi api;
+		private ByteBuffer buffer;
+		private String[] strings;
+		
+		public Input(RiotApi api, ByteBuffer buffer)
+		{
+			this.api = api;
+			this.buffer = buffer;
+			
+			strings = new String[checkedSize(readVarLong())];
+			for(int n = 0; n < strings.length; n++)
+			{
+				byte[] encoded = new byte[checkedSize(readVarLong())];
+				buffer.get(encoded);
+				strings[n] = new String(encoded, StandardCharsets.UTF_8);
+			}
+		}
+		
+		////Types
+		
+		public StaticDataSnapshot readSnapshot()
+		{
+			Region region = Region.valueOf(readString());
+			String localeName = readString();
+			Locale locale = localeName != null ? Locale.valueOf(localeName) : null;
+			List<String> versions = readStringList();
+			
+			RegionInfo regionInfo = null;
+			if(readBoolean())
+			{
+				String cdnUrl = readString();
+				String dragonMagic = readString();
+				String dragonMagicCss = readString();
+				String defaultLanguage = readString();
+				String legacyMode = readString();
+				int profileIconMax = readInt();
+				String store = readString();
+				String realmVersion = readString();
+				
+				int numTypeVersions = readInt();
+				Map<String, String> typeVersions = new HashMap<>();
+				for(int n = 0; n < numTypeVersions; n++)
+					typeVersions.put(readString(), readString());
+				
+				regionInfo = new RegionInfo(cdnUrl, dragonMagic, dragonMagicCss, defaultLanguage, legacyMode, profileIconMax, store, realmVersion, typeVersions);
+			}
+			
+			int numChampions = readInt();
+			Map<String, Champion> champions = new LinkedHashMap<>();
+			for(int n = 0; n < numChampions; n++)
+				champions.put(readString(), readChampion(region, locale));
+			
+			return new StaticDataSnapshot(region, locale, versions != null ? versions : new ArrayList<>(0), regionInfo, champions);
+		}
+		
+		private Champion readChampion(Region region, Locale locale)
+		{
+			long id = readLong();
+			String name = readString();
+			String key = readString();
+			String title = readString();
+			Champion c = new Champion(api, region, locale, name, id, key, title);
+			
+			String resourceType = readString();
+			c.setResourceType(resourceType != null ? ResourceType.valueOf(resourceType) : null);
+			c.setBlurb(readString());
+			c.setLore(readString());
+			c.setInfo(readInt(), readInt(), readInt(), readInt());
+			c.setAllyTips(readStringList());
+			c.setEnemyTips(readStringList());
+			c.setTags(readStringList());
+			c.setImage(readImage());
+			
+			int numSkins = readSize();
+			if(numSkins >= 0)
+			{
+				List<Skin> skins = new ArrayList<>(numSkins);
+				for(int n = 0; n < numSkins; n++)
+					skins.add(new Skin(readString(), readString(), readInt()));
+				c.setSkins(skins);
+			}
+			
+			int numRecommended = readSize();
+			if(numRecommended >= 0)
+			{
+				List<RecommendedItems> recommended = new ArrayList<>(numRecommended);
+				for(int n = 0; n < numRecommended; n++)
+					recommended.add(readRecommendedItems());
+				c.setRecommendedItems(recommended);
+			}
+			
+			if(readBoolean())
+				c.setPassive(new Passive(readString(), readString(), readImage()));
+			
+			int numSpells = readSize();
+			if(numSpells >= 0)
+			{
+				List<Spell> spells = new ArrayList<>(numSpells);
+				for(int n = 0; n < numSpells; n++)
+					spells.add(readSpell());
+				c.setSpells(spells);
+			}
+			
+			if(readBoolean())
+			{
+				double[] v = new double[20];
+				for(int n = 0; n < v.length; n++)
+					v[n] = buffer.getDouble();
+				c.setStats(new Champion.Stats(v[0], v[1], v[2], v[3], v[4], v[5], v[6], v[7], v[8], v[9],
+						v[10], v[11], v[12], v[13], v[14], v[15], v[16], v[17], v[18], v[19]));
+			}
+			
+			c.setStaticDataLoaded(ChampionDataType.ALL);
+			return c;
+		}
+		
+		private RecommendedItems readRecommendedItems()
+		{
+			String champion = readString();
+			String map = readString();
+			String mode = readString();
+			String type = readString();
+			String title = readString();
+			boolean priority = readBoolean();
+			
+			List<RecommendedItems.Block> blocks = null;
+			int numBlocks = readSize();
+			if(numBlocks >= 0)
+			{
+				blocks = new ArrayList<>(numBlocks);
+				for(int n = 0; n < numBlocks; n++)
+				{
+					String blockType = readString();
+					List<RecommendedItems.Block.Item> items = null;
+					int numItems = readSize();
+					if(numItems >= 0)
+					{
+						items = new ArrayList<>(numItems);
+						for(int i = 0; i < numItems; i++)
+							items.add(new RecommendedItems.Block.Item(readString(), readInt()));
+					}
+					blocks.add(new RecommendedItems.Block(blockType, items));
+				}
+			}
+			
+			return new RecommendedItems(champion, map, mode, type, title, priority, blocks);
+		}
+		
+		private Spell readSpell()
+		{
+			Spell spell = new Spell(readString(), readString(), readString(), readImage());
+			
+			String tooltip = readString();
+			List<String> levelTipLabels = readStringList();
+			List<String> levelTipEffects = readStringList();
+			int maxRank = readInt();
+			
+			List<Spell.SpellVar> vars = null;
+			int numVars = readSize();
+			if(numVars >= 0)
+			{
+				vars = new ArrayList<>(numVars);
+				for(int n = 0; n < numVars; n++)
+					vars.add(spell.new SpellVar(readString(), readString(), readValue(), readBoolean()));
+			}
+			spell.initGeneral(tooltip, levelTipLabels, levelTipEffects, maxRank, vars);
+			
+			String resourceType = readString();
+			spell.initResource(resourceType != null ? ResourceType.valueOf(resourceType) : null, readString(), readIntList(), readString());
+			spell.initInfo(readIntList(), readString(), readIntList(), readString());
+			
+			List<List<Integer>> effects = null;
+			int numEffects = readSize();
+			if(numEffects >= 0)
+			{
+				effects = new ArrayList<>(numEffects);
+				for(int n = 0; n < numEffects; n++)
+					effects.add(readIntList());
+			}
+			spell.initEffects(effects, readStringList());
+			
+			return spell;
+		}
+		
+		private Image readImage()
+		{
+			if(!readBoolean())
+				return null;
+			return new Image(readString(), readString(), readString(), readInt(), readInt(), readInt(), readInt());
+		}
+		
+		////Values
+		
+		private Object readValue()
+		{
+			byte tag = buffer.get();
+			switch(tag)
+			{
+				case 0: return null;
+				case 1: return readInt();
+				case 2: return readLong();
+				case 3: return buffer.getFloat();
+				case 4: return buffer.getDouble();
+				case 5: return readBoolean();
+				case 6:
+					int size = checkedSize(readInt());
+					List<Object> list = new ArrayList<>(size);
+					for(int n = 0; n < size; n++)
+						list.add(readValue());
+					return list;
+				case 7: return readString();
+				default: throw new IllegalArgumentException("Unknown value tag: "+tag);
+			}
+		}
+		
+		private List<String> readStringList()
+		{
+			int size = readSize();
+			if(size < 0)
+				return null;
+			
+			List<String> list = new ArrayList<>(size);
+			for(int n = 0; n < size; n++)
+				list.add(readString());
+			return list;
+		}
+		
+		private List<Integer> readIntList()
+		{
+			int size = readSize();
+			if(size < 0)
+				return null;
+			
+			List<Integer> list = new ArrayList<>(size);
+			for(int n = 0; n < size; n++)
+				list.add(readInt());
+			return list;
+		}
+		
+		//The size, or -1 for null
+		private int readSize()
+		{
+			return checkedSize(readVarLong())-1;
+		}
+		
+		private String readString()
+		{
+			int index = checkedSize(readVarLong());
+			return index != 0 ? strings[index-1] : null;
+		}
+		
+		private boolean readBoolean()
+		{
+			return buffer.get() != 0;
+		}
+		
+		private int readInt()
+		{
+			return (int)readLong();
+		}
+		
+		private long readLong()
+		{
+			long value = readVarLong();
+			return (value >>> 1) ^ -(value & 1);
+		}
+		
+		private long readVarLong()
+		{
+			long value = 0;
+			for(int shift = 0; shift < 64; shift += 7)
+			{
+				byte b = buffer.get();
+				value |= (long)(b & 0x7F) << shift;
+				if((b & 0x80) == 0)
+					return value;
+			}
+			throw new IllegalArgumentException("Malformed variable-length number");
+		}
+		
+		private int checkedSize(long size)
+		{
+			//Nothing in a snapshot can be bigger than the snapshot itself
+			if(size < 0 || size > buffer.capacity())
+				throw new IllegalArgumentException("Invalid size: "+size);
+			return (int)size;
+		}
+	}
+}
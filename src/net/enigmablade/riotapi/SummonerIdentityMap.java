@@ -0,0 +1,159 @@
+package net.enigmablade.riotapi;
+
+import java.lang.ref.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+import net.enigmablade.riotapi.constants.*;
+import net.enigmablade.riotapi.exceptions.*;
+import net.enigmablade.riotapi.types.*;
+
+/**
+ * <p>Maps each summoner (by region and ID) to one canonical <code>Summoner</code> instance while it's in use.</p>
+ * <p>When enabled in {@link RiotApi}, converters hand out the canonical instance instead of creating a new one for every
+ * game, roster, and lookup, so information filled once is visible everywhere and each summoner is only filled once.
+ * Summoners are weakly referenced, so a summoner no longer used anywhere is dropped from the map.</p>
+ * 
+ * @author Enigma
+ */
+public class SummonerIdentityMap
+{
+	private ConcurrentMap<Key, Ref> summoners;
+	private ReferenceQueue<Summoner> queue;
+	
+	/**
+	 * Creates a new empty identity map.
+	 */
+	public SummonerIdentityMap()
+	{
+		summoners = new ConcurrentHashMap<>();
+		queue = new ReferenceQueue<>();
+	}
+	
+	//Functionality
+	
+	/**
+	 * Returns the canonical summoner, or <code>null</code> if there is none.
+	 * @param region The region of the summoner.
+	 * @param id The ID of the summoner.
+	 * @return The canonical summoner, or <code>null</code>.
+	 */
+	public Summoner get(Region region, long id)
+	{
+		expunge();
+		Ref ref = summoners.get(new Key(region, id));
+		return ref != null ? ref.get() : null;
+	}
+	
+	/**
+	 * Returns the canonical summoner, creating it if there is none.
+	 * @param region The region of the summoner.
+	 * @param id The ID of the summoner.
+	 * @param creator Creates the summoner if there is no canonical instance.
+	 * @return The canonical summoner.
+	 */
+	public Summoner get(Region region, long id, Supplier<Summoner> creator)
+	{
+		expunge();
+		Key key = new Key(region, id);
+		while(true)
+		{
+			Ref ref = summoners.get(key);
+			Summoner existing = ref != null ? ref.get() : null;
+			if(existing != null)
+				return existing;
+			
+			Summoner summoner = creator.get();
+			Ref newRef = new Ref(key, summoner, queue);
+			if(ref == null ? summoners.putIfAbsent(key, newRef) == null : summoners.replace(key, ref, newRef))
+				return summoner;
+		}
+	}
+	
+	/**
+	 * Returns the canonical instance of a summoner, making the given summoner canonical if there is none.
+	 * If there already is a canonical instance and the given summoner is filled, its information is copied into the canonical instance.
+	 * Summoners without an ID are returned as they are.
+	 * @param summoner The summoner.
+	 * @return The canonical summoner.
+	 * @throws RiotApiException If copying the summoner's information failed.
+	 */
+	public Summoner intern(Summoner summoner) throws RiotApiException
+	{
+		long id = summoner.getKnownId();
+		if(id < 0)
+			return summoner;
+		
+		Summoner canonical = get(summoner.getRegion(), id, () -> summoner);
+		if(canonical != summoner && summoner.isFilled())
+			canonical.fillFrom(summoner);
+		return canonical;
+	}
+	
+	/**
+	 * Removes all summoners from the map. Existing instances remain usable but are no longer canonical.
+	 */
+	public void clear()
+	{
+		summoners.clear();
+		expunge();
+	}
+	
+	/**
+	 * Returns the number of summoners in the map, including any that were just dropped.
+	 * @return The number of summoners.
+	 */
+	public int size()
+	{
+		expunge();
+		return summoners.size();
+	}
+	
+	//Helper methods
+	
+	private void expunge()
+	{
+		Reference<? extends Summoner> ref;
+		while((ref = queue.poll()) != null)
+			summoners.remove(((Ref)ref).key, ref);
+	}
+	
+	//Map structures
+	
+	private static class Key
+	{
+		private Region region;
+		private long id;
+		
+		public Key(Region region, long id)
+		{
+			this.region = region;
+			this.id = id;
+		}
+		
+		@Override
+		public boolean equals(Object o)
+		{
+			if(!(o instanceof Key))
+				return false;
+			Key k = (Key)o;
+			return id == k.id && region == k.region;
+		}
+		
+		@Override
+		public int hashCode()
+		{
+			return 31*(region != null ? region.hashCode() : 0)+Long.hashCode(id);
+		}
+	}
+	
+	private static class Ref extends WeakReference<Summoner>
+	{
+		private Key key;
+		
+		public Ref(Key key, Summoner summoner, ReferenceQueue<Summoner> queue)
+		{
+			super(summoner, queue);
+			this.key = key;
+		}
+	}
+}
@@ -0,0 +1,522 @@
+package net.enigmablade.riotapi.analytics;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import net.enigmablade.riotapi.*;
+import net.enigmablade.riotapi.constants.*;
+import net.enigmablade.riotapi.exceptions.*;
+import net.enigmablade.riotapi.types.*;
+import net.enigmablade.riotapi.util.*;
+
+/**
+ * <p>Crawls games by walking from summoners to their recent games, and from the players of those games to their recent games.</p>
+ * <p>Each region has its own frontier of summoners to crawl, and remembers every summoner and game ID it has seen,
+ * so each summoner is crawled once and each game is delivered to the {@link GameSink} once. Every region keeps up to
+ * the concurrency limit of requests in flight, so there's always a request of each region waiting for the rate limiter.
+ * A region that's down (see {@link RegionOutageGate}) or over the rate limit is paused for a while, without holding up the others.</p>
+ * <p>Crawl requests spend most of their time blocked in the rate limiter, so they run on the crawler's own daemon threads instead of
+ * the API's executor, where they would starve everything else on it (batch loads, watcher polls, bulk requests).
+ * There's at most one thread per request in flight, and idle threads exit after a minute.</p>
+ * <p>The frontiers and seen IDs can be checkpointed to a file, on demand or on a schedule, and restored to continue a crawl later.
+ * Summoners being crawled when checkpointing are saved as part of the frontier. A game is only saved as seen once the sink accepted it,
+ * so games of those summoners that weren't delivered yet are delivered after restoring, and none are lost. A game the sink failed to accept
+ * isn't marked seen either, and is delivered if it's found again.</p>
+ * 
+ * <p><b>Example</b>:<br/>
+ * <code>GameStore store = new GameStore();<br/>
+ * GameCrawler crawler = new GameCrawler(api, store::add);<br/>
+ * crawler.addSeeds(Region.NA, summonerId);<br/>
+ * crawler.start();<br/>
+ * crawler.checkpointEvery(file, 5, TimeUnit.MINUTES);</code></p>
+ * 
+ * @author Enigma
+ */
+public class GameCrawler
+{
+	public static final int DEFAULT_CONCURRENCY = 4;
+	private static final long PAUSE_DELAY = 30000;		//30 seconds
+	
+	private static final int MAGIC = 0x52474343;		//"RGCC"
+	private static final int FORMAT_VERSION = 1;
+	
+	private RiotApi api;
+	private GameSink sink;
+	private ConcurrentMap<Region, Frontier> frontiers;
+	
+	private volatile boolean running;
+	private volatile int concurrency;
+	private final Object idleLock = new Object();
+	
+	private ExecutorService executor;		//Created when first needed
+	
+	/**
+	 * Creates a new stopped crawler without any summoners, with a concurrency of {@value #DEFAULT_CONCURRENCY} requests per region.
+	 * @param api The API instance being used.
+	 * @param sink The sink receiving discovered games.
+	 */
+	public GameCrawler(RiotApi api, GameSink sink)
+	{
+		this.api = api;
+		this.sink = sink;
+		frontiers = new ConcurrentHashMap<>();
+		concurrency = DEFAULT_CONCURRENCY;
+	}
+	
+	//Frontier methods
+	
+	/**
+	 * Adds summoners to crawl. Summoners that were already seen in the region are ignored.
+	 * @param region The game region (NA, EUW, EUNE, etc.)
+	 * @param summonerIds The IDs of the summoners.
+	 */
+	public void addSeeds(Region region, long... summonerIds)
+	{
+		Frontier frontier = getFrontier(region);
+		synchronized(frontier)
+		{
+			for(long summonerId : summonerIds)
+				if(frontier.discovered.add(summonerId))
+					frontier.queue.add(summonerId);
+		}
+		pump(region, frontier);
+	}
+	
+	//Control methods
+	
+	/**
+	 * Starts crawling all regions with summoners in their frontier.
+	 */
+	public void start()
+	{
+		running = true;
+		for(Map.Entry<Region, Frontier> entry : frontiers.entrySet())
+			pump(entry.getKey(), entry.getValue());
+	}
+	
+	/**
+	 * Stops crawling. Requests already in flight finish, and their players are still added to the frontier.
+	 */
+	public void stop()
+	{
+		running = false;
+		signalIdle();
+	}
+	
+	public boolean isRunning()
+	{
+		return running;
+	}
+	
+	/**
+	 * Waits until no requests are in flight and, if running, every frontier is empty.
+	 * @param timeout The maximum time to wait.
+	 * @param unit The unit of the timeout.
+	 * @return <code>true</code> if idle, or <code>false</code> if the timeout elapsed first.
+	 * @throws InterruptedException If interrupted while waiting.
+	 */
+	public boolean awaitIdle(long timeout, TimeUnit unit) throws InterruptedException
+	{
+		long end = System.nanoTime()+unit.toNanos(timeout);
+		synchronized(idleLock)
+		{
+			while(!isIdle())
+			{
+				long remaining = TimeUnit.NANOSECONDS.toMillis(end-System.nanoTime());
+				if(remaining <= 0)
+					return false;
+				idleLock.wait(remaining);
+			}
+			return true;
+		}
+	}
+	
+	//Crawl methods
+	
+	private void pump(Region region, Frontier frontier)
+	{
+		List<Long> batch = new ArrayList<>();
+		synchronized(frontier)
+		{
+			if(!running || frontier.paused)
+				return;
+			while(frontier.inFlight.size() < concurrency && !frontier.queue.isEmpty())
+			{
+				long summonerId = frontier.queue.poll();
+				frontier.inFlight.add(summonerId);
+				batch.add(summonerId);
+			}
+		}
+		
+		ExecutorService executor = getExecutor();
+		for(long summonerId : batch)
+			executor.execute(() -> crawl(region, frontier, summonerId));
+	}
+	
+	private void crawl(Region region, Frontier frontier, long summonerId)
+	{
+		boolean pause = false;
+		try
+		{
+			List<Game> games = api.getGameApiMethod().getRecentGames(region, summonerId);
+			
+			List<Game> newGames = new ArrayList<>(games.size());
+			synchronized(frontier)
+			{
+				for(Game game : games)
+				{
+					//Seen once accepted by the sink, pending until then
+					if(frontier.games.contains(game.getGameId()) || !frontier.pending.add(game.getGameId()))
+						continue;
+					newGames.add(game);
+					
+					if(game.getPlayers() != null)
+						for(Player player : game.getPlayers())
+						{
+							long playerId = player.getKnownId();
+							if(frontier.discovered.add(playerId))
+								frontier.queue.add(playerId);
+						}
+				}
+			}
+			
+			int delivered = 0;
+			try
+			{
+				for(Game game : newGames)
+				{
+					sink.accept(game);
+					synchronized(frontier)
+					{
+						frontier.pending.remove(game.getGameId());
+						frontier.games.add(game.getGameId());
+					}
+					delivered++;
+				}
+			}
+			finally
+			{
+				//Games not accepted can be delivered when found again
+				if(delivered < newGames.size())
+					synchronized(frontier)
+					{
+						for(int n = delivered; n < newGames.size(); n++)
+							frontier.pending.remove(newGames.get(n).getGameId());
+					}
+			}
+		}
+		catch(RegionUnavailableException | TooManyRequestsException e)
+		{
+			pause = true;
+		}
+		catch(RiotApiException e)
+		{
+			sink.crawlFailed(region, summonerId, e);
+		}
+		catch(RuntimeException e)
+		{
+			sink.crawlFailed(region, summonerId, new RiotApiException("Failed to crawl summoner "+summonerId, e));
+		}
+		finally
+		{
+			finish(region, frontier, summonerId, pause);
+		}
+	}
+	
+	private void finish(Region region, Frontier frontier, long summonerId, boolean pause)
+	{
+		boolean resume = false;
+		synchronized(frontier)
+		{
+			frontier.inFlight.remove(summonerId);
+			if(pause)
+			{
+				//Try the summoner again once the region is resumed
+				frontier.queue.addFirst(summonerId);
+				resume = !frontier.paused;
+				frontier.paused = true;
+			}
+		}
+		
+		if(resume)
+			api.getScheduler().schedule(() -> {
+				synchronized(frontier)
+				{
+					frontier.paused = false;
+				}
+				pump(region, frontier);
+			}, PAUSE_DELAY, TimeUnit.MILLISECONDS);
+		else if(!pause)
+			pump(region, frontier);
+		signalIdle();
+	}
+	
+	//Checkpoint methods
+	
+	/**
+	 * Writes the frontiers and seen IDs of all regions to a file, replacing it once everything is written.
+	 * Can be called while crawling.
+	 * @param file The checkpoint file.
+	 * @throws IOException If the file couldn't be written.
+	 */
+	public void checkpoint(Path file) throws IOException
+	{
+		Path parent = file.toAbsolutePath().getParent();
+		Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+		try
+		{
+			try(DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp))))
+			{
+				out.writeInt(MAGIC);
+				out.writeInt(FORMAT_VERSION);
+				
+				List<Map.Entry<Region, Frontier>> entries = new ArrayList<>(frontiers.entrySet());
+				out.writeInt(entries.size());
+				for(Map.Entry<Region, Frontier> entry : entries)
+				{
+					//Copy under the lock, write outside of it
+					Frontier frontier = entry.getValue();
+					long[] queued, discovered, games;
+					synchronized(frontier)
+					{
+						queued = new long[frontier.inFlight.size()+frontier.queue.size()];
+						int i = 0;
+						for(long summonerId : frontier.inFlight)
+							queued[i++] = summonerId;
+						for(long summonerId : frontier.queue)
+							queued[i++] = summonerId;
+						discovered = frontier.discovered.toArray();
+						games = frontier.games.toArray();
+					}
+					
+					out.writeUTF(entry.getKey().name());
+					writeLongs(out, queued);
+					writeLongs(out, discovered);
+					writeLongs(out, games);
+				}
+			}
+			
+			try
+			{
+				Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch(AtomicMoveNotSupportedException e)
+			{
+				Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		finally
+		{
+			Files.deleteIfExists(temp);
+		}
+	}
+	
+	/**
+	 * Adds the frontiers and seen IDs from a file written by {@link #checkpoint(Path)}, to continue a crawl.
+	 * Summoners and games already seen by this crawler aren't added again.
+	 * @param file The checkpoint file.
+	 * @throws IOException If the file couldn't be read or isn't a valid checkpoint.
+	 */
+	public void restore(Path file) throws IOException
+	{
+		try(DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file))))
+		{
+			if(in.readInt() != MAGIC)
+				throw new IOException("Not a crawler checkpoint: "+file);
+			int formatVersion = in.readInt();
+			if(formatVersion != FORMAT_VERSION)
+				throw new IOException("Unsupported checkpoint format version: "+formatVersion);
+			
+			int numRegions = in.readInt();
+			for(int n = 0; n < numRegions; n++)
+			{
+				Region region = Region.valueOf(in.readUTF());
+				long[] queued = readLongs(in);
+				long[] discovered = readLongs(in);
+				long[] games = readLongs(in);
+				
+				Frontier frontier = getFrontier(region);
+				synchronized(frontier)
+				{
+					for(long summonerId : queued)
+						if(frontier.discovered.add(summonerId))
+							frontier.queue.add(summonerId);
+					for(long summonerId : discovered)
+						frontier.discovered.add(summonerId);
+					for(long gameId : games)
+						frontier.games.add(gameId);
+				}
+				pump(region, frontier);
+			}
+		}
+		catch(IllegalArgumentException e)
+		{
+			throw new IOException("Corrupt crawler checkpoint: "+file, e);
+		}
+	}
+	
+	/**
+	 * Checkpoints to a file on a fixed schedule until the returned future is cancelled.
+	 * Failed checkpoints are reported to the sink.
+	 * @param file The checkpoint file.
+	 * @param period The time between checkpoints.
+	 * @param unit The unit of the period.
+	 * @return The future of the scheduled checkpoints.
+	 */
+	public ScheduledFuture<?> checkpointEvery(Path file, long period, TimeUnit unit)
+	{
+		//Checkpoints are handed off to the crawler's threads so writing doesn't hold up the shared scheduler
+		ExecutorService executor = getExecutor();
+		return api.getScheduler().scheduleAtFixedRate(() -> executor.execute(() -> {
+			try
+			{
+				checkpoint(file);
+			}
+			catch(IOException e)
+			{
+				sink.checkpointFailed(file, e);
+			}
+		}), period, period, unit);
+	}
+	
+	//Accessor and modifier methods
+	
+	/**
+	 * Sets the maximum number of requests in flight per region. Takes effect as requests finish.
+	 * @param concurrency The maximum number of requests, at least 1.
+	 */
+	public void setConcurrency(int concurrency)
+	{
+		if(concurrency < 1)
+			throw new IllegalArgumentException("Concurrency must be greater than 0.");
+		this.concurrency = concurrency;
+	}
+	
+	public int getConcurrency()
+	{
+		return concurrency;
+	}
+	
+	/**
+	 * Returns the number of summoners waiting to be crawled in a region.
+	 * @param region The game region (NA, EUW, EUNE, etc.)
+	 * @return The size of the frontier.
+	 */
+	public int getFrontierSize(Region region)
+	{
+		Frontier frontier = frontiers.get(region);
+		if(frontier == null)
+			return 0;
+		synchronized(frontier)
+		{
+			return frontier.queue.size();
+		}
+	}
+	
+	/**
+	 * Returns the number of summoners crawled or waiting to be crawled in a region.
+	 * @param region The game region (NA, EUW, EUNE, etc.)
+	 * @return The number of summoners seen.
+	 */
+	public int getSummonersSeen(Region region)
+	{
+		Frontier frontier = frontiers.get(region);
+		if(frontier == null)
+			return 0;
+		synchronized(frontier)
+		{
+			return frontier.discovered.size();
+		}
+	}
+	
+	/**
+	 * Returns the number of games delivered to the sink in a region.
+	 * @param region The game region (NA, EUW, EUNE, etc.)
+	 * @return The number of games seen.
+	 */
+	public int getGamesSeen(Region region)
+	{
+		Frontier frontier = frontiers.get(region);
+		if(frontier == null)
+			return 0;
+		synchronized(frontier)
+		{
+			return frontier.games.size();
+		}
+	}
+	
+	//Helper methods
+	
+	/**
+	 * Returns the crawler's own executor, creating it if needed. It has no thread limit, the number of requests in flight is limited by {@link #pump(Region, Frontier)}.
+	 * @return The executor.
+	 */
+	private synchronized ExecutorService getExecutor()
+	{
+		if(executor == null)
+			executor = Executors.newCachedThreadPool(runnable -> {
+				Thread thread = new Thread(runnable, "riot-api-crawler");
+				thread.setDaemon(true);
+				return thread;
+			});
+		return executor;
+	}
+	
+	private Frontier getFrontier(Region region)
+	{
+		return frontiers.computeIfAbsent(region, r -> new Frontier());
+	}
+	
+	private boolean isIdle()
+	{
+		for(Frontier frontier : frontiers.values())
+			synchronized(frontier)
+			{
+				if(!frontier.inFlight.isEmpty() || running && !frontier.queue.isEmpty())
+					return false;
+			}
+		return true;
+	}
+	
+	private void signalIdle()
+	{
+		synchronized(idleLock)
+		{
+			idleLock.notifyAll();
+		}
+	}
+	
+	private static void writeLongs(DataOutputStream out, long[] values) throws IOException
+	{
+		out.writeInt(values.length);
+		for(long value : values)
+			out.writeLong(value);
+	}
+	
+	private static long[] readLongs(DataInputStream in) throws IOException
+	{
+		int length = in.readInt();
+		if(length < 0)
+			throw new IOException("Corrupt crawler checkpoint: negative length");
+		long[] values = new long[length];
+		for(int n = 0; n < length; n++)
+			values[n] = in.readLong();
+		return values;
+	}
+	
+	//Helper classes
+	
+	/**
+	 * The crawl state of a region, guarded by itself.
+	 */
+	private static class Frontier
+	{
+		private ArrayDeque<Long> queue = new ArrayDeque<>();
+		private Set<Long> inFlight = new HashSet<>();
+		private LongHashSet discovered = new LongHashSet();		//Queued, in flight, or crawled
+		private LongHashSet games = new LongHashSet();			//Accepted by the sink
+		private Set<Long> pending = new HashSet<>();			//Being delivered to the sink
+		private boolean paused;
+	}
+}
@@ -0,0 +1,44 @@
+package net.enigmablade.riotapi.analytics;
+
+import java.io.*;
+import java.nio.file.*;
+import net.enigmablade.riotapi.constants.*;
+import net.enigmablade.riotapi.exceptions.*;
+import net.enigmablade.riotapi.types.*;
+
+/**
+ * Receives the games discovered by a {@link GameCrawler}, each game ID once. Called from the crawler's worker threads.
+ * 
+ * <p><b>Example</b>:<br/>
+ * <code>GameStore store = new GameStore();<br/>
+ * GameCrawler crawler = new GameCrawler(api, store::add);</code></p>
+ * 
+ * @author Enigma
+ */
+public interface GameSink
+{
+	/**
+	 * Called when a game is discovered for the first time.
+	 * @param game The game, from the perspective of the summoner whose recent games it was found in.
+	 */
+	public void accept(Game game);
+	
+	/**
+	 * Called when the recent games of a summoner couldn't be requested. The summoner isn't tried again.
+	 * @param region The region of the summoner.
+	 * @param summonerId The ID of the summoner.
+	 * @param e The exception.
+	 */
+	public default void crawlFailed(Region region, long summonerId, RiotApiException e)
+	{
+	}
+	
+	/**
+	 * Called when a scheduled checkpoint couldn't be written. The next checkpoint happens as scheduled.
+	 * @param file The checkpoint file.
+	 * @param e The exception.
+	 */
+	public default void checkpointFailed(Path file, IOException e)
+	{
+	}
+}
@@ -0,0 +1,582 @@
+package net.enigmablade.riotapi.analytics;
+
+import java.util.*;
+import java.util.concurrent.*;
+import net.enigmablade.riotapi.constants.*;
+import net.enigmablade.riotapi.types.*;
+
+/**
+ * <p>A columnar in-memory store of games for aggregating statistics over large numbers of games.</p>
+ * <p>Each field is kept in its own primitive array instead of one object per game: game IDs and dates as <code>long</code>s,
+ * stats as one <code>int</code> column per {@link GameStatType}, and the champion, game mode, game type, queue type, and map
+ * as dictionary-encoded <code>short</code> codes. Stat columns are only allocated once a non-zero value is added.</p>
+ * <p>Scans and group-bys run over row ranges split across the fork-join common pool, each split aggregating a tight loop over
+ * the columns into its own accumulator before they are merged.</p>
+ * <p>Adding games is thread-safe and may happen while scans are running, scans only see the games added before they started.</p>
+ * 
+ * <p><b>Example</b>:<br/>
+ * <code>GameStore.Groups&lt;Integer&gt; groups = store.groupBy(GameStore.CHAMPION, GameStore.QUEUE_TYPE, QueueType.RANKED_5V5_SOLO, GameStatType.CHAMPIONS_KILLED);<br/>
+ * double kills = groups.getAverage(championId, GameStatType.CHAMPIONS_KILLED);</code></p>
+ * 
+ * @author Enigma
+ */
+public class GameStore
+{
+	private static final GameStatType[] STAT_TYPES = GameStatType.values();
+	private static final int DEFAULT_CAPACITY = 1024;
+	private static final int SPLIT_THRESHOLD = 1 << 14;
+	
+	/**
+	 * Groups by the ID of the champion played.
+	 */
+	public static final Dimension<Integer> CHAMPION = new Dimension<>("champion", 0);
+	
+	/**
+	 * Groups by game mode.
+	 */
+	public static final Dimension<GameMode> GAME_MODE = new Dimension<>("gameMode", 1);
+	
+	/**
+	 * Groups by game type.
+	 */
+	public static final Dimension<GameType> GAME_TYPE = new Dimension<>("gameType", 2);
+	
+	/**
+	 * Groups by queue type, the sub-type of the game.
+	 */
+	public static final Dimension<QueueType> QUEUE_TYPE = new Dimension<>("queueType", 3);
+	
+	/**
+	 * Groups by map.
+	 */
+	public static final Dimension<MapType> MAP_TYPE = new Dimension<>("mapType", 4);
+	
+	private static final int NUM_DIMENSIONS = 5;
+	
+	//Columns, guarded by this
+	private int size;
+	private long[] gameIds;
+	private long[] playedDates;
+	private int[] ipEarned;
+	private short[][] codes;			//Indexed by dimension
+	private int[][] stats;				//Indexed by stat type ordinal, null until used
+	
+	private List<Dictionary<?>> dictionaries;
+	
+	/**
+	 * Creates a new empty store.
+	 */
+	public GameStore()
+	{
+		this(DEFAULT_CAPACITY);
+	}
+	
+	/**
+	 * Creates a new empty store with room for the given number of games before growing.
+	 * @param capacity The initial capacity.
+	 */
+	public GameStore(int capacity)
+	{
+		capacity = Math.max(capacity, 16);
+		gameIds = new long[capacity];
+		playedDates = new long[capacity];
+		ipEarned = new int[capacity];
+		codes = new short[NUM_DIMENSIONS][capacity];
+		stats = new int[STAT_TYPES.length][];
+		
+		dictionaries = new ArrayList<>(NUM_DIMENSIONS);
+		for(int n = 0; n < NUM_DIMENSIONS; n++)
+			dictionaries.add(new Dictionary<>());
+	}
+	
+	//Append methods
+	
+	/**
+	 * Adds a game to the store.
+	 * @param game The game.
+	 */
+	public synchronized void add(Game game)
+	{
+		ensureCapacity(size+1);
+		
+		int row = size;
+		gameIds[row] = game.getGameId();
+		playedDates[row] = game.getPlayedDate().getTime();
+		ipEarned[row] = game.getIpEarned();
+		codes[CHAMPION.index][row] = encode(CHAMPION, game.getChampionId());
+		codes[GAME_MODE.index][row] = encode(GAME_MODE, game.getGameMode());
+		codes[GAME_TYPE.index][row] = encode(GAME_TYPE, game.getGameType());
+		codes[QUEUE_TYPE.index][row] = encode(QUEUE_TYPE, game.getGameSubType());
+		codes[MAP_TYPE.index][row] = encode(MAP_TYPE, game.getMapType());
+		
+		GameStats gameStats = game.getStats();
+		for(GameStatType type : STAT_TYPES)
+		{
+			int value = gameStats.getInt(type);
+			if(value != 0)
+			{
+				int[] column = stats[type.ordinal()];
+				if(column == null)
+					column = stats[type.ordinal()] = new int[gameIds.length];
+				column[row] = value;
+			}
+		}
+		
+		size++;
+	}
+	
+	/**
+	 * Adds games to the store.
+	 * @param games The games.
+	 */
+	public synchronized void addAll(Collection<Game> games)
+	{
+		ensureCapacity(size+games.size());
+		for(Game game : games)
+			add(game);
+	}
+	
+	private void ensureCapacity(int capacity)
+	{
+		if(capacity <= gameIds.length)
+			return;
+		
+		int newCapacity = Math.max(capacity, gameIds.length+(gameIds.length >> 1));
+		gameIds = Arrays.copyOf(gameIds, newCapacity);
+		playedDates = Arrays.copyOf(playedDates, newCapacity);
+		ipEarned = Arrays.copyOf(ipEarned, newCapacity);
+		for(int n = 0; n < codes.length; n++)
+			codes[n] = Arrays.copyOf(codes[n], newCapacity);
+		for(int n = 0; n < stats.length; n++)
+			if(stats[n] != null)
+				stats[n] = Arrays.copyOf(stats[n], newCapacity);
+	}
+	
+	@SuppressWarnings("unchecked")
+	private <K> short encode(Dimension<K> dimension, K value)
+	{
+		return ((Dictionary<K>)dictionaries.get(dimension.index)).encode(value);
+	}
+	
+	//Row accessor methods
+	
+	/**
+	 * Returns the number of games in the store.
+	 * @return The number of games.
+	 */
+	public synchronized int size()
+	{
+		return size;
+	}
+	
+	/**
+	 * Returns the ID of the game in the given row.
+	 * @param row The row.
+	 * @return The game ID.
+	 */
+	public synchronized long getGameId(int row)
+	{
+		checkRow(row);
+		return gameIds[row];
+	}
+	
+	/**
+	 * Returns the date on which the game in the given row was played.
+	 * @param row The row.
+	 * @return The played date.
+	 */
+	public synchronized Date getPlayedDate(int row)
+	{
+		checkRow(row);
+		return new Date(playedDates[row]);
+	}
+	
+	/**
+	 * Returns the value of a dimension for the game in the given row.
+	 * @param dimension The dimension.
+	 * @param row The row.
+	 * @return The value.
+	 */
+	@SuppressWarnings("unchecked")
+	public synchronized <K> K get(Dimension<K> dimension, int row)
+	{
+		checkRow(row);
+		return ((Dictionary<K>)dictionaries.get(dimension.index)).decode(codes[dimension.index][row]);
+	}
+	
+	/**
+	 * Returns a stat of the game in the given row, <code>0</code> if the game doesn't have the stat.
+	 * @param type The stat type.
+	 * @param row The row.
+	 * @return The stat value.
+	 */
+	public synchronized int getStat(GameStatType type, int row)
+	{
+		checkRow(row);
+		int[] column = stats[type.ordinal()];
+		return column != null ? column[row] : 0;
+	}
+	
+	private void checkRow(int row)
+	{
+		if(row < 0 || row >= size)
+			throw new IndexOutOfBoundsException("Row: "+row+", size: "+size);
+	}
+	
+	//Scan methods
+	
+	/**
+	 * Returns the sum of a stat over all games in the store.
+	 * @param type The stat type.
+	 * @return The sum.
+	 */
+	public long sum(GameStatType type)
+	{
+		int[] column;
+		int rows;
+		synchronized(this)
+		{
+			column = stats[type.ordinal()];
+			rows = size;
+		}
+		
+		if(column == null || rows == 0)
+			return 0;
+		return ForkJoinPool.commonPool().invoke(new SumTask(column, 0, rows));
+	}
+	
+	/**
+	 * Groups all games in the store by a dimension and sums the given stats for each group.
+	 * @param by The dimension to group by.
+	 * @param types The stats to sum.
+	 * @return The groups.
+	 */
+	public <K> Groups<K> groupBy(Dimension<K> by, GameStatType... types)
+	{
+		return groupBy(by, null, null, types);
+	}
+	
+	/**
+	 * Groups the games in the store matching a filter by a dimension and sums the given stats for each group.
+	 * <p>For example, grouping by {@link #CHAMPION} where {@link #QUEUE_TYPE} is ranked solo queue gives per-champion ranked stats.</p>
+	 * @param by The dimension to group by.
+	 * @param where The dimension to filter on, or <code>null</code> to include all games.
+	 * @param value The value the filter dimension must have.
+	 * @param types The stats to sum.
+	 * @return The groups.
+	 */
+	@SuppressWarnings("unchecked")
+	public <K, F> Groups<K> groupBy(Dimension<K> by, Dimension<F> where, F value, GameStatType... types)
+	{
+		Snapshot snapshot = snapshot();
+		
+		int[][] columns = new int[types.length][];
+		for(int n = 0; n < types.length; n++)
+			columns[n] = snapshot.stats[types[n].ordinal()];
+		
+		short[] filter = null;
+		int filterCode = 0;
+		if(where != null)
+		{
+			filterCode = ((Dictionary<F>)snapshot.dictionaries[where.index]).find(value);
+			if(filterCode < 0)
+				return new Groups<>(types, Collections.emptyMap(), new long[0]);
+			filter = snapshot.codes[where.index];
+		}
+		
+		Object[] keys = snapshot.dictionaries[by.index].values;
+		int numGroups = snapshot.dictionaries[by.index].size;
+		
+		long[] totals;
+		if(snapshot.size == 0)
+			totals = new long[numGroups*(types.length+1)];
+		else
+			totals = ForkJoinPool.commonPool().invoke(new GroupTask(snapshot.codes[by.index], numGroups, columns, filter, (short)filterCode, 0, snapshot.size));
+		
+		Map<K, Integer> groups = new HashMap<>();
+		for(int n = 0; n < numGroups; n++)
+			if(totals[n*(types.length+1)] > 0)
+				groups.put((K)keys[n], n);
+		
+		return new Groups<>(types, groups, totals);
+	}
+	
+	private synchronized Snapshot snapshot()
+	{
+		Snapshot snapshot = new Snapshot();
+		snapshot.size = size;
+		snapshot.codes = codes.clone();
+		snapshot.stats = stats.clone();
+		snapshot.dictionaries = new Dictionary<?>[NUM_DIMENSIONS];
+		for(int n = 0; n < NUM_DIMENSIONS; n++)
+			snapshot.dictionaries[n] = dictionaries.get(n).copy();
+		return snapshot;
+	}
+	
+	//Helper classes
+	
+	/**
+	 * A dictionary-encoded column that games can be grouped and filtered by.
+	 * @param <K> The type of the values in the column.
+	 */
+	public static final class Dimension<K>
+	{
+		private final String name;
+		private final int index;
+		
+		private Dimension(String name, int index)
+		{
+			this.name = name;
+			this.index = index;
+		}
+		
+		@Override
+		public String toString()
+		{
+			return name;
+		}
+	}
+	
+	/**
+	 * The result of a group-by, with the number of games and the sum of each stat per group.
+	 * @param <K> The type of the group keys.
+	 */
+	public static class Groups<K>
+	{
+		private GameStatType[] types;
+		private Map<K, Integer> groups;
+		private long[] totals;			//Per group: count, then one sum per type
+		
+		private Groups(GameStatType[] types, Map<K, Integer> groups, long[] totals)
+		{
+			this.types = types;
+			this.groups = groups;
+			this.totals = totals;
+		}
+		
+		/**
+		 * Returns the keys of all groups with at least one game.
+		 * @return The group keys.
+		 */
+		public Set<K> getKeys()
+		{
+			return Collections.unmodifiableSet(groups.keySet());
+		}
+		
+		/**
+		 * Returns the number of games in a group.
+		 * @param key The group key.
+		 * @return The number of games, or <code>0</code> if there is no such group.
+		 */
+		public int getCount(K key)
+		{
+			Integer group = groups.get(key);
+			return group != null ? (int)totals[group*(types.length+1)] : 0;
+		}
+		
+		/**
+		 * Returns the sum of a stat over the games in a group.
+		 * @param key The group key.
+		 * @param type The stat type, one of the types given to the group-by.
+		 * @return The sum, or <code>0</code> if there is no such group.
+		 * @throws IllegalArgumentException If the stat wasn't summed.
+		 */
+		public long getSum(K key, GameStatType type)
+		{
+			int offset = indexOf(type);
+			Integer group = groups.get(key);
+			return group != null ? totals[group*(types.length+1)+1+offset] : 0;
+		}
+		
+		/**
+		 * Returns the average of a stat over the games in a group.
+		 * @param key The group key.
+		 * @param type The stat type, one of the types given to the group-by.
+		 * @return The average, or <code>0</code> if there is no such group.
+		 * @throws IllegalArgumentException If the stat wasn't summed.
+		 */
+		public double getAverage(K key, GameStatType type)
+		{
+			int count = getCount(key);
+			return count > 0 ? (double)getSum(key, type)/count : 0;
+		}
+		
+		private int indexOf(GameStatType type)
+		{
+			for(int n = 0; n < types.length; n++)
+				if(types[n] == type)
+					return n;
+			throw new IllegalArgumentException("Stat not included in group-by: "+type);
+		}
+	}
+	
+	/**
+	 * Maps values to dense <code>short</code> codes in the order they are first seen.
+	 */
+	private static class Dictionary<K>
+	{
+		private Map<K, Short> codes = new HashMap<>();
+		private Object[] values = new Object[16];
+		private int size;
+		
+		public short encode(K value)
+		{
+			Short code = codes.get(value);
+			if(code == null)
+			{
+				if(size > Short.MAX_VALUE)
+					throw new IllegalStateException("Too many distinct values in dimension");
+				if(size == values.length)
+					values = Arrays.copyOf(values, size*2);
+				values[size] = value;
+				code = (short)size++;
+				codes.put(value, code);
+			}
+			return code;
+		}
+		
+		@SuppressWarnings("unchecked")
+		public K decode(short code)
+		{
+			return (K)values[code];
+		}
+		
+		public int find(K value)
+		{
+			Short code = codes.get(value);
+			return code != null ? code : -1;
+		}
+		
+		public Dictionary<K> copy()
+		{
+			Dictionary<K> copy = new Dictionary<>();
+			copy.codes = new HashMap<>(codes);
+			copy.values = Arrays.copyOf(values, size);
+			copy.size = size;
+			return copy;
+		}
+	}
+	
+	/**
+	 * The columns as they were at one point, rows below the size are never changed afterwards.
+	 */
+	private static class Snapshot
+	{
+		private int size;
+		private short[][] codes;
+		private int[][] stats;
+		private Dictionary<?>[] dictionaries;
+	}
+	
+	private static class SumTask extends RecursiveTask<Long>
+	{
+		private static final long serialVersionUID = 1L;
+		
+		private final int[] column;
+		private final int from, to;
+		
+		public SumTask(int[] column, int from, int to)
+		{
+			this.column = column;
+			this.from = from;
+			this.to = to;
+		}
+		
+		@Override
+		protected Long compute()
+		{
+			if(to-from <= SPLIT_THRESHOLD)
+			{
+				long sum = 0;
+				for(int r = from; r < to; r++)
+					sum += column[r];
+				return sum;
+			}
+			
+			int mid = (from+to) >>> 1;
+			SumTask left = new SumTask(column, from, mid);
+			left.fork();
+			long right = new SumTask(column, mid, to).compute();
+			return left.join()+right;
+		}
+	}
+	
+	private static class GroupTask extends RecursiveTask<long[]>
+	{
+		private static final long serialVersionUID = 1L;
+		
+		private final short[] keys;
+		private final int numGroups;
+		private final int[][] columns;
+		private final short[] filter;
+		private final short filterCode;
+		private final int from, to;
+		
+		public GroupTask(short[] keys, int numGroups, int[][] columns, short[] filter, short filterCode, int from, int to)
+		{
+			this.keys = keys;
+			this.numGroups = numGroups;
+			this.columns = columns;
+			this.filter = filter;
+			this.filterCode = filterCode;
+			this.from = from;
+			this.to = to;
+		}
+		
+		@Override
+		protected long[] compute()
+		{
+			if(to-from <= SPLIT_THRESHOLD)
+				return aggregate();
+			
+			int mid = (from+to) >>> 1;
+			GroupTask left = new GroupTask(keys, numGroups, columns, filter, filterCode, from, mid);
+			left.fork();
+			long[] totals = new GroupTask(keys, numGroups, columns, filter, filterCode, mid, to).compute();
+			long[] leftTotals = left.join();
+			for(int n = 0; n < totals.length; n++)
+				totals[n] += leftTotals[n];
+			return totals;
+		}
+		
+		private long[] aggregate()
+		{
+			int width = columns.length+1;
+			long[] totals = new long[numGroups*width];
+			
+			//One pass per column keeps each inner loop over primitive arrays only
+			if(filter == null)
+			{
+				for(int r = from; r < to; r++)
+					totals[keys[r]*width]++;
+				for(int c = 0; c < columns.length; c++)
+				{
+					int[] column = columns[c];
+					if(column == null)
+						continue;
+					int offset = c+1;
+					for(int r = from; r < to; r++)
+						totals[keys[r]*width+offset] += column[r];
+				}
+			}
+			else
+			{
+				for(int r = from; r < to; r++)
+					if(filter[r] == filterCode)
+						totals[keys[r]*width]++;
+				for(int c = 0; c < columns.length; c++)
+				{
+					int[] column = columns[c];
+					if(column == null)
+						continue;
+					int offset = c+1;
+					for(int r = from; r < to; r++)
+						if(filter[r] == filterCode)
+							totals[keys[r]*width+offset] += column[r];
+				}
+			}
+			
+			return totals;
+		}
+	}
+}
@@ -73,6 +73,15 @@ public enum AggregatedStatType
 	private String value;
 	private List<GameMode> supportedGameModes;
 	
+	private static final Map<String, AggregatedStatType> valueMap;
+	
+	static
+	{
+		valueMap = new HashMap<>();
+		for(AggregatedStatType type : values())
+			valueMap.put(type.value, type);
+	}
+	
 	//Constructors
 	
 	/**
@@ -109,6 +118,16 @@ public enum AggregatedStatType
 	
 	//Utility methods
 	
+	/**
+	 * Returns the stat type with the given API value.
+	 * @param value The API value.
+	 * @return The stat type, or <code>null</code> if the stat is unknown.
+	 */
+	public static AggregatedStatType getFromValue(String value)
+	{
+		return valueMap.get(value);
+	}
+	
 	/**
 	 * Returns a list of aggregated stat types that are supported by the given game mode.
 	 * @param mode The game mode.
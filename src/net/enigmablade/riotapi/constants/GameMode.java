@@ -1,5 +1,7 @@
 package net.enigmablade.riotapi.constants;
 
+import java.util.*;
+
 /**
  * Game mode constants as specified in the game constants page of the developer site.
  * @see <a href="https://developer.riotgames.com/docs/game-constants">Developer site</a>
@@ -26,6 +28,15 @@ public enum GameMode
 	private String value;
 	private String name;
 	
+	private static final Map<String, GameMode> valueMap;
+	
+	static
+	{
+		valueMap = new HashMap<>();
+		for(GameMode g : values())
+			valueMap.putIfAbsent(g.value, g);
+	}
+	
 	//Constructors
 	
 	private GameMode(String value, String name)
@@ -64,9 +75,7 @@ public enum GameMode
 	 */
 	public static GameMode getFromValue(String value)
 	{
-		for(GameMode g : values())
-			if(g.getValue().equals(value))
-				return g;
-		return UNKNOWN;
+		GameMode g = valueMap.get(value);
+		return g != null ? g : UNKNOWN;
 	}
 }
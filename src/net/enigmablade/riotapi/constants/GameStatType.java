@@ -0,0 +1,150 @@
+package net.enigmablade.riotapi.constants;
+
+import java.util.*;
+
+/**
+ * <p>The stats recorded for a player in a game, as returned with recent games.</p>
+ * <p>The ordinal of each stat is its slot in a game's stat array, so new stats should be added at the end.</p>
+ * 
+ * @author Enigma
+ */
+public enum GameStatType
+{
+	LEVEL								("level",								false),
+	ASSISTS								("assists",								false),
+	BARRACKS_KILLED						("barracksKilled",						false),
+	CHAMPIONS_KILLED					("championsKilled",						false),
+	COMBAT_PLAYER_SCORE					("combatPlayerScore",					false),
+	CONSUMABLES_PURCHASED				("consumablesPurchased",				false),
+	DAMAGE_DEALT_PLAYER					("damageDealtPlayer",					false),
+	DOUBLE_KILLS						("doubleKills",							false),
+	FIRST_BLOOD							("firstBlood",							false),
+	GOLD								("gold",								false),
+	GOLD_EARNED							("goldEarned",							false),
+	GOLD_SPENT							("goldSpent",							false),
+	ITEM0								("item0",								false),
+	ITEM1								("item1",								false),
+	ITEM2								("item2",								false),
+	ITEM3								("item3",								false),
+	ITEM4								("item4",								false),
+	ITEM5								("item5",								false),
+	ITEM6								("item6",								false),
+	ITEMS_PURCHASED						("itemsPurchased",						false),
+	KILLING_SPREES						("killingSprees",						false),
+	LARGEST_CRITICAL_STRIKE				("largestCriticalStrike",				false),
+	LARGEST_KILLING_SPREE				("largestKillingSpree",					false),
+	LARGEST_MULTI_KILL					("largestMultiKill",					false),
+	LEGENDARY_ITEMS_CREATED				("legendaryItemsCreated",				false),
+	MAGIC_DAMAGE_DEALT_PLAYER			("magicDamageDealtPlayer",				false),
+	MAGIC_DAMAGE_DEALT_TO_CHAMPIONS		("magicDamageDealtToChampions",			false),
+	MAGIC_DAMAGE_TAKEN					("magicDamageTaken",					false),
+	MINIONS_DENIED						("minionsDenied",						false),
+	MINIONS_KILLED						("minionsKilled",						false),
+	NEUTRAL_MINIONS_KILLED				("neutralMinionsKilled",				false),
+	NEUTRAL_MINIONS_KILLED_ENEMY_JUNGLE	("neutralMinionsKilledEnemyJungle",		false),
+	NEUTRAL_MINIONS_KILLED_YOUR_JUNGLE	("neutralMinionsKilledYourJungle",		false),
+	NEXUS_KILLED						("nexusKilled",							true),
+	NODE_CAPTURE						("nodeCapture",							false),
+	NODE_CAPTURE_ASSIST					("nodeCaptureAssist",					false),
+	NODE_NEUTRALIZE						("nodeNeutralize",						false),
+	NODE_NEUTRALIZE_ASSIST				("nodeNeutralizeAssist",				false),
+	NUM_DEATHS							("numDeaths",							false),
+	NUM_ITEMS_BOUGHT					("numItemsBought",						false),
+	OBJECTIVE_PLAYER_SCORE				("objectivePlayerScore",				false),
+	PENTA_KILLS							("pentaKills",							false),
+	PHYSICAL_DAMAGE_DEALT_PLAYER		("physicalDamageDealtPlayer",			false),
+	PHYSICAL_DAMAGE_DEALT_TO_CHAMPIONS	("physicalDamageDealtToChampions",		false),
+	PHYSICAL_DAMAGE_TAKEN				("physicalDamageTaken",					false),
+	QUADRA_KILLS						("quadraKills",							false),
+	SIGHT_WARDS_BOUGHT					("sightWardsBought",					false),
+	SPELL1_CAST							("spell1Cast",							false),
+	SPELL2_CAST							("spell2Cast",							false),
+	SPELL3_CAST							("spell3Cast",							false),
+	SPELL4_CAST							("spell4Cast",							false),
+	SUMMON_SPELL1_CAST					("summonSpell1Cast",					false),
+	SUMMON_SPELL2_CAST					("summonSpell2Cast",					false),
+	SUPER_MONSTER_KILLED				("superMonsterKilled",					false),
+	TEAM								("team",								false),
+	TEAM_OBJECTIVE						("teamObjective",						false),
+	TIME_PLAYED							("timePlayed",							false),
+	TOTAL_DAMAGE_DEALT					("totalDamageDealt",					false),
+	TOTAL_DAMAGE_DEALT_TO_CHAMPIONS		("totalDamageDealtToChampions",			false),
+	TOTAL_DAMAGE_TAKEN					("totalDamageTaken",					false),
+	TOTAL_HEAL							("totalHeal",							false),
+	TOTAL_PLAYER_SCORE					("totalPlayerScore",					false),
+	TOTAL_SCORE_RANK					("totalScoreRank",						false),
+	TOTAL_TIME_CROWD_CONTROL_DEALT		("totalTimeCrowdControlDealt",			false),
+	TOTAL_UNITS_HEALED					("totalUnitsHealed",					false),
+	TRIPLE_KILLS						("tripleKills",							false),
+	TRUE_DAMAGE_DEALT_PLAYER			("trueDamageDealtPlayer",				false),
+	TRUE_DAMAGE_DEALT_TO_CHAMPIONS		("trueDamageDealtToChampions",			false),
+	TRUE_DAMAGE_TAKEN					("trueDamageTaken",						false),
+	TURRETS_KILLED						("turretsKilled",						false),
+	UNREAL_KILLS						("unrealKills",							false),
+	VICTORY_POINT_TOTAL					("victoryPointTotal",					false),
+	VISION_WARDS_BOUGHT					("visionWardsBought",					false),
+	WARD_KILLED							("wardKilled",							false),
+	WARD_PLACED							("wardPlaced",							false),
+	WIN									("win",									true);
+	
+	//---//
+	
+	//Data
+	
+	private String value;
+	private boolean isBoolean;
+	
+	private static final Map<String, GameStatType> valueMap;
+	
+	static
+	{
+		valueMap = new HashMap<>();
+		for(GameStatType type : values())
+			valueMap.put(type.value, type);
+	}
+	
+	//Constructors
+	
+	/**
+	 * Create a new game stat type.
+	 * @param value The stat type's value used by the API.
+	 * @param isBoolean Whether the stat is a boolean, otherwise it's an integer.
+	 */
+	private GameStatType(String value, boolean isBoolean)
+	{
+		this.value = value;
+		this.isBoolean = isBoolean;
+	}
+	
+	//Accessor methods
+	
+	/**
+	 * Returns the string value of the stat type used by the API.
+	 * @return The type value.
+	 */
+	public String getValue()
+	{
+		return value;
+	}
+	
+	/**
+	 * Returns whether the stat is a boolean, otherwise it's an integer.
+	 * @return <code>true</code> if the stat is a boolean, otherwise <code>false</code>.
+	 */
+	public boolean isBoolean()
+	{
+		return isBoolean;
+	}
+	
+	//Static conversions
+	
+	/**
+	 * Returns the stat type with the given API value.
+	 * @param value The API value.
+	 * @return The stat type, or <code>null</code> if the stat is unknown.
+	 */
+	public static GameStatType getFromValue(String value)
+	{
+		return valueMap.get(value);
+	}
+}
@@ -1,5 +1,7 @@
 package net.enigmablade.riotapi.constants;
 
+import java.util.*;
+
 /**
  * Game type constants as specified in the game constants page of the developer site.
  * @see <a href="https://developer.riotgames.com/docs/game-constants">Developer site</a>
@@ -21,6 +23,15 @@ public enum GameType
 	
 	private String value;
 	
+	private static final Map<String, GameType> valueMap;
+	
+	static
+	{
+		valueMap = new HashMap<>();
+		for(GameType g : values())
+			valueMap.putIfAbsent(g.value, g);
+	}
+	
 	//Constructors
 	
 	/**
@@ -53,9 +64,7 @@ public enum GameType
 	 */
 	public static GameType getFromValue(String value)
 	{
-		for(GameType g : values())
-			if(g.getValue().equals(value))
-				return g;
-		return UNKNOWN;
+		GameType g = valueMap.get(value);
+		return g != null ? g : UNKNOWN;
 	}
 }
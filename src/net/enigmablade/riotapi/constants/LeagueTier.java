@@ -35,7 +35,7 @@ public enum LeagueTier
 	 */
 	public static LeagueTier stringToConstant(String value)
 	{
-		switch(value.toLowerCase())
+		switch(value.toLowerCase(java.util.Locale.ROOT))
 		{
 			case "challenger": return TIER_CHALLENGER;
 			case "diamond": return TIER_DIAMOND;
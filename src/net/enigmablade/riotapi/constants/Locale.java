@@ -1,5 +1,7 @@
 package net.enigmablade.riotapi.constants;
 
+import java.util.*;
+
 /**
  * All available League of Legends languages and their locale codes.
  * 
@@ -36,6 +38,15 @@ public enum Locale
 	
 	private String value;
 	
+	private static final Map<String, Locale> valueMap;
+	
+	static
+	{
+		valueMap = new HashMap<>();
+		for(Locale v : values())
+			valueMap.putIfAbsent(v.value, v);
+	}
+	
 	private Locale(String value)
 	{
 		this.value = value;
@@ -52,12 +63,6 @@ public enum Locale
 	
 	public static Locale getFromValue(String value)
 	{
-		if(value != null)
-		{
-			for(Locale v : values())
-				if(v.getValue().equals(value))
-					return v;
-		}
-		return null;
+		return value != null ? valueMap.get(value) : null;
 	}
 }
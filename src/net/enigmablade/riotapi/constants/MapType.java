@@ -26,6 +26,20 @@ public enum MapType
 	private int id;
 	private String name;
 	
+	private static final MapType[] idTable;		//Indexed by map ID
+	
+	static
+	{
+		int maxId = 0;
+		for(MapType m : values())
+			maxId = Math.max(maxId, m.id);
+		
+		idTable = new MapType[maxId+1];
+		for(MapType m : values())
+			if(m.id >= 0 && idTable[m.id] == null)
+				idTable[m.id] = m;
+	}
+	
 	//Constructors
 	
 	/**
@@ -69,9 +83,7 @@ public enum MapType
 	 */
 	public static MapType getFromId(int id)
 	{
-		for(MapType m : values())
-			if(m.getId() == id)
-				return m;
-		return UNKNOWN;
+		MapType m = id >= 0 && id < idTable.length ? idTable[id] : null;
+		return m != null ? m : UNKNOWN;
 	}
 }
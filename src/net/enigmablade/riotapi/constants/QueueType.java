@@ -1,5 +1,7 @@
 package net.enigmablade.riotapi.constants;
 
+import java.util.*;
+
 /**
  * Queue type constants as specified in the game constants page of the developer site.
  * 
@@ -50,6 +52,21 @@ public enum QueueType
 	private boolean ranked, team;
 	private String name;
 	
+	private static final Map<String, QueueType> leagueValueMap, statsValueMap, matchValueMap;
+	
+	static
+	{
+		leagueValueMap = new HashMap<>();
+		statsValueMap = new HashMap<>();
+		matchValueMap = new HashMap<>();
+		for(QueueType q : values())
+		{
+			leagueValueMap.putIfAbsent(q.leagueValue, q);
+			statsValueMap.putIfAbsent(q.statsValue, q);
+			matchValueMap.putIfAbsent(q.matchValue, q);
+		}
+	}
+	
 	//Constructors
 	
 	/**
@@ -152,10 +169,8 @@ public enum QueueType
 	 */
 	public static QueueType getFromGameValue(String value)
 	{
-		for(QueueType q : values())
-			if(q.getLeagueValue().equals(value))
-				return q;
-		return NONE;
+		QueueType q = leagueValueMap.get(value);
+		return q != null ? q : NONE;
 	}
 	
 	/**
@@ -166,10 +181,8 @@ public enum QueueType
 	 */
 	public static QueueType getFromStatsValue(String value)
 	{
-		for(QueueType q : values())
-			if(q.getStatsValue().equals(value))
-				return q;
-		return NONE;
+		QueueType q = statsValueMap.get(value);
+		return q != null ? q : NONE;
 	}
 	
 	/**
@@ -180,9 +193,7 @@ public enum QueueType
 	 */
 	public static QueueType getFromMatchValue(String value)
 	{
-		for(QueueType q : values())
-			if(q.getMatchValue().equals(value))
-				return q;
-		return NONE;
+		QueueType q = matchValueMap.get(value);
+		return q != null ? q : NONE;
 	}
 }
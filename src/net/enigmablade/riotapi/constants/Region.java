@@ -1,5 +1,7 @@
 package net.enigmablade.riotapi.constants;
 
+import java.util.*;
+
 /**
  * Regions available to be use in API calls.
  * 
@@ -27,6 +29,19 @@ public enum Region
 	private String value, tag;
 	private String endpoint;
 	
+	private static final Map<String, Region> valueMap, tagMap;
+	
+	static
+	{
+		valueMap = new HashMap<>();
+		tagMap = new HashMap<>();
+		for(Region v : values())
+		{
+			valueMap.putIfAbsent(v.value, v);
+			tagMap.putIfAbsent(v.tag, v);
+		}
+	}
+	
 	//Constructors
 	
 	/**
@@ -69,17 +84,16 @@ public enum Region
 	
 	public static Region getFromTag(String tag, String slug)
 	{
-		for(Region v : values())
-			if(v.getTag().equals(tag) || v.getValue().equals(slug))
-				return v;
-		return GLOBAL;
+		//The first region matching either, as if checking both in order
+		Region byTag = tagMap.get(tag), bySlug = valueMap.get(slug);
+		if(byTag == null)
+			return bySlug != null ? bySlug : GLOBAL;
+		return bySlug != null && bySlug.ordinal() < byTag.ordinal() ? bySlug : byTag;
 	}
 	
 	public static Region getFromSlug(String slug)
 	{
-		for(Region v : values())
-			if(v.getValue().equals(slug))
-				return v;
-		return GLOBAL;
+		Region v = valueMap.get(slug);
+		return v != null ? v : GLOBAL;
 	}
 }
@@ -1,5 +1,7 @@
 package net.enigmablade.riotapi.constants;
 
+import java.util.*;
+
 public enum ResourceType
 {
 	MANA		("mana"),
@@ -19,6 +21,16 @@ public enum ResourceType
 	
 	private String[] values;
 	
+	private static final Map<String, ResourceType> valueMap;
+	
+	static
+	{
+		valueMap = new HashMap<>();
+		for(ResourceType type : values())
+			for(String t : type.values)
+				valueMap.putIfAbsent(t.toLowerCase(java.util.Locale.ROOT), type);
+	}
+	
 	private ResourceType(String... values)
 	{
 		this.values = values;
@@ -28,10 +40,7 @@ public enum ResourceType
 	
 	public static ResourceType getResourceType(String value)
 	{
-		for(ResourceType type : values())
-			for(String t : type.values)
-				if(t.equalsIgnoreCase(value))
-					return type;
-		return NONE;
+		ResourceType type = value != null ? valueMap.get(value.toLowerCase(java.util.Locale.ROOT)) : null;
+		return type != null ? type : NONE;
 	}
 }
@@ -0,0 +1,24 @@
+package net.enigmablade.riotapi.exceptions;
+
+import net.enigmablade.riotapi.constants.*;
+
+/**
+ * An exception for when a request isn't sent because its region's shard is down.
+ * 
+ * @author Enigma
+ */
+public class RegionUnavailableException extends RiotApiException
+{
+	private Region region;
+	
+	public RegionUnavailableException(Region region, String reason)
+	{
+		super("Region \""+region+"\" is unavailable: "+reason);
+		this.region = region;
+	}
+	
+	public Region getRegion()
+	{
+		return region;
+	}
+}
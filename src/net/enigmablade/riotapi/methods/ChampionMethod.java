@@ -1,6 +1,7 @@
 package net.enigmablade.riotapi.methods;
 
 import java.util.*;
+import java.util.concurrent.*;
 import net.enigmablade.jsonic.*;
 import net.enigmablade.riotapi.*;
 import net.enigmablade.riotapi.Requester.*;
@@ -29,6 +30,10 @@ import static net.enigmablade.riotapi.constants.Region.*;
  */
 public class ChampionMethod extends Method
 {
+	private static final int INDEX_AGE_LIMIT = 600000;	//10 minutes, same as the request cache
+	
+	private ConcurrentMap<Region, ChampionIndex> indexes;
+	
 	/**
 	 * Create a new champion method instance.
 	 * @param api The API instance being used.
@@ -36,6 +41,8 @@ public class ChampionMethod extends Method
 	public ChampionMethod(RiotApi api)
 	{
 		super(api, "api/lol", "champion", "1.2", new Region[]{NA, EUW, EUNE, BR, LAN, LAS, OCE, KR, RU, TR});
+		
+		indexes = new ConcurrentHashMap<>();
 	}
 	
 	//API-defined operation methods
@@ -73,6 +80,7 @@ public class ChampionMethod extends Method
 	
 	/**
 	 * Returns a list of all available champions and their accompanying information in the given region.
+	 * Served from the champion index while it's fresh.
 	 * @param region The game region (NA, EUW, EUNE, etc.)
 	 * @return A list of all available champions.
 	 * @throws RegionNotSupportedException If the region is not supported by the method.
@@ -80,7 +88,7 @@ public class ChampionMethod extends Method
 	 */
 	public List<Champion> getAllChampions(Region region) throws RiotApiException
 	{
-		return getChampions(region, false);
+		return new ArrayList<>(getChampionIndex(region).getChampions());
 	}
 	
 	/**
@@ -104,14 +112,35 @@ public class ChampionMethod extends Method
 	 */
 	public List<Champion> getDisabledChampions(Region region) throws RiotApiException
 	{
-		List<Champion> all = getAllChampions(region);
 		List<Champion> disabled = new ArrayList<>();
-		for(Champion c : all)
+		for(Champion c : getChampionIndex(region).getChampions())
 			if(!c.isActive())
 				disabled.add(c);
 		return disabled;
 	}
 	
+	/**
+	 * <p>Returns the index of all champions in the given region by ID, requesting the champion list if the index is older than 10 minutes.</p>
+	 * <p>The index is built from the champion list alone. Static data of the champions is filled from the champion registry when it's first accessed.</p>
+	 * <p>Since the champion list has no keys or names, only lookups by ID work on this index: {@link ChampionIndex#getChampionByKey(String)}
+	 * and {@link ChampionIndex#getChampionByName(String)} always return <code>null</code>.
+	 * Look champions up by key or name with the index of the champion registry, <code>api.getChampionRegistry().getIndex(region, locale)</code>, instead.</p>
+	 * @param region The game region (NA, EUW, EUNE, etc.)
+	 * @return The champion index.
+	 * @throws RegionNotSupportedException If the region is not supported by the method.
+	 * @throws RiotApiException If there was an exception or error from the server.
+	 */
+	public ChampionIndex getChampionIndex(Region region) throws RiotApiException
+	{
+		ChampionIndex index = indexes.get(region);
+		if(index != null && System.currentTimeMillis()-index.getTimeCreated() < INDEX_AGE_LIMIT)
+			return index;
+		
+		index = new ChampionIndex(getChampions(region, false));
+		indexes.put(region, index);
+		return index;
+	}
+	
 	//Other methods
 	
 	/**
@@ -124,16 +153,20 @@ public class ChampionMethod extends Method
 	 */
 	public boolean fillChampion(Champion champion, Region region) throws RiotApiException
 	{
-		List<Champion> champions = getAllChampions(region);
-		Champion newChampion = null;
-		for(Champion c : champions)
-			if((champion.getId() >= 0 && c.getId() == champion.getId()) || (c.getName() != null && c.getName().equals(champion.getName())))
-			{
-				newChampion = c;
-				break;
-			}
+		ChampionIndex index = getChampionIndex(region);
+		Champion newChampion = champion.getKnownId() >= 0 ? index.getChampion(champion.getKnownId()) : index.getChampionByName(champion.getKnownName());
+		
+		//Names are static data, only loaded once a champion is looked up by name
+		if(newChampion == null && champion.getKnownId() < 0 && champion.getKnownName() != null)
+		{
+			Champion named = api.getChampionRegistry().getIndex(region, champion.getLocale() != null ? champion.getLocale() : api.getDefaultLocale()).getChampionByName(champion.getKnownName());
+			if(named != null)
+				newChampion = index.getChampion(named.getKnownId());
+		}
 		
 		//Fill if required
+		if(newChampion == champion)
+			return true;
 		if(newChampion != null)
 		{
 			champion.setId(newChampion.getId());
@@ -1,12 +1,12 @@
 package net.enigmablade.riotapi.methods;
 
 import java.util.*;
-import net.enigmablade.jsonic.*;
 import net.enigmablade.riotapi.*;
 import net.enigmablade.riotapi.Requester.*;
 import net.enigmablade.riotapi.constants.*;
 import net.enigmablade.riotapi.exceptions.*;
 import net.enigmablade.riotapi.types.*;
+import net.enigmablade.riotapi.util.*;
 import static net.enigmablade.riotapi.constants.Region.*;
 
 /**
@@ -62,7 +62,7 @@ public class GameMethod extends Method
 	 */
 	public List<Game> getRecentGames(Region region, long summonerId) throws RiotApiException
 	{
-		Response response = getMethodResult(region,
+		Response response = getRawMethodResult(region,
 				"by-summoner/{summonerId}/recent",
 				createArgMap("summonerId", String.valueOf(summonerId)));
 		
@@ -71,91 +71,170 @@ public class GameMethod extends Method
 			throw new GameDataNotFoundException(region, summonerId);
 		
 		//Parse response
-		JsonObject root = (JsonObject)response.getValue();
-		return convertRecentGames(root, region, summonerId);
+		JsonReader reader = new JsonReader((String)response.getValue());
+		return bindRecentGames(reader, region, summonerId);
 	}
 	
-	//Private converter methods
+	//Private binding methods
 	
-	private List<Game> convertRecentGames(JsonObject recentGamesObject, Region region, long summonerId) throws RiotApiException
+	/**
+	 * Private helper to bind the recent games object directly from the reader.
+	 * @param reader The reader, positioned at the root object.
+	 * @param region The region of the games.
+	 * @param summonerId The ID of the summoner the games were requested for.
+	 * @return The list of games.
+	 * @throws RiotApiException If the JSON is malformed or for the wrong summoner.
+	 */
+	private List<Game> bindRecentGames(JsonReader reader, Region region, long summonerId) throws RiotApiException
 	{
+		long rootSummonerId = 0;
+		List<Game> games = new ArrayList<>(10);
+		
+		reader.beginObject();
+		while(reader.hasNext())
+		{
+			switch(reader.nextName())
+			{
+				case "summonerId": rootSummonerId = reader.nextLong(); break;
+				case "games":
+					if(reader.nextNull())					//Might be null if no games have been played
+						break;
+					reader.beginArray();
+					while(reader.hasNext())
+						games.add(bindGame(reader, region));
+					reader.endArray();
+					break;
+				default: reader.skipValue();
+			}
+		}
+		reader.endObject();
+		
 		//Check summoner IDs to make sure the server isn't crazy
-		long rootSummonerId = recentGamesObject.getLong("summonerId");
 		if(rootSummonerId != summonerId)
 			throw new RiotApiException("Server returned invalid data: summoner ID mismatch");
 		
-		//Convert game list
-		JsonArray gamesArray = recentGamesObject.getArray("games");
-		if(gamesArray == null)								//Might be null if no games have been played
-			return new ArrayList<>(0);
+		//Fill all players of all games together the first time one is accessed
+		List<Summoner> allPlayers = new ArrayList<>(games.size()*9);
+		for(Game game : games)
+			for(Player player : game.getPlayers())
+				allPlayers.add(player.getSummoner());
+		Summoner.fillTogether(allPlayers);
 		
-		List<Game> games = new ArrayList<>(gamesArray.size());
-		for(int g = 0; g < gamesArray.size(); g++)
-		{
-			JsonObject gameObject = gamesArray.getObject(g);
-			
-			//Convert player list
-			List<Player> players = convertPlayerList(gameObject.getArray("fellowPlayers"), region);
-			
-			//Convert statistic list
-			Map<String, Object> stats = convertGameStats(gameObject.getObject("stats"));
-			
-			//Create game object
-			Game game = new Game(api, region,
-					gameObject.getInt("championId"), gameObject.getInt("level"), gameObject.getInt("spell1"), gameObject.getInt("spell2"),
-					gameObject.getLong("createDate"), gameObject.getBoolean("invalid"),
-					gameObject.getLong("gameId"), gameObject.getString("gameMode"), gameObject.getString("gameType"), gameObject.getString("subType"), gameObject.getInt("mapId"),
-					gameObject.getInt("teamId"), players, stats,
-					gameObject.getInt("ipEarned"));
-			games.add(game);
-		}
 		return games;
 	}
 	
 	/**
-	 * Private helper to convert a list of players in a game.
-	 * @param playersArray The original list of players.
-	 * @param region The region the players are in.
-	 * @return The new converted list of players.
-	 * @throws JsonException Shouldn't ever happen.
+	 * Private helper to bind a game directly from the reader.
+	 * @param reader The reader, positioned at the game object.
+	 * @param region The region of the game.
+	 * @return The game.
+	 * @throws RiotApiException If the JSON is malformed.
 	 */
-	private List<Player> convertPlayerList(JsonArray playersArray, Region region) throws JsonException
+	private Game bindGame(JsonReader reader, Region region) throws RiotApiException
 	{
-		List<Player> players = null;
-		if(playersArray != null)
+		int championId = 0, level = 0, spell1 = 0, spell2 = 0, mapId = 0, teamId = 0, ipEarned = 0;
+		long createDate = 0, gameId = 0;
+		boolean invalid = false;
+		String gameMode = null, gameType = null, subType = null;
+		List<Player> players = new ArrayList<>(0);
+		GameStats stats = new GameStats();
+		
+		reader.beginObject();
+		while(reader.hasNext())
 		{
-			players = new ArrayList<>(playersArray.size());
-			for(int p = 0; p < playersArray.size(); p++)
+			switch(reader.nextName())
 			{
-				JsonObject playerObject = playersArray.getObject(p);
-				Player player = new Player(api, region, playerObject.getLong("summonerId"), playerObject.getInt("championId"), playerObject.getInt("teamId"));
-				players.add(player);
+				case "championId": championId = reader.nextInt(); break;
+				case "level": level = reader.nextInt(); break;
+				case "spell1": spell1 = reader.nextInt(); break;
+				case "spell2": spell2 = reader.nextInt(); break;
+				case "createDate": createDate = reader.nextLong(); break;
+				case "invalid": invalid = reader.nextBoolean(); break;
+				case "gameId": gameId = reader.nextLong(); break;
+				case "gameMode": gameMode = reader.nextString(); break;
+				case "gameType": gameType = reader.nextString(); break;
+				case "subType": subType = reader.nextString(); break;
+				case "mapId": mapId = reader.nextInt(); break;
+				case "teamId": teamId = reader.nextInt(); break;
+				case "ipEarned": ipEarned = reader.nextInt(); break;
+				case "fellowPlayers": players = bindPlayerList(reader, region); break;
+				case "stats": bindGameStats(reader, stats); break;
+				default: reader.skipValue();
 			}
 		}
-		else
+		reader.endObject();
+		
+		return new Game(api, region,
+				championId, level, spell1, spell2,
+				createDate, invalid,
+				gameId, gameMode, gameType, subType, mapId,
+				teamId, players, stats,
+				ipEarned);
+	}
+	
+	/**
+	 * Private helper to bind a list of players in a game.
+	 * @param reader The reader, positioned at the player array.
+	 * @param region The region the players are in.
+	 * @return The list of players.
+	 * @throws RiotApiException If the JSON is malformed.
+	 */
+	private List<Player> bindPlayerList(JsonReader reader, Region region) throws RiotApiException
+	{
+		List<Player> players = new ArrayList<>(9);
+		if(reader.nextNull())
+			return players;
+		
+		reader.beginArray();
+		while(reader.hasNext())
 		{
-			players = new ArrayList<>(0);
+			long summonerId = 0;
+			int championId = 0, teamId = 0;
+			
+			reader.beginObject();
+			while(reader.hasNext())
+			{
+				switch(reader.nextName())
+				{
+					case "summonerId": summonerId = reader.nextLong(); break;
+					case "championId": championId = reader.nextInt(); break;
+					case "teamId": teamId = reader.nextInt(); break;
+					default: reader.skipValue();
+				}
+			}
+			reader.endObject();
+			
+			players.add(new Player(api, region, summonerId, championId, teamId, getCanonicalSummoner(region, summonerId)));
 		}
+		reader.endArray();
 		return players;
 	}
 	
 	/**
-	 * Private helper to convert a list of stats in a game.
-	 * @param statsArray The original list of players.
-	 * @return The new converted list of stats.
-	 * @throws JsonException Shouldn't ever happen.
+	 * Private helper to bind the stats of a game directly into their slots.
+	 * Stats with a value of another type than expected are set like unknown stats instead of failing.
+	 * @param reader The reader, positioned at the stats object.
+	 * @param stats The stats to fill.
+	 * @throws RiotApiException If the JSON is malformed.
 	 */
-	private Map<String, Object> convertGameStats(JsonObject statsObject) throws JsonException
+	private void bindGameStats(JsonReader reader, GameStats stats) throws RiotApiException
 	{
-		Map<String, Object> stats = new TreeMap<>();
-		if(statsObject != null)
+		if(reader.nextNull())
+			return;
+		
+		reader.beginObject();
+		while(reader.hasNext())
 		{
-			for(String key : statsObject.keySet())
-			{
-				Object value = statsObject.get(key);
-				stats.put(key, value);
-			}
+			String key = reader.nextName();
+			GameStatType type = GameStatType.getFromValue(key);
+			JsonReader.Token token = reader.peek();
+			if(type != null && type.isBoolean() && token == JsonReader.Token.BOOLEAN)
+				stats.setBoolean(type, reader.nextBoolean());
+			else if(type != null && !type.isBoolean() && token == JsonReader.Token.NUMBER)
+				stats.setInt(type, reader.nextInt());
+			else
+				stats.set(key, reader.nextValue());		//Unknown, or not of the expected type
 		}
-		return stats;
+		reader.endObject();
 	}
 }
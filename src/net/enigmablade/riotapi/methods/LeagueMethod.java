@@ -55,7 +55,7 @@ public class LeagueMethod extends Method
 	public Map<String, List<League>> getLeagues(Region region, long... summonerIds) throws RiotApiException
 	{
 		String[] summonerIdStrings = Arrays.stream(summonerIds).mapToObj(String::valueOf).collect(Collectors.toList()).toArray(new String[0]);
-		return getLeaguesHelper(region, "summoner", summonerIdStrings);
+		return getLeaguesHelper(region, "summoner", true, summonerIdStrings);
 	}
 	
 	/**
@@ -86,7 +86,7 @@ public class LeagueMethod extends Method
 	 */
 	public Map<String, List<League>> getLeagues(Region region, String... teamIds) throws RiotApiException
 	{
-		return getLeaguesHelper(region, "team", teamIds);
+		return getLeaguesHelper(region, "team", true, teamIds);
 	}
 	
 	/**
@@ -114,19 +114,112 @@ public class LeagueMethod extends Method
 	 * @throws RiotApiException If there was an exception or error from the server.
 	 */
 	public League getChallengerLeague(Region region, QueueType queue) throws RiotApiException
+	{
+		return getChallengerLeague(region, queue, true);
+	}
+	
+	/**
+	 * Returns a the challenger league for the given region and queue, optionally bypassing the request cache.
+	 * @param region The league region (NA, EUW, EUNE, etc.)
+	 * @param queue The ranked queue.
+	 * @param cached Whether or not a cached response can be returned. If <code>false</code>, the league is always requested from the server.
+	 * @return The challenger league.
+	 * @throws RegionNotSupportedException If the region is not supported by the method.
+	 * @throws LeagueNotFoundException If the given summoner is not in any leagues.
+	 * @throws RiotApiException If there was an exception or error from the server.
+	 */
+	public League getChallengerLeague(Region region, QueueType queue, boolean cached) throws RiotApiException
 	{
 		//Check arguments
 		if(queue == null || !queue.isRanked())
 			throw new IllegalArgumentException("Queue type must exist and be ranked.");
 		
 		//Make request
-		Response response = getMethodResult(region,
+		Map<String, String> queryArgs = createArgMap("type", queue.getLeagueValue());
+		if(!cached)
+			evictMethodResult(region, "challenger", null, queryArgs);
+		Response response = getRawMethodResult(region,
 				"challenger",
 				null,
-				createArgMap("type", queue.getLeagueValue()));
+				queryArgs);
 		
 		//Parse response
-		return convertLeague((JsonObject)response.getValue());
+		JsonReader reader = new JsonReader((String)response.getValue());
+		return bindLeague(reader);
+	}
+	
+	//Bulk operation methods
+	
+	/**
+	 * <p>Returns the leagues for any number of summoners.</p>
+	 * <p>IDs are requested in concurrent batches of 10. Summoners not in any leagues are missing from the returned map.</p>
+	 * @param region The league region (NA, EUW, EUNE, etc.)
+	 * @param summonerIds The IDs of the summoners.
+	 * @return A map of summoner IDs to their leagues.
+	 * @throws RegionNotSupportedException If the region is not supported by the method.
+	 * @throws RiotApiException If there was an exception or error from the server.
+	 */
+	public Map<String, List<League>> getLeaguesBulk(Region region, long[] summonerIds) throws RiotApiException
+	{
+		return getLeaguesBulk(region, summonerIds, true);
+	}
+	
+	/**
+	 * <p>Returns the leagues for any number of summoners, optionally bypassing the request and entity caches.</p>
+	 * <p>IDs are requested in concurrent batches of 10. Summoners not in any leagues are missing from the returned map.</p>
+	 * @param region The league region (NA, EUW, EUNE, etc.)
+	 * @param summonerIds The IDs of the summoners.
+	 * @param cached Whether or not cached leagues can be returned. If <code>false</code>, all leagues are requested from the server.
+	 * @return A map of summoner IDs to their leagues.
+	 * @throws RegionNotSupportedException If the region is not supported by the method.
+	 * @throws RiotApiException If there was an exception or error from the server.
+	 */
+	public Map<String, List<League>> getLeaguesBulk(Region region, long[] summonerIds, boolean cached) throws RiotApiException
+	{
+		return executeInBatches(summonerIds, batch -> getLeaguesHelper(region, "summoner", cached,
+				Arrays.stream(batch).mapToObj(String::valueOf).collect(Collectors.toList()).toArray(new String[0])));
+	}
+	
+	/**
+	 * <p>Returns the league entries for any number of summoners.</p>
+	 * <p>IDs are requested in concurrent batches of 10. Summoners not in any leagues are missing from the returned map.</p>
+	 * @param region The league region (NA, EUW, EUNE, etc.)
+	 * @param summonerIds The IDs of the summoners.
+	 * @return A map of summoner IDs to their league entries.
+	 * @throws RegionNotSupportedException If the region is not supported by the method.
+	 * @throws RiotApiException If there was an exception or error from the server.
+	 */
+	public Map<String, List<League>> getLeagueEntriesBulk(Region region, long[] summonerIds) throws RiotApiException
+	{
+		return executeInBatches(summonerIds, batch -> getLeagueEntries(region, batch));
+	}
+	
+	/**
+	 * <p>Returns the leagues for any number of teams.</p>
+	 * <p>IDs are requested in concurrent batches of 10. Teams not in any leagues are missing from the returned map.</p>
+	 * @param region The league region (NA, EUW, EUNE, etc.)
+	 * @param teamIds The IDs of the teams.
+	 * @return A map of team IDs to their leagues.
+	 * @throws RegionNotSupportedException If the region is not supported by the method.
+	 * @throws RiotApiException If there was an exception or error from the server.
+	 */
+	public Map<String, List<League>> getLeaguesBulk(Region region, String[] teamIds) throws RiotApiException
+	{
+		return executeInBatches(teamIds, batch -> getLeagues(region, batch));
+	}
+	
+	/**
+	 * <p>Returns the league entries for any number of teams.</p>
+	 * <p>IDs are requested in concurrent batches of 10. Teams not in any leagues are missing from the returned map.</p>
+	 * @param region The league region (NA, EUW, EUNE, etc.)
+	 * @param teamIds The IDs of the teams.
+	 * @return A map of team IDs to their league entries.
+	 * @throws RegionNotSupportedException If the region is not supported by the method.
+	 * @throws RiotApiException If there was an exception or error from the server.
+	 */
+	public Map<String, List<League>> getLeagueEntriesBulk(Region region, String[] teamIds) throws RiotApiException
+	{
+		return executeInBatches(teamIds, batch -> getLeagueEntries(region, batch));
 	}
 	
 	//Helper methods
@@ -136,28 +229,45 @@ public class LeagueMethod extends Method
 	 * @param region The league region (NA, EUW, EUNE, etc.)
 	 * @param participantId The participant's ID.
 	 * @param participantType The type of the participant ("summoner" or "team").
+	 * @param cached Whether or not cached leagues can be returned.
 	 * @return A map of leagues.
 	 * @throws IllegalArgumentException If the given ranked queue is not ranked.
 	 * @throws RegionNotSupportedException If the region is not supported by the method.
 	 * @throws LeagueNotFoundException If the given team is not in any leagues.
 	 * @throws RiotApiException If there was an exception or error from the server.
 	 */
-	private Map<String, List<League>> getLeaguesHelper(Region region, String participantType, String... participantIds) throws RiotApiException
+	private Map<String, List<League>> getLeaguesHelper(Region region, String participantType, boolean cached, String... participantIds) throws RiotApiException
 	{
 		checkAmountOfThings(participantIds, "ID");
 		
-		String participantIdsStr = IOUtil.createCommaDelimitedString(participantIds);
+		//Only request participants that aren't cached
+		Map<String, List<League>> leagues = new HashMap<>();
+		String[] missingIds = cached ? getCachedEntities(region, EntityCache.Type.LEAGUES, participantIds, leagues) : participantIds;
+		if(missingIds.length == 0)
+			return leagues;
+		
+		String participantIdsStr = IOUtil.createCommaDelimitedString(missingIds);
 		
 		//Make request
-		Response response = getMethodResult(region,
-				"by-"+participantType+"/{id}",
-				createArgMap("id", participantIdsStr));
+		String operation = "by-"+participantType+"/{id}";
+		Map<String, String> pathArgs = createArgMap("id", participantIdsStr);
+		if(!cached)
+			evictMethodResult(region, operation, pathArgs);
+		Response response = getRawMethodResult(region,
+				operation,
+				pathArgs);
 		
 		//Check errors
+		if(response.getCode() == 404 && !leagues.isEmpty())
+			return leagues;
 		checkLeagueErrors(response.getCode(), region, participantIdsStr);
 		
 		//Parse response
-		return convertLeagues((JsonObject)response.getValue());
+		Map<String, List<League>> newLeagues = bindLeagues(new JsonReader((String)response.getValue()));
+		for(Map.Entry<String, List<League>> entry : newLeagues.entrySet())
+			cacheEntity(region, EntityCache.Type.LEAGUES, entry.getKey(), entry.getValue());
+		leagues.putAll(newLeagues);
+		return leagues;
 	}
 	
 	/**
@@ -175,18 +285,30 @@ public class LeagueMethod extends Method
 	{
 		checkAmountOfThings(participantIds, "ID");
 		
-		String participantIdsStr = IOUtil.createCommaDelimitedString(participantIds);
+		//Only request participants that aren't cached
+		Map<String, List<League>> leagues = new HashMap<>();
+		String[] missingIds = getCachedEntities(region, EntityCache.Type.LEAGUE_ENTRIES, participantIds, leagues);
+		if(missingIds.length == 0)
+			return leagues;
+		
+		String participantIdsStr = IOUtil.createCommaDelimitedString(missingIds);
 		
 		//Make request
-		Response response = getMethodResult(region,
+		Response response = getRawMethodResult(region,
 				"by-"+participantType+"/{id}/entry",
 				createArgMap("id", participantIdsStr));
 		
 		//Check errors
+		if(response.getCode() == 404 && !leagues.isEmpty())
+			return leagues;
 		checkLeagueErrors(response.getCode(), region, participantIdsStr);
 		
 		//Parse response
-		return convertLeagues((JsonObject)response.getValue());
+		Map<String, List<League>> newLeagues = bindLeagues(new JsonReader((String)response.getValue()));
+		for(Map.Entry<String, List<League>> entry : newLeagues.entrySet())
+			cacheEntity(region, EntityCache.Type.LEAGUE_ENTRIES, entry.getKey(), entry.getValue());
+		leagues.putAll(newLeagues);
+		return leagues;
 	}
 	
 	/**
@@ -204,88 +326,137 @@ public class LeagueMethod extends Method
 		}
 	}
 	
-	//Private converter methods
+	//Private binding methods
 	
 	/**
-	 * Converts a JSON array of leagues to a list of league objects.
-	 * @param leaguesObject The JSON array to be converted.
-	 * @return The converted list of leagues.
+	 * Binds a JSON object of participant IDs to lists of leagues directly from the reader.
+	 * @param reader The reader, positioned at the object.
+	 * @return The map of participant IDs to leagues.
+	 * @throws RiotApiException If the JSON is malformed.
 	 */
-	private Map<String, List<League>> convertLeagues(JsonObject leaguesObject)
+	private Map<String, List<League>> bindLeagues(JsonReader reader) throws RiotApiException
 	{
-		Map<String, List<League>> leagues = new HashMap<>(leaguesObject.size());
+		Map<String, List<League>> leagues = new HashMap<>();
 		
-		//Convert to list of leagues
-		for(String participantId : leaguesObject.keySet())
+		reader.beginObject();
+		while(reader.hasNext())
 		{
-			JsonArray leaguesArray = leaguesObject.getArray(participantId);
-			List<League> leaguesList = new ArrayList<>(leaguesArray.size());
+			String participantId = reader.nextName();
 			
-			for(JsonIterator it = leaguesArray.iterator(); it.hasNext();)
-				leaguesList.add(convertLeague(it.nextObject()));
+			//Bind list of leagues
+			List<League> leaguesList = new ArrayList<>(2);
+			reader.beginArray();
+			while(reader.hasNext())
+				leaguesList.add(bindLeague(reader));
+			reader.endArray();
 			
-			//Convert league object
 			leagues.put(participantId, leaguesList);
 		}
+		reader.endObject();
 		
 		return leagues;
 	}
 	
 	/**
-	 * Converts a JSON league to a league object.
-	 * @param leagueObject The JSON league.
+	 * Binds a JSON league to a league object directly from the reader.
+	 * @param reader The reader, positioned at the league.
 	 * @return The league.
+	 * @throws RiotApiException If the JSON is malformed.
 	 */
-	private League convertLeague(JsonObject leagueObject)
+	private League bindLeague(JsonReader reader) throws RiotApiException
 	{
-		//Convert league entries list
-		JsonArray entriesArray = leagueObject.getArray("entries");
-		List<League.Entry> entries = new ArrayList<>(entriesArray.size());
-		for(int l = 0; l < entriesArray.size(); l++)
+		String name = null, participantId = null, queue = null, tier = null;
+		List<League.Entry> entries = new ArrayList<>();
+		
+		reader.beginObject();
+		while(reader.hasNext())
 		{
-			JsonObject entryObject = entriesArray.getObject(l);
-			League.Entry entry = convertLeagueEntry(entryObject);
-			entries.add(entry);
+			switch(reader.nextName())
+			{
+				case "name": name = reader.nextString(); break;
+				case "participantId": participantId = reader.nextString(); break;
+				case "queue": queue = reader.nextString(); break;
+				case "tier": tier = reader.nextString(); break;
+				case "entries":
+					reader.beginArray();
+					while(reader.hasNext())
+						entries.add(bindLeagueEntry(reader));
+					reader.endArray();
+					break;
+				default: reader.skipValue();
+			}
 		}
+		reader.endObject();
 		
-		//Create league
-		League league = new League(leagueObject.getString("name"), leagueObject.getString("participantId"), leagueObject.getString("queue"), leagueObject.getString("tier"), entries);
-		return league;
+		return new League(name, participantId, queue, tier, entries);
 	}
 	
 	/**
-	 * Converts a JSON object representing a league entry into a league entry object.
-	 * @param entryObject The JSON object.
-	 * @return The converted league entry.
+	 * Binds a JSON league entry to a league entry object directly from the reader.
+	 * @param reader The reader, positioned at the entry.
+	 * @return The league entry.
+	 * @throws RiotApiException If the JSON is malformed.
 	 */
-	private League.Entry convertLeagueEntry(JsonObject entryObject)
+	private League.Entry bindLeagueEntry(JsonReader reader) throws RiotApiException
 	{
-		//Convert league entry series if exists
-		League.Entry.Series series = convertMiniSeries(entryObject.getObject("miniSeries"));
+		String division = null, playerOrTeamId = null, playerOrTeamName = null;
+		boolean isHotStreak = false, isFreshBlood = false, isVeteran = false, isInactive = false;
+		int wins = 0, leaguePoints = 0;
+		League.Entry.Series series = null;
+		
+		reader.beginObject();
+		while(reader.hasNext())
+		{
+			switch(reader.nextName())
+			{
+				case "division": division = reader.nextString(); break;
+				case "playerOrTeamId": playerOrTeamId = reader.nextString(); break;
+				case "playerOrTeamName": playerOrTeamName = reader.nextString(); break;
+				case "isHotStreak": isHotStreak = reader.nextBoolean(); break;
+				case "isFreshBlood": isFreshBlood = reader.nextBoolean(); break;
+				case "isVeteran": isVeteran = reader.nextBoolean(); break;
+				case "isInactive": isInactive = reader.nextBoolean(); break;
+				case "wins": wins = reader.nextInt(); break;
+				case "leaguePoints": leaguePoints = reader.nextInt(); break;
+				case "miniSeries": series = bindMiniSeries(reader); break;
+				default: reader.skipValue();
+			}
+		}
+		reader.endObject();
 		
-		//Create entry
-		League.Entry entry = new League.Entry(entryObject.getString("division"),
-				entryObject.getString("playerOrTeamId"), entryObject.getString("playerOrTeamName"),
-				entryObject.getBoolean("isHotStreak"), entryObject.getBoolean("isFreshBlood"), entryObject.getBoolean("isVeteran"), entryObject.getBoolean("isInactive"),
-				entryObject.getInt("wins"), entryObject.getInt("leaguePoints"),
-				series);
-		return entry;
+		return new League.Entry(division, playerOrTeamId, playerOrTeamName,
+				isHotStreak, isFreshBlood, isVeteran, isInactive,
+				wins, leaguePoints, series);
 	}
 	
 	/**
-	 * Converts a JSON series object to a series object.
-	 * @param seriesObject The JSON series object.
-	 * @return The converted series object.
+	 * Binds a JSON series object to a series object directly from the reader.
+	 * @param reader The reader, positioned at the series.
+	 * @return The series, or <code>null</code> if the value is null.
+	 * @throws RiotApiException If the JSON is malformed.
 	 */
-	private League.Entry.Series convertMiniSeries(JsonObject seriesObject)
+	private League.Entry.Series bindMiniSeries(JsonReader reader) throws RiotApiException
 	{
-		League.Entry.Series series = null;
-		if(seriesObject != null)
+		if(reader.nextNull())
+			return null;
+		
+		int target = 0, wins = 0, losses = 0;
+		String progress = "";
+		
+		reader.beginObject();
+		while(reader.hasNext())
 		{
-			series = new League.Entry.Series(seriesObject.getInt("target"),
-					seriesObject.getInt("wins"), seriesObject.getInt("losses"),
-					seriesObject.getString("progress"));
+			switch(reader.nextName())
+			{
+				case "target": target = reader.nextInt(); break;
+				case "wins": wins = reader.nextInt(); break;
+				case "losses": losses = reader.nextInt(); break;
+				case "progress": progress = reader.nextString(); break;
+				default: reader.skipValue();
+			}
 		}
-		return series;
+		reader.endObject();
+		
+		return new League.Entry.Series(target, wins, losses, progress);
 	}
 }
@@ -40,6 +40,45 @@ public class LolStatusMethod extends UnlimitedMethod
 		return convertLongShard(root);
 	}
 	
+	/**
+	 * Fetches the status of a shard from the server without converting it, bypassing the cache.
+	 * Used to check if the status changed before converting it with {@link #convertShard(String)}.
+	 * @param region The game region (NA, EUW, EUNE, etc.)
+	 * @return The JSON text of the shard.
+	 * @throws RiotApiException If there was an exception or error from the server.
+	 */
+	public String getShardJson(Region region) throws RiotApiException
+	{
+		Map<String, String> pathArgs = createArgMap("region", region.getValue());
+		evictMethodResult(null, "{region}", pathArgs);
+		Response response = getRawMethodResult(null,
+				"{region}",
+				true,
+				pathArgs, null);
+		
+		if(response.getValue() == null)
+			throw new RiotApiException("Failed to get the status of "+region+": "+response.getCode());
+		return (String)response.getValue();
+	}
+	
+	/**
+	 * Converts the JSON text of a shard, as returned by {@link #getShardJson(Region)}.
+	 * @param json The JSON text.
+	 * @return The shard, with its services.
+	 * @throws RiotApiException If the text couldn't be parsed.
+	 */
+	public Shard convertShard(String json) throws RiotApiException
+	{
+		try
+		{
+			return convertLongShard((JsonObject)JsonParser.parse(json));
+		}
+		catch(JsonParseException e)
+		{
+			throw new RiotApiException("Failed to parse shard status", e);
+		}
+	}
+	
 	//Other methods
 	
 	public void fillShard(Shard shard) throws RiotApiException
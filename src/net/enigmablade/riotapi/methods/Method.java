@@ -1,10 +1,12 @@
 package net.enigmablade.riotapi.methods;
 
 import java.util.*;
+import java.util.concurrent.*;
 import net.enigmablade.riotapi.*;
 import net.enigmablade.riotapi.Requester.*;
 import net.enigmablade.riotapi.constants.*;
 import net.enigmablade.riotapi.exceptions.*;
+import net.enigmablade.riotapi.types.*;
 import net.enigmablade.riotapi.util.*;
 
 /**
@@ -28,6 +30,12 @@ abstract class Method
 	
 	private int maxThings = 40;
 	
+	//URL building
+	private Map<Region, String> urlPrefixes, globalUrlPrefixes;
+	private String noRegionUrlPrefix, noRegionGlobalUrlPrefix;
+	private ConcurrentMap<String, UrlTemplate> operationTemplates = new ConcurrentHashMap<>();
+	private static final ThreadLocal<StringBuilder> urlBuffer = ThreadLocal.withInitial(() -> new StringBuilder(256));
+	
 	//Constructors
 	
 	/**
@@ -46,6 +54,8 @@ abstract class Method
 		this.method = method;
 		this.version = version;
 		this.supportedRegions = supportedRegions;
+		
+		createUrlPrefixes();
 	}
 	
 	protected Method(RiotApi api, String customEndpoint, boolean useUnsecure, String header, String method, String version, Region[] supportedRegions)
@@ -59,6 +69,8 @@ abstract class Method
 		
 		this.customEndpoint = customEndpoint;
 		this.useUnsecure = useUnsecure;
+		
+		createUrlPrefixes();
 	}
 	
 	/**
@@ -141,20 +153,57 @@ abstract class Method
 	 * @param queryArgs The optional query arguments. Appended to the end of a request (arg1=arg1v&arg2=arg2v&...)
 	 * @return The response from the server.
 	 * @throws RegionNotSupportedException If the region is not supported by the method.
+	 * @throws RegionUnavailableException If the region's shard is down (see {@link RegionOutageGate}).
 	 * @throws RiotApiException If there was an exception or error from the server.
 	 */
 	protected Response getMethodResult(Region region, String operation, boolean isGlobal, Map<String, String> pathArgs, Map<String, String> queryArgs) throws RiotApiException
+	{
+		return getMethodResult(region, operation, isGlobal, pathArgs, queryArgs, false);
+	}
+	
+	/**
+	 * Execute a request and get the unparsed result, to be bound directly to objects with a JsonReader.
+	 * The response's value is the JSON text, or may be null if a method-specific error occurred.
+	 * @param region The game region (NA, EUW, EUNE, etc.)
+	 * @param operation The optional operation to perform. Leave <code>null</code> to only execute the method.
+	 * @param pathArgs The optional path arguments. Values in the operation surrounded by { } will be replaced.
+	 * @return The response from the server.
+	 * @throws RegionNotSupportedException If the region is not supported by the method.
+	 * @throws RiotApiException If there was an exception or error from the server.
+	 */
+	protected Response getRawMethodResult(Region region, String operation, Map<String, String> pathArgs) throws RiotApiException
+	{
+		return getMethodResult(region, operation, false, pathArgs, null, true);
+	}
+	
+	protected Response getRawMethodResult(Region region, String operation, Map<String, String> pathArgs, Map<String, String> queryArgs) throws RiotApiException
+	{
+		return getMethodResult(region, operation, false, pathArgs, queryArgs, true);
+	}
+	
+	protected Response getRawMethodResult(Region region, String operation, boolean isGlobal, Map<String, String> pathArgs, Map<String, String> queryArgs) throws RiotApiException
+	{
+		return getMethodResult(region, operation, isGlobal, pathArgs, queryArgs, true);
+	}
+	
+	private Response getMethodResult(Region region, String operation, boolean isGlobal, Map<String, String> pathArgs, Map<String, String> queryArgs, boolean raw) throws RiotApiException
 	{
 		//Check to make sure the requested region is supported
-		if(!isGlobal && !isRegionSupported(region))
-			throw new RegionNotSupportedException(method, region, supportedRegions);
+		if(!isGlobal)
+			checkRegionSupported(region);
 		
-		//Create request URL
+		//Create request URL and the key identifying it
 		String url = buildUrl(region, operation, pathArgs, queryArgs, isGlobal);
+		RequestKey key = new RequestKey(header, method, version, region, operation, pathArgs, queryArgs);
 		
-		//Send request
+		//Requests that would be sent to a region that's down are stopped, cached responses are still served
 		Requester requester = api.getRequester();
-		Response response = requester.request(url);
+		RegionOutageGate gate = api.getOutageGate();
+		if(!isGlobal && region != null && gate.isDown(region) && !requester.isCached(key, raw))
+			gate.check(region);
+		
+		//Send request
+		Response response = raw ? requester.requestRaw(key, url, null, isRateLimited()) : requester.request(key, url, null, isRateLimited());
 		if(response == null)	//null if parse exception, highly unlikely
 			throw new RiotApiException("Uh oh, failed to parse response! That's bad!");
 		
@@ -177,8 +226,261 @@ abstract class Method
 		}
 	}
 	
+	/**
+	 * Removes the cached result of a request, so the next identical request is sent to the server.
+	 * @param region The game region (NA, EUW, EUNE, etc.)
+	 * @param operation The operation, or <code>null</code> if none.
+	 */
+	protected void evictMethodResult(Region region, String operation)
+	{
+		evictMethodResult(region, operation, null);
+	}
+	
+	/**
+	 * Removes the cached result of a request, so the next identical request is sent to the server.
+	 * @param region The game region (NA, EUW, EUNE, etc.)
+	 * @param operation The operation, or <code>null</code> if none.
+	 * @param pathArgs The path arguments of the operation, or <code>null</code> if none.
+	 */
+	protected void evictMethodResult(Region region, String operation, Map<String, String> pathArgs)
+	{
+		evictMethodResult(region, operation, pathArgs, null);
+	}
+	
+	/**
+	 * Removes the cached result of a request with query arguments, so the next identical request is sent to the server.
+	 * @param region The game region (NA, EUW, EUNE, etc.)
+	 * @param operation The operation, or <code>null</code> if none.
+	 * @param pathArgs The path arguments of the operation, or <code>null</code> if none.
+	 * @param queryArgs The query arguments of the operation, or <code>null</code> if none.
+	 */
+	protected void evictMethodResult(Region region, String operation, Map<String, String> pathArgs, Map<String, String> queryArgs)
+	{
+		api.getRequester().evictCache(new RequestKey(header, method, version, region, operation, pathArgs, queryArgs));
+	}
+	
+	//Batch methods
+	
+	/**
+	 * An operation executed on a single batch of things, such as a batch of at most 40 summoner IDs.
+	 * 
+	 * @param <T> The batch type
+	 * @param <K> The result key type
+	 * @param <V> The result value type
+	 */
+	protected interface BatchOperation<T, K, V>
+	{
+		Map<K, V> execute(T batch) throws RiotApiException;
+	}
+	
+	/**
+	 * <p>Executes an operation on any number of IDs by splitting them into batches of the maximum size supported by the method.</p>
+	 * <p>Batches are sent concurrently using the API's executor and the calling thread, and are still subject to the rate limit.
+	 * Batches with none of their things found are ignored.</p>
+	 * @param things The IDs.
+	 * @param operation The operation executed on each batch.
+	 * @return The merged results of all batches.
+	 * @throws RiotApiException If there was an exception or error from the server.
+	 */
+	protected <K, V> Map<K, V> executeInBatches(long[] things, BatchOperation<long[], K, V> operation) throws RiotApiException
+	{
+		List<long[]> batches = new ArrayList<>(things.length/maxThings+1);
+		for(int n = 0; n < things.length; n += maxThings)
+			batches.add(Arrays.copyOfRange(things, n, Math.min(n+maxThings, things.length)));
+		return executeBatches(batches, operation);
+	}
+	
+	/**
+	 * <p>Executes an operation on any number of IDs or names by splitting them into batches of the maximum size supported by the method.</p>
+	 * <p>Batches are sent concurrently using the API's executor and the calling thread, and are still subject to the rate limit.
+	 * Batches with none of their things found are ignored.</p>
+	 * @param things The IDs or names.
+	 * @param operation The operation executed on each batch.
+	 * @return The merged results of all batches.
+	 * @throws RiotApiException If there was an exception or error from the server.
+	 */
+	protected <K, V> Map<K, V> executeInBatches(String[] things, BatchOperation<String[], K, V> operation) throws RiotApiException
+	{
+		List<String[]> batches = new ArrayList<>(things.length/maxThings+1);
+		for(int n = 0; n < things.length; n += maxThings)
+			batches.add(Arrays.copyOfRange(things, n, Math.min(n+maxThings, things.length)));
+		return executeBatches(batches, operation);
+	}
+	
+	private <T, K, V> Map<K, V> executeBatches(List<T> batches, BatchOperation<T, K, V> operation) throws RiotApiException
+	{
+		//No need to bother the executor for a single batch
+		if(batches.size() <= 1)
+		{
+			Map<K, V> results = new HashMap<>();
+			for(T batch : batches)
+				results.putAll(executeBatch(batch, operation));
+			return results;
+		}
+		
+		//Dispatch all batches at once
+		ExecutorService executor = api.getExecutor();
+		List<FutureTask<Map<K, V>>> futures = new ArrayList<>(batches.size());
+		for(T batch : batches)
+		{
+			FutureTask<Map<K, V>> future = new FutureTask<>(() -> executeBatch(batch, operation));
+			futures.add(future);
+			executor.execute(future);
+		}
+		
+		//Merge results in order
+		Map<K, V> results = new HashMap<>();
+		try
+		{
+			//Run batches no worker has started yet on this thread, which may be a worker itself,
+			//so only batches already running are waited on and a full executor can't deadlock
+			for(FutureTask<Map<K, V>> future : futures)
+			{
+				future.run();
+				results.putAll(future.get());
+			}
+		}
+		catch(InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new RiotApiException("Interrupted while waiting for batches", e);
+		}
+		catch(ExecutionException e)
+		{
+			if(e.getCause() instanceof RiotApiException)
+				throw (RiotApiException)e.getCause();
+			throw new RiotApiException("Failed to execute batch", e.getCause());
+		}
+		finally
+		{
+			//Don't waste requests if one of the batches failed
+			for(Future<Map<K, V>> future : futures)
+				future.cancel(false);
+		}
+		return results;
+	}
+	
+	private <T, K, V> Map<K, V> executeBatch(T batch, BatchOperation<T, K, V> operation) throws RiotApiException
+	{
+		try
+		{
+			return operation.execute(batch);
+		}
+		catch(NotFoundException e)
+		{
+			//None of the batch was found, same as an invalid ID in a batch that was
+			return new HashMap<>(0);
+		}
+	}
+	
+	//Entity cache methods
+	
+	/**
+	 * Adds the cached entities of the given IDs to the results and returns the IDs that weren't cached.
+	 * If caching is disabled, nothing is added and all IDs are returned.
+	 * @param region The region of the entities.
+	 * @param type The type of the entities.
+	 * @param ids The IDs.
+	 * @param results The map to which cached entities are added.
+	 * @return The IDs that still need to be requested.
+	 */
+	protected <V> long[] getCachedEntities(Region region, EntityCache.Type type, long[] ids, Map<Long, V> results)
+	{
+		if(!api.isCacheEnabled())
+			return ids;
+		
+		EntityCache cache = api.getEntityCache();
+		long[] missing = new long[ids.length];
+		int numMissing = 0;
+		for(long id : ids)
+		{
+			V value = cache.get(region, type, id);
+			if(value != null)
+				results.put(id, value);
+			else
+				missing[numMissing++] = id;
+		}
+		return numMissing == ids.length ? ids : Arrays.copyOf(missing, numMissing);
+	}
+	
+	/**
+	 * Adds the cached entities of the given IDs or names to the results and returns the IDs or names that weren't cached.
+	 * If caching is disabled, nothing is added and all IDs or names are returned.
+	 * @param region The region of the entities.
+	 * @param type The type of the entities.
+	 * @param ids The IDs or names.
+	 * @param results The map to which cached entities are added.
+	 * @return The IDs or names that still need to be requested.
+	 */
+	protected <V> String[] getCachedEntities(Region region, EntityCache.Type type, String[] ids, Map<String, V> results)
+	{
+		if(!api.isCacheEnabled())
+			return ids;
+		
+		EntityCache cache = api.getEntityCache();
+		String[] missing = new String[ids.length];
+		int numMissing = 0;
+		for(String id : ids)
+		{
+			V value = cache.get(region, type, id);
+			if(value != null)
+				results.put(id, value);
+			else
+				missing[numMissing++] = id;
+		}
+		return numMissing == ids.length ? ids : Arrays.copyOf(missing, numMissing);
+	}
+	
+	/**
+	 * Adds an entity to the entity cache if caching is enabled.
+	 * @param region The region of the entity.
+	 * @param type The type of the entity.
+	 * @param id The ID or name of the entity.
+	 * @param value The entity.
+	 */
+	protected void cacheEntity(Region region, EntityCache.Type type, Object id, Object value)
+	{
+		if(api.isCacheEnabled())
+			api.getEntityCache().put(region, type, id, value);
+	}
+	
+	//Summoner identity helper methods
+	
+	/**
+	 * Returns the canonical instance of a converted summoner if summoner identity mapping is enabled, otherwise the summoner itself.
+	 * @param summoner The converted summoner.
+	 * @return The summoner to hand out.
+	 * @throws RiotApiException If updating the canonical instance failed.
+	 */
+	protected Summoner internSummoner(Summoner summoner) throws RiotApiException
+	{
+		SummonerIdentityMap identityMap = api.getSummonerIdentityMap();
+		return identityMap != null ? identityMap.intern(summoner) : summoner;
+	}
+	
+	/**
+	 * Returns a summoner known only by ID, the canonical instance if summoner identity mapping is enabled.
+	 * @param region The region of the summoner.
+	 * @param id The ID of the summoner.
+	 * @return The summoner, or <code>null</code> if summoner identity mapping is disabled.
+	 */
+	protected Summoner getCanonicalSummoner(Region region, long id)
+	{
+		SummonerIdentityMap identityMap = api.getSummonerIdentityMap();
+		return identityMap != null ? identityMap.get(region, id, () -> new Summoner(api, region, id, null)) : null;
+	}
+	
 	//Helper methods
 	
+	/**
+	 * Returns whether or not requests made by this method count towards the rate limit.
+	 * @return <code>true</code> if requests are rate limited, otherwise <code>false</code>.
+	 */
+	protected boolean isRateLimited()
+	{
+		return true;
+	}
+	
 	/**
 	 * Return whether or not a region is supported by this method.
 	 * @param region The region being checked.
@@ -192,6 +494,17 @@ abstract class Method
 		return false;
 	}
 	
+	/**
+	 * Checks whether or not a region is supported by this method.
+	 * @param region The region being checked.
+	 * @throws RegionNotSupportedException If the region is not supported by the method.
+	 */
+	protected void checkRegionSupported(Region region) throws RegionNotSupportedException
+	{
+		if(!isRegionSupported(region))
+			throw new RegionNotSupportedException(method, region, supportedRegions);
+	}
+	
 	protected void checkAmountOfThings(String[] a, String thingType)
 	{
 		if(a == null || a.length > maxThings)
@@ -209,8 +522,20 @@ abstract class Method
 		this.maxThings = maxThings;
 	}
 	
+	/**
+	 * Returns the maximum number of IDs or names accepted by a single request of this method.
+	 * @return The maximum batch size.
+	 */
+	public int getMaxThings()
+	{
+		return maxThings;
+	}
+	
 	/**
 	 * <p>Build a RESTful URL for the current method in the Riot API from the given information.<p>
+	 * <p>The part of the URL before the operation is precomputed for each region, and the operation is compiled into a template the first time it's used.
+	 * Path arguments are looked up in their map by slot name.
+	 * Query arguments are sorted by key so equal requests always have equal URLs.</p>
 	 * <p><b>Warning</b>: Some arguments are optional, and required arguments are not checked. See argument descriptions for more information.</p>
 	 * @param region <i>Required</i> - The region in which the method is being called.
 	 * @param operation <i>Optional</i> - The more specific operation of the method being called.
@@ -220,19 +545,69 @@ abstract class Method
 	 */
 	private String buildUrl(Region region, String operation, Map<String, String> pathArgs, Map<String, String> queryArgs, boolean useGlobal)
 	{
-		//Format path arguments within the operation
-		if(operation != null && pathArgs != null)
-			operation = IOUtil.replacePathArgs(operation, pathArgs);
+		StringBuilder s = urlBuffer.get();
+		s.setLength(0);
+		
+		//Protocol, endpoint, header, region, version, and method
+		if(region == null)
+			s.append(useGlobal ? noRegionGlobalUrlPrefix : noRegionUrlPrefix);
+		else
+			s.append((useGlobal ? globalUrlPrefixes : urlPrefixes).get(region));
 		
-		//Create string of query arguments (arg=argv&arg2=arg2v...)
-		String queryArgsStr = IOUtil.genQueryArgs(queryArgs);
+		//Operation (optional)
+		if(operation != null)
+		{
+			s.append('/');
+			getOperationTemplate(operation).render(s, pathArgs);
+		}
 		
-		//Create URL and send the request
+		if(!useUnsecure)
+		{
+			s.append("?api_key=").append(api.getApiKey());		//API key
+			UrlTemplate.appendQueryArgs(s, queryArgs, '&');		//Query args
+		}
+		return s.toString();
+	}
+	
+	/**
+	 * Returns the compiled template of an operation, compiling it if required.
+	 * @param operation The operation.
+	 * @return The compiled operation.
+	 */
+	private UrlTemplate getOperationTemplate(String operation)
+	{
+		UrlTemplate template = operationTemplates.get(operation);
+		if(template == null)
+		{
+			template = UrlTemplate.compile(operation);
+			operationTemplates.putIfAbsent(operation, template);
+		}
+		return template;
+	}
+	
+	/**
+	 * Precomputes the parts of the URL before the operation for every region, which never change.
+	 */
+	private void createUrlPrefixes()
+	{
+		urlPrefixes = new EnumMap<>(Region.class);
+		globalUrlPrefixes = new EnumMap<>(Region.class);
+		for(Region region : Region.values())
+		{
+			urlPrefixes.put(region, createUrlPrefix(region, false));
+			globalUrlPrefixes.put(region, createUrlPrefix(region, true));
+		}
+		noRegionUrlPrefix = createUrlPrefix(null, false);
+		noRegionGlobalUrlPrefix = createUrlPrefix(null, true);
+	}
+	
+	private String createUrlPrefix(Region region, boolean useGlobal)
+	{
 		StringBuilder s = new StringBuilder(useUnsecure ? Requester.HTTP_PROTOCOL : Requester.HTTPS_PROTOCOL).append("://");
 		if(customEndpoint != null)
 			s.append(customEndpoint).append('/');
 		else
-			s.append((useGlobal ? Region.GLOBAL.getEndpoint() : region.getEndpoint())).append('/');			//Domain endpoint
+			s.append((useGlobal || region == null ? Region.GLOBAL.getEndpoint() : region.getEndpoint())).append('/');	//Domain endpoint
 		s.append(header);									//Header
 		if(region != null)
 			s.append('/').append(region.getValue());		//Region
@@ -240,18 +615,12 @@ abstract class Method
 			s.append("/v").append(version);					//Version
 		if(method != null)
 			s.append('/').append(method);					//Method
-		if(operation != null)								//Operation (optional)
-			s.append('/').append(operation);
-		if(!useUnsecure)
-		{
-			s.append("?api_key=").append(api.getApiKey());		//API key
-			s.append('&').append(queryArgsStr);					//Query args
-		}
 		return s.toString();
 	}
 	
 	/**
 	 * Return new mapping to be used for the path and query arguments.
+	 * The same map fills the operation's template by name and identifies the request in its {@link RequestKey}.
 	 * @param args The argument pairs. Place the key before the value.
 	 * @return The argument map.
 	 */
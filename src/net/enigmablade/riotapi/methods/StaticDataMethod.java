@@ -1,6 +1,10 @@
 package net.enigmablade.riotapi.methods;
 
+import java.io.*;
+import java.nio.file.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 import net.enigmablade.jsonic.*;
 import net.enigmablade.riotapi.*;
 import net.enigmablade.riotapi.Requester.*;
@@ -27,12 +31,28 @@ import static net.enigmablade.riotapi.constants.Region.*;
  * 		<li></li>
  * 	</ol>
  * </p>
+ * <p>With a {@link StaticDataSnapshot} set, champion and region info requests for the snapshot's region and locale are served from the snapshot.
+ * Once the versions operation reports a newer version than the snapshot's, the new version's static data is downloaded in the background
+ * and swapped in for the old snapshot, which keeps being served until then.</p>
  * @see <a href="https://developer.riotgames.com/api/methods#!/378">Developer site</a>
  * 
  * @author Enigma
  */
-public class StaticDataMethod extends Method
+public class StaticDataMethod extends UnlimitedMethod
 {
+	private static final List<String> CHAMPION_STATS = Arrays.asList(
+			"attackdamage", "attackdamageperlevel", "attackrange",
+			"attackspeedoffset", "attackspeedperlevel", "crit", "critperlevel",
+			"hp", "hpperlevel", "hpregen", "hpregenperlevel",
+			"mp", "mpperlevel", "mpregen", "mpregenperlevel",
+			"armor", "armorperlevel", "spellblock", "spellblockperlevel",
+			"movespeed");		//In the order of the stats constructor
+	
+	private AtomicReference<StaticDataSnapshot> snapshot;
+	private volatile Path snapshotFile;
+	private AtomicBoolean refreshing;
+	private Object refreshLock;
+	
 	/**
 	 * Create a new champion method instance.
 	 * @param api The API instance being used.
@@ -40,6 +60,10 @@ public class StaticDataMethod extends Method
 	public StaticDataMethod(RiotApi api)
 	{
 		super(api, "api/lol/static-data", null, "1.2", new Region[]{NA, EUW, EUNE, LAN, LAS, OCE, BR, TR, RU, KR});
+		
+		snapshot = new AtomicReference<>();
+		refreshing = new AtomicBoolean();
+		refreshLock = new Object();
 	}
 	
 	//API-defined operation methods
@@ -67,7 +91,7 @@ public class StaticDataMethod extends Method
 	 */
 	public Map<String, Champion> getChampions(Region region, Locale locale) throws RiotApiException
 	{
-		return getChampions(region, locale, null);
+		return getChampions(region, locale, (ChampionDataType)null);
 	}
 	
 	/**
@@ -81,19 +105,46 @@ public class StaticDataMethod extends Method
 	 * @throws RiotApiException If there was an exception or error from the server.
 	 */
 	public Map<String, Champion> getChampions(Region region, Locale locale, ChampionDataType championData) throws RiotApiException
+	{
+		return getChampions(region, locale, toDataTypes(championData));
+	}
+	
+	/**
+	 * Returns the specified static data for all champions. Only the requested data is sent and converted.
+	 * @param region The region (<i>required</i>).
+	 * @param locale The language locale (<i>required</i>).
+	 * @param championData The types of data to return. Defaults to basic data if <code>null</code> or empty.
+	 * @return A map of champion IDs to champions.
+	 * @throws RegionNotSupportedException If the region is not supported.
+	 * @throws IllegalArgumentException If any required arguments are invalid.
+	 * @throws RiotApiException If there was an exception or error from the server.
+	 */
+	public Map<String, Champion> getChampions(Region region, Locale locale, EnumSet<ChampionDataType> championData) throws RiotApiException
+	{
+		//Serve from the snapshot, which has all data
+		StaticDataSnapshot snapshot = getSnapshot(region, locale);
+		if(snapshot != null)
+			return new HashMap<>(snapshot.getChampions());
+		
+		return requestChampions(region, locale, championData);
+	}
+	
+	private Map<String, Champion> requestChampions(Region region, Locale locale, EnumSet<ChampionDataType> championData) throws RiotApiException
 	{
 		//Create argument maps
 		Map<String, String> queryArgs = createLocaleArgMap(locale);
-		if(championData != null && championData != ChampionDataType.BASIC)
-			queryArgs.put("champData", championData.toString().toLowerCase());
+		String champData = createDataArg(championData, ChampionDataType.ALL, ChampionDataType.BASIC);
+		if(champData != null)
+			queryArgs.put("champData", champData);
 		
 		//Send request
-		Response response = staticGetMethodResult(region,
+		Response response = getRawMethodResult(region,
 				"champion",
-				null, queryArgs);
+				true, null, queryArgs);
 		
 		//Parse response
-		return convertChampionList((JsonObject)response.getValue(), championData, region, locale);
+		JsonReader reader = new JsonReader((String)response.getValue());
+		return bindChampionList(reader, championData, region, locale);
 	}
 	
 	/**
@@ -169,7 +220,7 @@ public class StaticDataMethod extends Method
 	 */
 	public Champion getChampion(Region region, Locale locale, long championId) throws RiotApiException
 	{
-		return getChampion(region, locale, championId, null);
+		return getChampion(region, locale, championId, (ChampionDataType)null);
 	}
 	
 	/**
@@ -186,24 +237,52 @@ public class StaticDataMethod extends Method
 	 */
 	public Champion getChampion(Region region, Locale locale, long championId, ChampionDataType championData) throws RiotApiException
 	{
+		return getChampion(region, locale, championId, toDataTypes(championData));
+	}
+	
+	/**
+	 * Returns the specified static data for the champion with the given ID. Only the requested data is sent and converted.
+	 * @param region The region (<i>required</i>).
+	 * @param locale The language locale (<i>required</i>).
+	 * @param championId The champion ID.
+	 * @param championData The types of data to return. Defaults to basic data if <code>null</code> or empty.
+	 * @return The champion.
+	 * @throws RegionNotSupportedException If the region is not supported.
+	 * @throws IllegalArgumentException If any required arguments are invalid.
+	 * @throws StaticDataNotFoundException If no champion was found with the given champion ID.
+	 * @throws RiotApiException If there was an exception or error from the server.
+	 */
+	public Champion getChampion(Region region, Locale locale, long championId, EnumSet<ChampionDataType> championData) throws RiotApiException
+	{
+		//Serve from the snapshot, which has all data
+		StaticDataSnapshot snapshot = getSnapshot(region, locale);
+		if(snapshot != null)
+		{
+			Champion champion = snapshot.getChampion(championId);
+			if(champion != null)
+				return champion;
+		}
+		
 		//Create argument maps
 		Map<String, String> pathArgs = createArgMap("id", String.valueOf(championId));
 		
 		Map<String, String> queryArgs = createLocaleArgMap(locale);
-		if(championData != null && championData != ChampionDataType.BASIC)
-			queryArgs.put("champData", championData.toString().toLowerCase());
+		String champData = createDataArg(championData, ChampionDataType.ALL, ChampionDataType.BASIC);
+		if(champData != null)
+			queryArgs.put("champData", champData);
 		
 		//Send request
-		Response response = staticGetMethodResult(region,
+		Response response = getRawMethodResult(region,
 				"champion/{id}",
-				pathArgs, queryArgs);
+				true, pathArgs, queryArgs);
 		
 		//Check errors
 		if(response.getCode() == 404)
 			throw new StaticDataNotFoundException(region, String.valueOf(championId));
 		
 		//Parse response
-		return convertChampion((JsonObject)response.getValue(), championData, region, locale);
+		JsonReader reader = new JsonReader((String)response.getValue());
+		return bindChampion(reader, championData, region, locale);
 	}
 	
 	////Masteries
@@ -230,15 +309,30 @@ public class StaticDataMethod extends Method
 	
 	public Masteries getMasteries(Region region, Locale locale) throws RiotApiException
 	{
-		return getMasteries(region, locale, null);
+		return getMasteries(region, locale, (MasteryDataType)null);
 	}
 	
 	public Masteries getMasteries(Region region, Locale locale, MasteryDataType masteryData) throws RiotApiException
+	{
+		return getMasteries(region, locale, toDataTypes(masteryData));
+	}
+	
+	/**
+	 * Returns the specified static data for all masteries.
+	 * @param region The region (<i>required</i>).
+	 * @param locale The language locale (<i>required</i>).
+	 * @param masteryData The types of data to return. Defaults to basic data if <code>null</code> or empty.
+	 * @return The masteries.
+	 * @throws RegionNotSupportedException If the region is not supported.
+	 * @throws RiotApiException If there was an exception or error from the server.
+	 */
+	public Masteries getMasteries(Region region, Locale locale, EnumSet<MasteryDataType> masteryData) throws RiotApiException
 	{
 		//Create argument maps
 		Map<String, String> queryArgs = createLocaleArgMap(locale);
-		if(masteryData != null && masteryData != MasteryDataType.BASIC)
-			queryArgs.put("masteryListData", masteryData.toString().toLowerCase());
+		String masteryListData = createDataArg(masteryData, MasteryDataType.ALL, MasteryDataType.BASIC);
+		if(masteryListData != null)
+			queryArgs.put("masteryListData", masteryListData);
 		
 		//Send request
 		Response response = staticGetMethodResult(region,
@@ -257,6 +351,16 @@ public class StaticDataMethod extends Method
 	}
 	
 	public RegionInfo getRegionInfo(Region region) throws RiotApiException
+	{
+		//Serve from the snapshot, region info doesn't depend on the locale
+		StaticDataSnapshot snapshot = this.snapshot.get();
+		if(snapshot != null && snapshot.getRegion() == region && snapshot.getRegionInfo() != null)
+			return snapshot.getRegionInfo();
+		
+		return requestRegionInfo(region);
+	}
+	
+	private RegionInfo requestRegionInfo(Region region) throws RiotApiException
 	{
 		//Send request
 		Response response = staticGetMethodResult(region, "realm");
@@ -273,6 +377,18 @@ public class StaticDataMethod extends Method
 	}
 	
 	public List<String> getVersions(Region region) throws RiotApiException
+	{
+		List<String> versions = requestVersions(region);
+		
+		//Replace the snapshot in the background once there's a new patch
+		StaticDataSnapshot snapshot = this.snapshot.get();
+		if(snapshot != null && snapshot.getRegion() == region && !versions.isEmpty() && !versions.get(0).equals(snapshot.getVersion()))
+			refreshSnapshotInBackground();
+		
+		return versions;
+	}
+	
+	private List<String> requestVersions(Region region) throws RiotApiException
 	{
 		//Send request
 		Response response = staticGetMethodResult(region, "versions");
@@ -295,293 +411,489 @@ public class StaticDataMethod extends Method
 	
 	////Champion
 	
-	private Map<String, Champion> convertChampionList(JsonObject rootObject, ChampionDataType loadedData, Region region, Locale locale)
+	/**
+	 * Binds a JSON champion list to champion objects directly from the reader.
+	 * @param reader The reader, positioned at the champion list.
+	 * @param loadedData The requested types of data, which are bound and marked loaded.
+	 * @param region The region of the champions.
+	 * @param locale The locale of the champions.
+	 * @return A map of champion keys to champions.
+	 * @throws RiotApiException If the JSON is malformed.
+	 */
+	private Map<String, Champion> bindChampionList(JsonReader reader, EnumSet<ChampionDataType> loadedData, Region region, Locale locale) throws RiotApiException
 	{
-		//Convert the list of champions
-		JsonObject championsObject = rootObject.getObject("data");
-		Map<String, Champion> champions = new HashMap<>(championsObject.size());
-		for(String championKey : championsObject.keySet())
+		Map<String, Champion> champions = new HashMap<>();
+		
+		reader.beginObject();
+		while(reader.hasNext())
 		{
-			//Convert a champion
-			JsonObject championObject = championsObject.getObject(championKey);
-			Champion champion = convertChampion(championObject, loadedData, region, locale);
-			champions.put(championKey, champion);
+			if(!reader.nextName().equals("data"))
+			{
+				reader.skipValue();
+				continue;
+			}
+			
+			//Bind the list of champions
+			reader.beginObject();
+			while(reader.hasNext())
+			{
+				String championKey = reader.nextName();
+				champions.put(championKey, bindChampion(reader, loadedData, region, locale));
+			}
+			reader.endObject();
 		}
+		reader.endObject();
+		
 		return champions;
 	}
 	
-	private Champion convertChampion(JsonObject championObject, ChampionDataType loadedData, Region region, Locale locale)
+	/**
+	 * Binds a JSON champion to a champion object directly from the reader. Values of data types that weren't requested are skipped.
+	 * @param reader The reader, positioned at the champion.
+	 * @param loadedData The requested types of data, which are bound and marked loaded.
+	 * @param region The region of the champion.
+	 * @param locale The locale of the champion.
+	 * @return The champion.
+	 * @throws RiotApiException If the JSON is malformed.
+	 */
+	private Champion bindChampion(JsonReader reader, EnumSet<ChampionDataType> loadedData, Region region, Locale locale) throws RiotApiException
 	{
-		String name = championObject.getString("name");
-		long id = championObject.getLong("id");
-		String key = championObject.getString("key");
-		String title = championObject.getString("title");
+		EnumSet<ChampionDataType> types = loadedData == null ? EnumSet.noneOf(ChampionDataType.class) :
+				loadedData.contains(ChampionDataType.ALL) ? EnumSet.allOf(ChampionDataType.class) : loadedData;
 		
-		Champion c = new Champion(api, region, locale, name, id, key, title);
+		String name = null, key = null, title = null;
+		long id = 0;
+		String partype = null, blurb = null, lore = null;
+		int[] info = null;
+		List<String> allyTips = null, enemyTips = null, tags = null;
+		List<RecommendedItems> recommended = null;
+		List<Skin> skins = null;
+		List<Spell> spells = null;
+		Image image = null;
+		Passive passive = null;
+		Champion.Stats stats = null;
 		
-		if(loadedData != null)
+		reader.beginObject();
+		while(reader.hasNext())
 		{
-			boolean notAll = loadedData != ChampionDataType.ALL;
+			String field = reader.nextName();
+			switch(field)
+			{
+				case "name": name = reader.nextString(); continue;
+				case "id": id = reader.nextLong(); continue;
+				case "key": key = reader.nextString(); continue;
+				case "title": title = reader.nextString(); continue;
+			}
 			
-			switch(loadedData)
+			//Only bind exactly the requested data
+			ChampionDataType type = getChampionDataType(field);
+			if(type == null || !types.contains(type))
+			{
+				reader.skipValue();
+				continue;
+			}
+			if(reader.nextNull())
+				continue;
+			
+			switch(type)
 			{
 				//Basic data
-				case ALL:
-				case PARTYPE:
-					String partype = championObject.getString("partype");
-					ResourceType resourceType = ResourceType.getResourceType(partype);
-					c.setResourceType(resourceType);
-					if(notAll) break;
-				
-				case BLURB:
-					String blurb = championObject.getString("blurb");
-					c.setBlurb(blurb);
-					if(notAll) break;
-				
-				case LORE:
-					String lore = championObject.getString("lore");
-					c.setLore(lore);
-					if(notAll) break;
-				
-				case INFO:
-					JsonObject infoObject = championObject.getObject("info");
-					c.setInfo(infoObject.getInt("attack"), infoObject.getInt("magic"), infoObject.getInt("defense"), infoObject.getInt("difficulty"));
-					if(notAll) break;
+				case PARTYPE: partype = reader.nextString(); break;
+				case BLURB: blurb = reader.nextString(); break;
+				case LORE: lore = reader.nextString(); break;
+				case INFO: info = bindChampionInfo(reader); break;
 				
 				//Lists
-				case ALLYTIPS:
-					JsonArray allyTipsArray = championObject.getArray("allytips");
-					List<String> allyTips = convertChampionTips(allyTipsArray);
-					c.setAllyTips(allyTips);
-					if(notAll) break;
-				
-				case ENEMYTIPS:
-					JsonArray enemyTipsArray = championObject.getArray("enemytips");
-					List<String> enemyTips = convertChampionTips(enemyTipsArray);
-					c.setEnemyTips(enemyTips);
-					if(notAll) break;
-				
-				case RECOMMENDED:
-					JsonArray recommendedArray = championObject.getArray("recommended");
-					List<RecommendedItems> recommended = convertChampionRecommended(recommendedArray);
-					c.setRecommendedItems(recommended);
-					if(notAll) break;
-				
-				case SKINS:
-					JsonArray skinsArray = championObject.getArray("skins");
-					List<Skin> skins = convertChampionSkins(skinsArray);
-					c.setSkins(skins);
-					if(notAll) break;
-				
-				case SPELLS:
-					JsonArray spellsArray = championObject.getArray("spells");
-					List<Spell> spells = convertSpells(spellsArray);
-					c.setSpells(spells);
-					if(notAll) break;
-				
-				case TAGS:
-					JsonArray tagsArray = championObject.getArray("tags");
-					List<String> tags = convertChampionTags(tagsArray);
-					c.setTags(tags);
-					if(notAll) break;
+				case ALLYTIPS: allyTips = bindStringList(reader); break;
+				case ENEMYTIPS: enemyTips = bindStringList(reader); break;
+				case RECOMMENDED: recommended = bindChampionRecommended(reader); break;
+				case SKINS: skins = bindChampionSkins(reader); break;
+				case SPELLS: spells = bindSpells(reader); break;
+				case TAGS: tags = bindStringList(reader); break;
 				
 				//Objects
-				case IMAGE:
-					JsonObject imageObject = championObject.getObject("image");
-					Image image = convertImage(imageObject);
-					c.setImage(image);
-					if(notAll) break;
-				
-				case PASSIVE:
-					JsonObject passiveObject = championObject.getObject("passive");
-					Passive passive = convertChampionPassive(passiveObject);
-					c.setPassive(passive);
-					if(notAll) break;
-				
-				case STATS:
-					JsonObject statsObject = championObject.getObject("stats");
-					Champion.Stats stats = convertChampionStats(statsObject);
-					c.setStats(stats);
-					if(notAll) break;
+				case IMAGE: image = bindImage(reader); break;
+				case PASSIVE: passive = bindChampionPassive(reader); break;
+				case STATS: stats = bindChampionStats(reader); break;
+				default: reader.skipValue();		//Basic and all aren't fields
+			}
+		}
+		reader.endObject();
+		
+		Champion c = new Champion(api, region, locale, name, id, key, title);
+		
+		//Set exactly the requested data and mark it loaded
+		for(ChampionDataType type : types)
+		{
+			switch(type)
+			{
+				case PARTYPE: c.setResourceType(ResourceType.getResourceType(partype)); break;
+				case BLURB: c.setBlurb(blurb); break;
+				case LORE: c.setLore(lore); break;
+				case INFO:
+					if(info != null)
+						c.setInfo(info[0], info[1], info[2], info[3]);
+					break;
+				case ALLYTIPS: c.setAllyTips(allyTips); break;
+				case ENEMYTIPS: c.setEnemyTips(enemyTips); break;
+				case RECOMMENDED: c.setRecommendedItems(recommended); break;
+				case SKINS: c.setSkins(skins); break;
+				case SPELLS: c.setSpells(spells); break;
+				case TAGS: c.setTags(tags); break;
+				case IMAGE: c.setImage(image); break;
+				case PASSIVE: c.setPassive(passive); break;
+				case STATS: c.setStats(stats); break;
+				default: break;
 			}
+			c.setStaticDataLoaded(type);
 		}
 		
 		return c;
 	}
 	
-	private List<String> convertChampionTips(JsonArray tipsArray)
+	/**
+	 * Returns the data type of a champion field.
+	 * @param field The name of the field.
+	 * @return The data type, or <code>null</code> if the field isn't part of any.
+	 */
+	private static ChampionDataType getChampionDataType(String field)
 	{
-		List<String> tips = new ArrayList<>(tipsArray.size());
-		for(JsonIterator it = tipsArray.iterator(); it.hasNext();)
-			tips.add(it.nextString());
-		return tips;
+		switch(field)
+		{
+			case "partype": return ChampionDataType.PARTYPE;
+			case "blurb": return ChampionDataType.BLURB;
+			case "lore": return ChampionDataType.LORE;
+			case "info": return ChampionDataType.INFO;
+			case "allytips": return ChampionDataType.ALLYTIPS;
+			case "enemytips": return ChampionDataType.ENEMYTIPS;
+			case "recommended": return ChampionDataType.RECOMMENDED;
+			case "skins": return ChampionDataType.SKINS;
+			case "spells": return ChampionDataType.SPELLS;
+			case "tags": return ChampionDataType.TAGS;
+			case "image": return ChampionDataType.IMAGE;
+			case "passive": return ChampionDataType.PASSIVE;
+			case "stats": return ChampionDataType.STATS;
+			default: return null;
+		}
 	}
 	
-	private List<String> convertChampionTags(JsonArray tagsArray)
+	/**
+	 * Binds the info ranks of a champion.
+	 * @param reader The reader, positioned at the info object.
+	 * @return The attack, magic, defense, and difficulty ranks.
+	 * @throws RiotApiException If the JSON is malformed.
+	 */
+	private int[] bindChampionInfo(JsonReader reader) throws RiotApiException
 	{
-		List<String> tags = new ArrayList<>(tagsArray.size());
-		for(JsonIterator it = tagsArray.iterator(); it.hasNext();)
-			tags.add(it.nextString());
-		return tags;
+		int[] info = new int[4];
+		
+		reader.beginObject();
+		while(reader.hasNext())
+		{
+			switch(reader.nextName())
+			{
+				case "attack": info[0] = reader.nextInt(); break;
+				case "magic": info[1] = reader.nextInt(); break;
+				case "defense": info[2] = reader.nextInt(); break;
+				case "difficulty": info[3] = reader.nextInt(); break;
+				default: reader.skipValue();
+			}
+		}
+		reader.endObject();
+		
+		return info;
 	}
 	
-	private List<RecommendedItems> convertChampionRecommended(JsonArray recommendedArray)
+	private List<RecommendedItems> bindChampionRecommended(JsonReader reader) throws RiotApiException
 	{
-		List<RecommendedItems> recommendedItems = new ArrayList<>(recommendedArray.size());
-		for(JsonIterator it = recommendedArray.iterator(); it.hasNext();)
+		List<RecommendedItems> recommendedItems = new ArrayList<>();
+		
+		reader.beginArray();
+		while(reader.hasNext())
 		{
-			JsonObject recommendedObject = it.nextObject();
+			String champion = null, map = null, mode = null, type = null, title = null;
+			boolean priority = false;
+			List<RecommendedItems.Block> blocks = new ArrayList<>();
 			
-			//Convert blocks
-			JsonArray blocksArray = recommendedObject.getArray("blocks");
-			List<RecommendedItems.Block> blocks = new ArrayList<>(blocksArray.size());
-			for(JsonIterator it2 = blocksArray.iterator(); it2.hasNext();)
+			reader.beginObject();
+			while(reader.hasNext())
 			{
-				JsonObject blockObject = it2.nextObject();
-				
-				//Convert items
-				JsonArray itemsArray = blockObject.getArray("items");
-				if(itemsArray != null)
+				switch(reader.nextName())
 				{
-					List<RecommendedItems.Block.Item> items = new ArrayList<>(itemsArray.size());
-					for(JsonIterator it3 = itemsArray.iterator(); it3.hasNext();)
-					{
-						JsonObject itemObject = it3.nextObject();
-						
-						//Convert item
-						RecommendedItems.Block.Item item = new RecommendedItems.Block.Item(itemObject.getString("id"), itemObject.getInt("count"));
-						items.add(item);
-					}
-					
-					//Convert block
-					RecommendedItems.Block block = new RecommendedItems.Block(blockObject.getString("type"), items);
-					blocks.add(block);
+					case "champion": champion = reader.nextString(); break;
+					case "map": map = reader.nextString(); break;
+					case "mode": mode = reader.nextString(); break;
+					case "type": type = reader.nextString(); break;
+					case "title": title = reader.nextString(); break;
+					case "priority": priority = reader.nextBoolean(); break;
+					case "blocks":
+						reader.beginArray();
+						while(reader.hasNext())
+						{
+							RecommendedItems.Block block = bindChampionRecommendedBlock(reader);
+							if(block != null)
+								blocks.add(block);
+						}
+						reader.endArray();
+						break;
+					default: reader.skipValue();
 				}
 			}
+			reader.endObject();
 			
-			//Convert recommended set
-			RecommendedItems recommended = new RecommendedItems(recommendedObject.getString("champion"),
-					recommendedObject.getString("map"), recommendedObject.getString("mode"), recommendedObject.getString("type"),
-					recommendedObject.getString("title"), recommendedObject.getBoolean("priority"),
-					blocks);
-			recommendedItems.add(recommended);
+			recommendedItems.add(new RecommendedItems(champion, map, mode, type, title, priority, blocks));
 		}
+		reader.endArray();
+		
 		return recommendedItems;
 	}
 	
-	private List<Skin> convertChampionSkins(JsonArray skinsArray)
+	/**
+	 * Binds a block of recommended items.
+	 * @param reader The reader, positioned at the block.
+	 * @return The block, or <code>null</code> if it has no items.
+	 * @throws RiotApiException If the JSON is malformed.
+	 */
+	private RecommendedItems.Block bindChampionRecommendedBlock(JsonReader reader) throws RiotApiException
 	{
-		List<Skin> skins = new ArrayList<>(skinsArray.size());
-		for(JsonIterator it = skinsArray.iterator(); it.hasNext();)
+		String type = null;
+		List<RecommendedItems.Block.Item> items = null;
+		
+		reader.beginObject();
+		while(reader.hasNext())
 		{
-			JsonObject skinObject = it.nextObject();
+			switch(reader.nextName())
+			{
+				case "type": type = reader.nextString(); break;
+				case "items":
+					if(reader.nextNull())
+						break;
+					items = new ArrayList<>();
+					reader.beginArray();
+					while(reader.hasNext())
+					{
+						String id = null;
+						int count = 0;
+						
+						reader.beginObject();
+						while(reader.hasNext())
+						{
+							switch(reader.nextName())
+							{
+								case "id": id = reader.nextString(); break;
+								case "count": count = reader.nextInt(); break;
+								default: reader.skipValue();
+							}
+						}
+						reader.endObject();
+						
+						items.add(new RecommendedItems.Block.Item(id, count));
+					}
+					reader.endArray();
+					break;
+				default: reader.skipValue();
+			}
+		}
+		reader.endObject();
+		
+		return items != null ? new RecommendedItems.Block(type, items) : null;
+	}
+	
+	private List<Skin> bindChampionSkins(JsonReader reader) throws RiotApiException
+	{
+		List<Skin> skins = new ArrayList<>();
+		
+		reader.beginArray();
+		while(reader.hasNext())
+		{
+			String id = null, name = null;
+			int num = 0;
+			
+			reader.beginObject();
+			while(reader.hasNext())
+			{
+				switch(reader.nextName())
+				{
+					case "id": id = reader.nextString(); break;
+					case "name": name = reader.nextString(); break;
+					case "num": num = reader.nextInt(); break;
+					default: reader.skipValue();
+				}
+			}
+			reader.endObject();
 			
-			//Convert skin
-			Skin skin = new Skin(
-					skinObject.getString("id"),
-					skinObject.getString("name"),
-					skinObject.getInt("num"));
-			skins.add(skin);
+			skins.add(new Skin(id, name, num));
 		}
+		reader.endArray();
+		
 		return skins;
 	}
 	
-	private Champion.Stats convertChampionStats(JsonObject statsObject)
+	private Champion.Stats bindChampionStats(JsonReader reader) throws RiotApiException
 	{
-		Champion.Stats stats = new Champion.Stats(
-				statsObject.getDouble("attackdamage"), statsObject.getDouble("attackdamageperlevel"), statsObject.getDouble("attackrange"),
-				statsObject.getDouble("attackspeedoffset"), statsObject.getDouble("attackspeedperlevel"), statsObject.getDouble("crit"), statsObject.getDouble("critperlevel"),
-				statsObject.getDouble("hp"), statsObject.getDouble("hpperlevel"), statsObject.getDouble("hpregen"), statsObject.getDouble("hpregenperlevel"),
-				statsObject.getDouble("mp"), statsObject.getDouble("mpperlevel"), statsObject.getDouble("mpregen"), statsObject.getDouble("mpregenperlevel"),
-				statsObject.getDouble("armor"), statsObject.getDouble("armorperlevel"), statsObject.getDouble("spellblock"), statsObject.getDouble("spellblockperlevel"),
-				statsObject.getDouble("movespeed"));
-		return stats;
+		double[] s = new double[CHAMPION_STATS.size()];
+		
+		reader.beginObject();
+		while(reader.hasNext())
+		{
+			int n = CHAMPION_STATS.indexOf(reader.nextName());
+			if(n >= 0)
+				s[n] = reader.nextDouble();
+			else
+				reader.skipValue();
+		}
+		reader.endObject();
+		
+		return new Champion.Stats(
+				s[0], s[1], s[2],
+				s[3], s[4], s[5], s[6],
+				s[7], s[8], s[9], s[10],
+				s[11], s[12], s[13], s[14],
+				s[15], s[16], s[17], s[18],
+				s[19]);
+	}
+	
+	private Passive bindChampionPassive(JsonReader reader) throws RiotApiException
+	{
+		String name = null, description = null;
+		Image image = null;
+		
+		reader.beginObject();
+		while(reader.hasNext())
+		{
+			switch(reader.nextName())
+			{
+				case "name": name = reader.nextString(); break;
+				case "description": description = reader.nextString(); break;
+				case "image": image = bindImage(reader); break;
+				default: reader.skipValue();
+			}
+		}
+		reader.endObject();
+		
+		return new Passive(name, description, image);
 	}
 	
-	private Passive convertChampionPassive(JsonObject passiveObject)
+	private List<Spell> bindSpells(JsonReader reader) throws RiotApiException
 	{
-		Image image = convertImage(passiveObject.getObject("image"));
-		Passive passive = new Passive(passiveObject.getString("name"), passiveObject.getString("description"), image);
-		return passive;
+		List<Spell> spells = new ArrayList<>();
+		
+		reader.beginArray();
+		while(reader.hasNext())
+			spells.add(bindSpell(reader));
+		reader.endArray();
+		
+		return spells;
 	}
 	
-	private List<Spell> convertSpells(JsonArray spellArray)
+	/**
+	 * Binds a JSON spell to a spell object directly from the reader.
+	 * @param reader The reader, positioned at the spell.
+	 * @return The spell.
+	 * @throws RiotApiException If the JSON is malformed.
+	 */
+	private Spell bindSpell(JsonReader reader) throws RiotApiException
 	{
-		List<Spell> spells = new ArrayList<>(spellArray.size());
-		for(JsonIterator it = spellArray.iterator(); it.hasNext();)
+		String name = null, id = null, description = null, tooltip = null;
+		String costType = null, resource = null, costBurn = null, cooldownBurn = null, rangeBurn = null;
+		int maxRank = 0;
+		Image image = null;
+		List<String> levelTipLabels = new ArrayList<>(0), levelTipEffects = new ArrayList<>(0), effectBurns = new ArrayList<>(0);
+		List<Integer> costs = new ArrayList<>(0), cooldowns = new ArrayList<>(0), ranges = null;
+		List<List<Integer>> effects = new ArrayList<>();
+		Object varsValue = null;
+		
+		reader.beginObject();
+		while(reader.hasNext())
 		{
-			JsonObject spellObject = it.nextObject();
-			
-			//Convert spell
-			Image image = convertImage(spellObject.getObject("image"));
-			Spell spell = new Spell(spellObject.getString("name"), spellObject.getString("id"), spellObject.getString("description"), image);
-			spells.add(spell);
-			
-			//Convert general
-			JsonObject levelTipObject = spellObject.getObject("leveltip");
-			List<String> levelTipLabels = ApiUtil.convertStringArray(levelTipObject.getArray("label"));
-			List<String> levelTipEffects = ApiUtil.convertStringArray(levelTipObject.getArray("effect"));
-			
-			JsonArray varsArray = spellObject.getArray("vars");
-			List<Spell.SpellVar> vars = convertSpellVars(varsArray, spell);
-			
-			spell.initGeneral(spellObject.getString("tooltip"), levelTipLabels, levelTipEffects, spellObject.getInt("maxrank"), vars);
-			
-			//Convert resource
-			ResourceType resourceType = ResourceType.getResourceType(spellObject.getString("costType"));
-			List<Integer> costs = ApiUtil.convertIntArray(spellObject.getArray("cost"));
-			
-			spell.initResource(resourceType, spellObject.getString("resource"), costs, spellObject.getString("costBurn"));
-			
-			//Convert info
-			List<Integer> cooldowns = ApiUtil.convertIntArray(spellObject.getArray("cooldown"));
-			
-			Object rangeObj = spellObject.get("range");
-			List<Integer> ranges = null;
-			if(ValueUtil.isJsonArray(rangeObj))	//Leave the range null if not an array, means it's "self"
-				ranges = ApiUtil.convertIntArray(spellObject.getArray("range"));
-			
-			spell.initInfo(cooldowns, spellObject.getString("cooldownBurn"), ranges, spellObject.getString("rangeBurn"));
-			
-			//Convert effects
-			JsonArray effectsArray = spellObject.getArray("effect");
-			List<List<Integer>> effects = new ArrayList<List<Integer>>();
-			if(effectsArray != null)
+			switch(reader.nextName())
 			{
-				for(JsonIterator it2 = effectsArray.iterator(); it2.hasNext();)
-					effects.add(ApiUtil.convertIntArray(it2.nextArray()));
+				case "name": name = reader.nextString(); break;
+				case "id": id = reader.nextString(); break;
+				case "description": description = reader.nextString(); break;
+				case "image": image = bindImage(reader); break;
+				
+				//General
+				case "tooltip": tooltip = reader.nextString(); break;
+				case "maxrank": maxRank = reader.nextInt(); break;
+				case "leveltip":
+					if(reader.nextNull())
+						break;
+					reader.beginObject();
+					while(reader.hasNext())
+					{
+						switch(reader.nextName())
+						{
+							case "label": levelTipLabels = bindStringList(reader); break;
+							case "effect": levelTipEffects = bindStringList(reader); break;
+							default: reader.skipValue();
+						}
+					}
+					reader.endObject();
+					break;
+				case "vars": varsValue = reader.nextValue(); break;
+				
+				//Resource
+				case "costType": costType = reader.nextString(); break;
+				case "resource": resource = reader.nextString(); break;
+				case "cost": costs = bindIntList(reader); break;
+				case "costBurn": costBurn = reader.nextString(); break;
+				
+				//Info
+				case "cooldown": cooldowns = bindIntList(reader); break;
+				case "cooldownBurn": cooldownBurn = reader.nextString(); break;
+				case "range":
+					if(reader.peek() == JsonReader.Token.BEGIN_ARRAY)
+						ranges = bindIntList(reader);
+					else
+						reader.skipValue();		//Leave the range null if not an array, means it's "self"
+					break;
+				case "rangeBurn": rangeBurn = reader.nextString(); break;
+				
+				//Effects
+				case "effect":
+					if(reader.nextNull())
+						break;
+					reader.beginArray();
+					while(reader.hasNext())
+						effects.add(bindIntList(reader));
+					reader.endArray();
+					break;
+				case "effectBurn": effectBurns = bindStringList(reader); break;
+				default: reader.skipValue();
 			}
-			
-			List<String> effectBurns = ApiUtil.convertStringArray(spellObject.getArray("effectBurn"));
-			
-			spell.initEffects(effects, effectBurns);
 		}
-		return spells;
+		reader.endObject();
+		
+		Spell spell = new Spell(name, id, description, image);
+		spell.initGeneral(tooltip, levelTipLabels, levelTipEffects, maxRank, convertSpellVars(varsValue, spell));
+		spell.initResource(ResourceType.getResourceType(costType), resource, costs, costBurn);
+		spell.initInfo(cooldowns, cooldownBurn, ranges, rangeBurn);
+		spell.initEffects(effects, effectBurns);
+		return spell;
 	}
 	
-	private List<Spell.SpellVar> convertSpellVars(JsonArray spellVarsArray, Spell spell)
+	/**
+	 * Converts the variables of a spell, which are bound as plain values since the spell has to exist to create them.
+	 * @param varsValue The variables, as a list of maps.
+	 * @param spell The spell.
+	 * @return The spell variables.
+	 */
+	private List<Spell.SpellVar> convertSpellVars(Object varsValue, Spell spell)
 	{
-		if(spellVarsArray == null)
+		if(!(varsValue instanceof List))
 			return new ArrayList<>(0);
 		
-		List<Spell.SpellVar> vars = new ArrayList<>(spellVarsArray.size());
-		for(JsonIterator it = spellVarsArray.iterator(); it.hasNext();)
+		List<?> varValues = (List<?>)varsValue;
+		List<Spell.SpellVar> vars = new ArrayList<>(varValues.size());
+		for(Object varValue : varValues)
 		{
-			JsonObject varObject = it.nextObject();
-			String key = varObject.getString("key");
-			String link = varObject.getString("link");
-			boolean dynamic = "+".equals(varObject.getString("dyn"));
+			Map<?, ?> varMap = (Map<?, ?>)varValue;
+			String key = (String)varMap.get("key");
+			String link = (String)varMap.get("link");
+			boolean dynamic = "+".equals(varMap.get("dyn"));
 			
-			Spell.SpellVar var;
-			/*if(dynamic)
-				var = spell.new DynamicSpellVar(key, link, convertFloatArray(varObject.getArray("coeff")));
-			else
-				var = spell.new StaticSpellVar(key, link, varObject.getFloat("coeff"));*/
-			Object coeff = varObject.get("coeff");
-			if(coeff instanceof JsonArray)
-				coeff = ApiUtil.convertArray((JsonArray)coeff);
-			var = spell.new SpellVar(key, link, coeff, dynamic);
-			vars.add(var);
+			vars.add(spell.new SpellVar(key, link, varMap.get("coeff"), dynamic));
 		}
 		return vars;
 	}
@@ -660,27 +972,92 @@ public class StaticDataMethod extends Method
 	
 	//Common converter methods
 	
-	private Image convertImage(JsonObject imageObject)
+	private Image bindImage(JsonReader reader) throws RiotApiException
+	{
+		String full = null, group = null, sprite = null;
+		int x = 0, y = 0, w = 0, h = 0;
+		
+		reader.beginObject();
+		while(reader.hasNext())
+		{
+			switch(reader.nextName())
+			{
+				case "full": full = reader.nextString(); break;
+				case "group": group = reader.nextString(); break;
+				case "sprite": sprite = reader.nextString(); break;
+				case "x": x = reader.nextInt(); break;
+				case "y": y = reader.nextInt(); break;
+				case "w": w = reader.nextInt(); break;
+				case "h": h = reader.nextInt(); break;
+				default: reader.skipValue();
+			}
+		}
+		reader.endObject();
+		
+		return new Image(full, group, sprite, x, y, w, h);
+	}
+	
+	/**
+	 * Binds an array of strings.
+	 * @param reader The reader, positioned at the array.
+	 * @return The strings, empty if the array is null.
+	 * @throws RiotApiException If the JSON is malformed.
+	 */
+	private List<String> bindStringList(JsonReader reader) throws RiotApiException
 	{
-		Image image = new Image(
-				imageObject.getString("full"),
-				imageObject.getString("group"),
-				imageObject.getString("sprite"),
-				imageObject.getInt("x"), imageObject.getInt("y"),
-				imageObject.getInt("w"), imageObject.getInt("h"));
-		return image;
+		List<String> strings = new ArrayList<>();
+		if(reader.nextNull())
+			return strings;
+		
+		reader.beginArray();
+		while(reader.hasNext())
+			strings.add(reader.nextString());
+		reader.endArray();
+		return strings;
+	}
+	
+	/**
+	 * Binds an array of integers.
+	 * @param reader The reader, positioned at the array.
+	 * @return The integers, empty if the array is null.
+	 * @throws RiotApiException If the JSON is malformed.
+	 */
+	private List<Integer> bindIntList(JsonReader reader) throws RiotApiException
+	{
+		List<Integer> ints = new ArrayList<>();
+		if(reader.nextNull())
+			return ints;
+		
+		reader.beginArray();
+		while(reader.hasNext())
+			ints.add(reader.nextInt());
+		reader.endArray();
+		return ints;
 	}
 	
 	//Other methods
 	
 	public void fillChampion(Champion champion, Region region) throws RiotApiException
 	{
-		fillChampion(champion, region, null);
+		fillChampion(champion, region, (ChampionDataType)null);
 	}
 	
 	public void fillChampion(Champion champion, Region region, ChampionDataType dataType) throws RiotApiException
 	{
-		Champion newChampion = getChampion(region, champion.getLocale(), champion.getId(), dataType);
+		fillChampion(champion, region, toDataTypes(dataType));
+	}
+	
+	/**
+	 * Fills the specified static data of a champion with one request, and marks it loaded.
+	 * @param champion The champion to fill.
+	 * @param region The region (<i>required</i>).
+	 * @param dataTypes The types of data to fill. Only basic data is filled if <code>null</code> or empty.
+	 * @throws StaticDataNotFoundException If the champion wasn't found.
+	 * @throws RiotApiException If there was an exception or error from the server.
+	 */
+	public void fillChampion(Champion champion, Region region, EnumSet<ChampionDataType> dataTypes) throws RiotApiException
+	{
+		Champion newChampion = getChampion(region, champion.getLocale(), champion.getId(), dataTypes);
 		
 		//Data in every response
 		champion.setName(newChampion.getName());
@@ -689,69 +1066,279 @@ public class StaticDataMethod extends Method
 		champion.setTitle(newChampion.getTitle());
 		
 		//Specific data
-		boolean notAll = dataType != ChampionDataType.ALL;
-		switch(dataType)
+		if(dataTypes == null)
+			return;
+		for(ChampionDataType type : dataTypes.contains(ChampionDataType.ALL) ? EnumSet.allOf(ChampionDataType.class) : dataTypes)
 		{
-			//Basic data
-			case ALL:
-			case PARTYPE:
-				champion.setResourceType(newChampion.getResourceType());
-				if(notAll) break;
-			
-			case BLURB:
-				champion.setBlurb(newChampion.getBlurb());
-				if(notAll) break;
-			
-			case LORE:
-				champion.setLore(newChampion.getLore());
-				if(notAll) break;
+			switch(type)
+			{
+				//Basic data
+				case PARTYPE:
+					champion.setResourceType(newChampion.getResourceType());
+					break;
 				
-			case INFO:
-				champion.setInfo(newChampion.getAttackRank(), newChampion.getMagicRank(), newChampion.getDefenseRank(), newChampion.getDifficultyRank());
-				if(notAll) break;
-			
-			//Lists
-			case ALLYTIPS:
-				champion.setAllyTips(newChampion.getAllyTips());
-				if(notAll) break;
-			
-			case ENEMYTIPS:
-				champion.setEnemyTips(newChampion.getEnemyTips());
-				if(notAll) break;
-			
-			case RECOMMENDED:
-				champion.setRecommendedItems(newChampion.getRecommendedItems());
-				if(notAll) break;
-			
-			case SKINS:
-				champion.setSkins(newChampion.getSkins());
-				if(notAll) break;
-			
-			case SPELLS:
-				champion.setSpells(newChampion.getSpells());
-				if(notAll) break;
+				case BLURB:
+					champion.setBlurb(newChampion.getBlurb());
+					break;
+				
+				case LORE:
+					champion.setLore(newChampion.getLore());
+					break;
+				
+				case INFO:
+					champion.setInfo(newChampion.getAttackRank(), newChampion.getMagicRank(), newChampion.getDefenseRank(), newChampion.getDifficultyRank());
+					break;
+				
+				//Lists
+				case ALLYTIPS:
+					champion.setAllyTips(newChampion.getAllyTips());
+					break;
+				
+				case ENEMYTIPS:
+					champion.setEnemyTips(newChampion.getEnemyTips());
+					break;
+				
+				case RECOMMENDED:
+					champion.setRecommendedItems(newChampion.getRecommendedItems());
+					break;
+				
+				case SKINS:
+					champion.setSkins(newChampion.getSkins());
+					break;
+				
+				case SPELLS:
+					champion.setSpells(newChampion.getSpells());
+					break;
+				
+				case TAGS:
+					champion.setTags(newChampion.getTags());
+					break;
+				
+				//Objects
+				case IMAGE:
+					champion.setImage(newChampion.getImage());
+					break;
+				
+				case PASSIVE:
+					champion.setPassive(newChampion.getPassive());
+					break;
+				
+				case STATS:
+					champion.setStats(newChampion.getStats());
+					break;
+			}
+			champion.setStaticDataLoaded(type);
+		}
+	}
+	
+	//Snapshot methods
+	
+	/**
+	 * <p>Loads the static data snapshot from a file and serves static data from it.</p>
+	 * <p>If the file doesn't exist, can't be read, is of another region or locale, or is older than the latest version,
+	 * the latest static data is downloaded and the file is replaced with a new snapshot.
+	 * Checking the version takes one request to the versions operation.
+	 * Snapshots of later versions swapped in by {@link #refreshSnapshot()} are also written to the file.</p>
+	 * @param file The snapshot file.
+	 * @param region The region (<i>required</i>).
+	 * @param locale The language locale.
+	 * @return The loaded snapshot.
+	 * @throws RiotApiException If there was an exception or error from the server.
+	 * @throws IOException If the new snapshot couldn't be written.
+	 */
+	public StaticDataSnapshot loadSnapshot(Path file, Region region, Locale locale) throws RiotApiException, IOException
+	{
+		StaticDataSnapshot loaded = null;
+		if(Files.exists(file))
+		{
+			try
+			{
+				loaded = StaticDataSnapshot.read(api, file);
+			}
+			catch(IOException e)
+			{
+				//Unreadable or of an older format, replaced below
+			}
+		}
+		
+		List<String> versions = requestVersions(region);
+		if(loaded == null || !loaded.matches(region, locale) || versions.isEmpty() || !versions.get(0).equals(loaded.getVersion()))
+		{
+			loaded = downloadSnapshot(region, locale, versions);
+			loaded.write(file);
+		}
+		
+		snapshotFile = file;
+		snapshot.set(loaded);
+		return loaded;
+	}
+	
+	/**
+	 * Downloads all static data of the latest version. The datasets are requested in parallel.
+	 * The snapshot isn't served from until it's set with {@link #setSnapshot(StaticDataSnapshot)}.
+	 * @param region The region (<i>required</i>).
+	 * @param locale The language locale.
+	 * @return The snapshot.
+	 * @throws RegionNotSupportedException If the region is not supported.
+	 * @throws RiotApiException If there was an exception or error from the server.
+	 */
+	public StaticDataSnapshot downloadSnapshot(Region region, Locale locale) throws RiotApiException
+	{
+		return downloadSnapshot(region, locale, requestVersions(region));
+	}
+	
+	private StaticDataSnapshot downloadSnapshot(Region region, Locale locale, List<String> versions) throws RiotApiException
+	{
+		//Region info on the executor, champions (by far the largest) on this thread
+		FutureTask<RegionInfo> regionInfoFuture = new FutureTask<>(() -> requestRegionInfo(region));
+		api.getExecutor().execute(regionInfoFuture);
+		try
+		{
+			Map<String, Champion> champions = new LinkedHashMap<>(requestChampions(region, locale, EnumSet.of(ChampionDataType.ALL)));
+			for(Champion champion : champions.values())
+				champion.setStaticDataLoaded(ChampionDataType.ALL);
 			
-			case TAGS:
-				champion.setTags(newChampion.getTags());
-				if(notAll) break;
+			//Run it here if no worker started it, this may be a worker itself
+			regionInfoFuture.run();
+			return new StaticDataSnapshot(region, locale, new ArrayList<>(versions), regionInfoFuture.get(), champions);
+		}
+		catch(InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new RiotApiException("Interrupted while downloading static data", e);
+		}
+		catch(ExecutionException e)
+		{
+			if(e.getCause() instanceof RiotApiException)
+				throw (RiotApiException)e.getCause();
+			throw new RiotApiException("Failed to download static data", e.getCause());
+		}
+		finally
+		{
+			regionInfoFuture.cancel(false);
+		}
+	}
+	
+	/**
+	 * <p>Checks for a new version and, if there is one, downloads its static data and atomically swaps it in for the current snapshot.</p>
+	 * <p>Readers are served the current snapshot until the swap, without waiting. Nothing but the version check is requested while the version is unchanged,
+	 * and the check bypasses the request cache. Concurrent refreshes are done one at a time.</p>
+	 * @return The new snapshot, or <code>null</code> if there is no snapshot or the version is unchanged.
+	 * @throws RiotApiException If there was an exception or error from the server.
+	 */
+	public StaticDataSnapshot refreshSnapshot() throws RiotApiException
+	{
+		synchronized(refreshLock)
+		{
+			StaticDataSnapshot current = snapshot.get();
+			if(current == null)
+				return null;
 			
-			//Objects
-			case IMAGE:
-				champion.setImage(newChampion.getImage());
-				if(notAll) break;
+			evictMethodResult(current.getRegion(), "versions");
+			List<String> versions = requestVersions(current.getRegion());
+			if(versions.isEmpty() || versions.get(0).equals(current.getVersion()))
+				return null;
 			
-			case PASSIVE:
-				champion.setPassive(newChampion.getPassive());
-				if(notAll) break;
+			StaticDataSnapshot next = downloadSnapshot(current.getRegion(), current.getLocale(), versions);
+			if(!snapshot.compareAndSet(current, next))	//Replaced while downloading
+				return null;
+			api.getChampionRegistry().clear();
 			
-			case STATS:
-				champion.setStats(newChampion.getStats());
-				if(notAll) break;
+			Path file = snapshotFile;
+			if(file != null)
+			{
+				try
+				{
+					next.write(file);
+				}
+				catch(IOException e)
+				{
+					//The file is only a head start, the next load downloads again
+				}
+			}
+			return next;
 		}
 	}
 	
+	private void refreshSnapshotInBackground()
+	{
+		if(!refreshing.compareAndSet(false, true))
+			return;
+		
+		api.getExecutor().execute(() -> {
+			try
+			{
+				refreshSnapshot();
+			}
+			catch(RiotApiException e)
+			{
+				//The next version check tries again
+			}
+			finally
+			{
+				refreshing.set(false);
+			}
+		});
+	}
+	
+	/**
+	 * Sets the static data snapshot to serve static data from, replacing the current one.
+	 * @param snapshot The snapshot, or <code>null</code> to always request static data.
+	 */
+	public void setSnapshot(StaticDataSnapshot snapshot)
+	{
+		this.snapshot.set(snapshot);
+	}
+	
+	/**
+	 * Returns the static data snapshot currently being served from.
+	 * @return The snapshot, or <code>null</code> if there is none.
+	 */
+	public StaticDataSnapshot getSnapshot()
+	{
+		return snapshot.get();
+	}
+	
+	private StaticDataSnapshot getSnapshot(Region region, Locale locale)
+	{
+		StaticDataSnapshot snapshot = this.snapshot.get();
+		return snapshot != null && snapshot.matches(region, locale) ? snapshot : null;
+	}
+	
 	//Helper methods
 	
+	private static <T extends Enum<T>> EnumSet<T> toDataTypes(T dataType)
+	{
+		return dataType != null ? EnumSet.of(dataType) : null;
+	}
+	
+	/**
+	 * Creates the value of a data type argument, ex. "info,stats,image".
+	 * @param dataTypes The data types.
+	 * @param all The data type for all data.
+	 * @param basic The data type for basic data, which is always included.
+	 * @return The argument value, or <code>null</code> if only basic data is needed.
+	 */
+	private static <T extends Enum<T>> String createDataArg(EnumSet<T> dataTypes, T all, T basic)
+	{
+		if(dataTypes == null)
+			return null;
+		if(dataTypes.contains(all))
+			return all.name().toLowerCase(java.util.Locale.ROOT);
+		
+		//In declaration order, so the same types are always the same request
+		StringBuilder arg = new StringBuilder();
+		for(T type : dataTypes)
+		{
+			if(type == basic)
+				continue;
+			if(arg.length() > 0)
+				arg.append(',');
+			arg.append(type.name().toLowerCase(java.util.Locale.ROOT));
+		}
+		return arg.length() > 0 ? arg.toString() : null;
+	}
+	
 	private Map<String, String> createLocaleArgMap(Locale locale)
 	{
 		Map<String, String> args = createArgMap();
@@ -762,19 +1349,11 @@ public class StaticDataMethod extends Method
 	
 	private Response staticGetMethodResult(Region region, String operation, Map<String, String> pathArgs, Map<String, String> queryArgs) throws RiotApiException
 	{
-		boolean save = api.isRateLimitEnabled();
-		api.setRateLimitEnabled(false);
-		Response r = getMethodResult(region, operation, true, pathArgs, queryArgs);
-		api.setRateLimitEnabled(save);
-		return r;
+		return getMethodResult(region, operation, true, pathArgs, queryArgs);
 	}
 	
 	private Response staticGetMethodResult(Region region, String operation) throws RiotApiException
 	{
-		boolean save = api.isRateLimitEnabled();
-		api.setRateLimitEnabled(false);
-		Response r = getMethodResult(region, operation, true);
-		api.setRateLimitEnabled(save);
-		return r;
+		return getMethodResult(region, operation, true);
 	}
 }
@@ -140,7 +140,7 @@ public class StatsMethod extends Method
 				JsonObject sumObject = sumsArray.getObject(s);
 				
 				//Convert stats list
-				Map<String, Integer> stats = convertAggregatedStats(sumObject.getObject("aggregatedStats"));
+				AggregatedStats stats = convertAggregatedStats(sumObject.getObject("aggregatedStats"));
 				
 				//Create stat summary object
 				PlayerStats sum = new PlayerStats(sumObject.getString("playerStatSummaryType"), sumObject.getLong("modifyDate"),
@@ -177,7 +177,7 @@ public class StatsMethod extends Method
 				JsonObject championObject = championsArray.getObject(c);
 				
 				//Convert stats list
-				Map<String, Integer> stats = convertAggregatedStats(championObject.getObject("stats"));
+				AggregatedStats stats = convertAggregatedStats(championObject.getObject("stats"));
 				
 				//Create stat summary object
 				ChampionStats sum = new ChampionStats(championObject.getInt("id"), championObject.getString("name"), stats);
@@ -194,11 +194,11 @@ public class StatsMethod extends Method
 		}
 	}
 	
-	private Map<String, Integer> convertAggregatedStats(JsonObject statsObject) throws JsonException
+	private AggregatedStats convertAggregatedStats(JsonObject statsObject) throws JsonException
 	{
-		Map<String, Integer> stats = new HashMap<>(statsObject.size());
+		AggregatedStats stats = new AggregatedStats();
 		for(String key : statsObject.keySet())
-			stats.put(key, statsObject.getInt(key));
+			stats.set(key, statsObject.getInt(key));
 		return stats;
 	}
 }
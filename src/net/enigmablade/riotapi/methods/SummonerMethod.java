@@ -1,6 +1,7 @@
 package net.enigmablade.riotapi.methods;
 
 import java.util.*;
+import java.util.concurrent.*;
 import net.enigmablade.jsonic.*;
 import net.enigmablade.riotapi.*;
 import net.enigmablade.riotapi.Requester.*;
@@ -27,12 +28,25 @@ import static net.enigmablade.riotapi.constants.Region.*;
  * 		<li>Get mastery pages by summoner ID</li>
  * 	</ol>
  * </p>
+ * <p>Every multi-ID operation also has a bulk variant accepting any number of IDs or names,
+ * which are split into batches of 40 and sent concurrently.</p>
+ * <p>Single lookups made from many threads can be micro-batched with the <code>load</code> operations,
+ * which wait up to the batch window for other lookups in the same region and send them as one request.</p>
+ * <p>Every summoner, name, and page set received is cached separately in the API's entity cache,
+ * so only IDs or names that aren't cached are requested.</p>
  * @see <a href="https://developer.riotgames.com/api/methods#!/292">Developer site</a>
  * 
  * @author Enigma
  */
 public class SummonerMethod extends Method
 {
+	public static final long DEFAULT_BATCH_WINDOW = 10;	//milliseconds
+	
+	private long batchWindow = DEFAULT_BATCH_WINDOW;
+	private Map<Region, BatchLoader<Long, Summoner>> summonerByIdLoaders;
+	private Map<Region, BatchLoader<String, Summoner>> summonerByNameLoaders;
+	private Map<Region, BatchLoader<Long, String>> summonerNameLoaders;
+	
 	/**
 	 * Create a new summoner method instance.
 	 * @param api The API instance being used.
@@ -40,6 +54,10 @@ public class SummonerMethod extends Method
 	public SummonerMethod(RiotApi api)
 	{
 		super(api, "api/lol", "summoner", "1.4", new Region[]{NA, EUW, EUNE, BR, LAN, LAS, OCE, KR, RU, TR});
+		
+		summonerByIdLoaders = new EnumMap<>(Region.class);
+		summonerByNameLoaders = new EnumMap<>(Region.class);
+		summonerNameLoaders = new EnumMap<>(Region.class);
 	}
 	
 	//API-defined operation methods
@@ -76,27 +94,45 @@ public class SummonerMethod extends Method
 		//Check argument conditions
 		checkAmountOfThings(summonerNames, "Summoner name");
 		
-		//Encode summoner names
+		//Standardize summoner names
+		String[] standardNames = new String[summonerNames.length];
 		for(int n = 0; n < summonerNames.length; n++)
-			summonerNames[n] = IOUtil.encodeForUri(ApiUtil.standardizeSummonerName(summonerNames[n]));
+			standardNames[n] = ApiUtil.standardizeSummonerName(summonerNames[n]);
+		
+		//Only request summoners that aren't cached
+		Map<String, Summoner> summoners = new HashMap<>();
+		String[] missingNames = getCachedEntities(region, EntityCache.Type.SUMMONER_BY_NAME, standardNames, summoners);
+		if(missingNames.length == 0)
+			return summoners;
+		
+		//Encode summoner names
+		String[] encodedNames = new String[missingNames.length];
+		for(int n = 0; n < missingNames.length; n++)
+			encodedNames[n] = IOUtil.encodeForUri(missingNames[n]);
 		
 		//Create arg value
-		String namesStr = IOUtil.createCommaDelimitedString(summonerNames);
+		String namesStr = IOUtil.createCommaDelimitedString(encodedNames);
 		
 		//Send request
-		Response response = getMethodResult(region,
+		Response response = getRawMethodResult(region,
 				"by-name/{summonerNames}",
 				createArgMap("summonerNames", namesStr));
 		
 		//Check errors
 		if(response.getCode() == 404)
-			throw new SummonerNotFoundException(region);
+			return checkFound(region, summoners);
 		
 		//Parse response
-		JsonObject summonersObject = (JsonObject)response.getValue();
-		Map<String, Summoner> summoners = new HashMap<>();
-		for(String summonerName : summonersObject.keySet())
-			summoners.put(summonerName, convertSummoner(region, (JsonObject)summonersObject.get(summonerName)));
+		JsonReader reader = new JsonReader((String)response.getValue());
+		reader.beginObject();
+		while(reader.hasNext())
+		{
+			String summonerName = reader.nextName();
+			Summoner summoner = bindSummoner(region, reader);
+			summoners.put(summonerName, summoner);
+			cacheSummoner(region, summoner);
+		}
+		reader.endObject();
 		return summoners;
 	}
 	
@@ -128,23 +164,35 @@ public class SummonerMethod extends Method
 		//Check argument conditions
 		checkAmountOfThings(summonerIds, "Summoner ID");
 		
+		//Only request summoners that aren't cached
+		Map<Long, Summoner> summoners = new HashMap<>();
+		long[] missingIds = getCachedEntities(region, EntityCache.Type.SUMMONER, summonerIds, summoners);
+		if(missingIds.length == 0)
+			return summoners;
+		
 		//Create arg value
-		String idsStr = IOUtil.createCommaDelimitedString(summonerIds);
-				
+		String idsStr = IOUtil.createCommaDelimitedString(missingIds);
+		
 		//Send request
-		Response response = getMethodResult(region,
+		Response response = getRawMethodResult(region,
 				"{summonerIds}",
 				createArgMap("summonerIds", String.valueOf(idsStr)));
 		
 		//Check errors
 		if(response.getCode() == 404)
-			throw new SummonerNotFoundException(region);
+			return checkFound(region, summoners);
 		
 		//Parse response
-		JsonObject summonersObject = (JsonObject)response.getValue();
-		Map<Long, Summoner> summoners = new HashMap<>();
-		for(String summonerID : summonersObject.keySet())
-			summoners.put(Long.parseLong(summonerID), convertSummoner(region, (JsonObject)summonersObject.get(summonerID)));
+		JsonReader reader = new JsonReader((String)response.getValue());
+		reader.beginObject();
+		while(reader.hasNext())
+		{
+			long summonerId = Long.parseLong(reader.nextName());
+			Summoner summoner = bindSummoner(region, reader);
+			summoners.put(summonerId, summoner);
+			cacheSummoner(region, summoner);
+		}
+		reader.endObject();
 		return summoners;
 	}
 	
@@ -178,8 +226,14 @@ public class SummonerMethod extends Method
 		//Check argument conditions
 		checkAmountOfThings(summonerIds, "Summoner ID");
 		
+		//Only request names that aren't cached
+		Map<Long, String> summoners = new HashMap<>();
+		long[] missingIds = getCachedEntities(region, EntityCache.Type.SUMMONER_NAME, summonerIds, summoners);
+		if(missingIds.length == 0)
+			return summoners;
+		
 		//Create arg value
-		String idsStr = IOUtil.createCommaDelimitedString(summonerIds);
+		String idsStr = IOUtil.createCommaDelimitedString(missingIds);
 		
 		//Send request
 		Response response = getMethodResult(region,
@@ -188,16 +242,17 @@ public class SummonerMethod extends Method
 		
 		//Check errors
 		if(response.getCode() == 404)
-			throw new SummonerNotFoundException(region);
+			return checkFound(region, summoners);
 		
 		//Parse response
 		JsonObject summonersObject = (JsonObject)response.getValue();
-		Map<Long, String> summoners = new HashMap<>();
 		for(String summonerId : summonersObject.keySet())
 		{
-			//Convert mastery page
+			//Convert summoner name
 			long id = Long.parseLong(summonerId);
-			summoners.put(id, summonersObject.getString(summonerId));
+			String name = summonersObject.getString(summonerId);
+			summoners.put(id, name);
+			cacheEntity(region, EntityCache.Type.SUMMONER_NAME, id, name);
 		}
 		return summoners;
 	}
@@ -263,8 +318,14 @@ public class SummonerMethod extends Method
 		//Check argument conditions
 		checkAmountOfThings(summonerIds, "Summoner ID");
 		
+		//Only request pages that aren't cached
+		Map<Long, List<MasteryPage>> summoners = new HashMap<>();
+		long[] missingIds = getCachedEntities(region, EntityCache.Type.MASTERY_PAGES, summonerIds, summoners);
+		if(missingIds.length == 0)
+			return summoners;
+		
 		//Create arg value
-		String idsStr = IOUtil.createCommaDelimitedString(summonerIds);
+		String idsStr = IOUtil.createCommaDelimitedString(missingIds);
 		
 		//Send request
 		Response response = getMethodResult(region,
@@ -273,11 +334,10 @@ public class SummonerMethod extends Method
 		
 		//Check errors
 		if(response.getCode() == 404)
-			throw new SummonerNotFoundException(region);
+			return checkFound(region, summoners);
 		
 		//Parse response
 		JsonObject summonersObject = (JsonObject)response.getValue();
-		Map<Long, List<MasteryPage>> summoners = new HashMap<>();
 		
 		for(String summonerId : summonersObject.keySet())
 		{
@@ -289,7 +349,9 @@ public class SummonerMethod extends Method
 			for(int p = 0; p < pagesArray.size(); p++)
 				pages.add(convertMasteryPage(pagesArray.getObject(p)));
 			
-			summoners.put(masteryPageObject.getLong("summonerId"), pages);
+			long id = masteryPageObject.getLong("summonerId");
+			summoners.put(id, pages);
+			cacheEntity(region, EntityCache.Type.MASTERY_PAGES, id, pages);
 		}
 		return summoners;
 	}
@@ -355,8 +417,14 @@ public class SummonerMethod extends Method
 		//Check argument conditions
 		checkAmountOfThings(summonerIds, "Summoner ID");
 		
+		//Only request pages that aren't cached
+		Map<Long, List<RunePage>> summoners = new HashMap<>();
+		long[] missingIds = getCachedEntities(region, EntityCache.Type.RUNE_PAGES, summonerIds, summoners);
+		if(missingIds.length == 0)
+			return summoners;
+		
 		//Create arg value
-		String idsStr = IOUtil.createCommaDelimitedString(summonerIds);
+		String idsStr = IOUtil.createCommaDelimitedString(missingIds);
 		
 		//Send request
 		Response response = getMethodResult(region,
@@ -365,11 +433,10 @@ public class SummonerMethod extends Method
 		
 		//Check errors
 		if(response.getCode() == 404)
-			throw new SummonerNotFoundException(region);
+			return checkFound(region, summoners);
 		
 		//Parse response
 		JsonObject summonersObject = (JsonObject)response.getValue();
-		Map<Long, List<RunePage>> summoners = new HashMap<>();
 		
 		for(String summonerId : summonersObject.keySet())
 		{
@@ -384,11 +451,181 @@ public class SummonerMethod extends Method
 				pages.add(convertRunePage(pageObject));
 			}
 			
-			summoners.put(runePageObject.getLong("summonerId"), pages);
+			long id = runePageObject.getLong("summonerId");
+			summoners.put(id, pages);
+			cacheEntity(region, EntityCache.Type.RUNE_PAGES, id, pages);
 		}
 		return summoners;
 	}
 	
+	//Bulk operation methods
+	
+	/**
+	 * <p>Returns the summoners with the specified summoner names (case and whitespace insensitive). Any number of names.</p>
+	 * <p>Names are requested in concurrent batches of 40. Names that weren't found are missing from the returned map.</p>
+	 * @param region The game region (NA, EUW, EUNE, etc.)
+	 * @param summonerNames The names of the summoners.
+	 * @return A map of standardized summoner name to summoner.
+	 * @throws RegionNotSupportedException If the region is not supported by the method.
+	 * @throws RiotApiException If there was an exception or error from the server.
+	 * @see ApiUtil#standardizeSummonerName(String)
+	 */
+	public Map<String, Summoner> getSummonersByNameBulk(Region region, String[] summonerNames) throws RiotApiException
+	{
+		return executeInBatches(summonerNames, batch -> getSummonersByName(region, batch));
+	}
+	
+	/**
+	 * <p>Returns the summoners with the specified summoner IDs. Any number of IDs.</p>
+	 * <p>IDs are requested in concurrent batches of 40. IDs that weren't found are missing from the returned map.</p>
+	 * @param region The game region (NA, EUW, EUNE, etc.)
+	 * @param summonerIds The IDs of the summoners.
+	 * @return A map from summoner ID to summoner.
+	 * @throws RegionNotSupportedException If the region is not supported by the method.
+	 * @throws RiotApiException If there was an exception or error from the server.
+	 */
+	public Map<Long, Summoner> getSummonersByIdBulk(Region region, long[] summonerIds) throws RiotApiException
+	{
+		return executeInBatches(summonerIds, batch -> getSummonersById(region, batch));
+	}
+	
+	/**
+	 * <p>Returns a mapping of summoner IDs to summoner names from the given list of summoner IDs. Any number of IDs.</p>
+	 * <p>IDs are requested in concurrent batches of 40. IDs that weren't found are missing from the returned map.</p>
+	 * @param region The game region (NA, EUW, EUNE, etc.)
+	 * @param summonerIds The list of summoner IDs.
+	 * @return A map of summoner ID to summoner name.
+	 * @throws RegionNotSupportedException If the region is not supported by the method.
+	 * @throws RiotApiException If there was an exception or error from the server.
+	 */
+	public Map<Long, String> getSummonerNamesBulk(Region region, long[] summonerIds) throws RiotApiException
+	{
+		return executeInBatches(summonerIds, batch -> getSummonerNames(region, batch));
+	}
+	
+	/**
+	 * <p>Returns a map of the given summoner IDs to their lists of mastery pages. Any number of IDs.</p>
+	 * <p>IDs are requested in concurrent batches of 40. IDs that weren't found are missing from the returned map.</p>
+	 * @param region The game region (NA, EUW, EUNE, etc.)
+	 * @param summonerIds The IDs of the summoners.
+	 * @return The list of mastery pages.
+	 * @throws RegionNotSupportedException If the region is not supported by the method.
+	 * @throws RiotApiException If there was an exception or error from the server.
+	 */
+	public Map<Long, List<MasteryPage>> getSummonersMasteryPagesBulk(Region region, long[] summonerIds) throws RiotApiException
+	{
+		return executeInBatches(summonerIds, batch -> getSummonersMasteryPages(region, batch));
+	}
+	
+	/**
+	 * <p>Returns a map of the given summoner IDs to their lists of rune pages. Any number of IDs.</p>
+	 * <p>IDs are requested in concurrent batches of 40. IDs that weren't found are missing from the returned map.</p>
+	 * @param region The game region (NA, EUW, EUNE, etc.)
+	 * @param summonerIds The IDs of the summoners.
+	 * @return The list of rune pages.
+	 * @throws RegionNotSupportedException If the region is not supported by the method.
+	 * @throws RiotApiException If there was an exception or error from the server.
+	 */
+	public Map<Long, List<RunePage>> getSummonersRunePagesBulk(Region region, long[] summonerIds) throws RiotApiException
+	{
+		return executeInBatches(summonerIds, batch -> getSummonersRunePages(region, batch));
+	}
+	
+	//Micro-batched operation methods
+	
+	/**
+	 * <p>Queues a lookup of the summoner with the specified summoner ID.</p>
+	 * <p>Lookups from all threads in the same region are sent together once 40 are queued or the batch window has passed.</p>
+	 * @param region The game region (NA, EUW, EUNE, etc.)
+	 * @param summonerId The ID of the summoner.
+	 * @return The future summoner, or <code>null</code> if the summoner was not found.
+	 * @throws RegionNotSupportedException If the region is not supported by the method.
+	 */
+	public CompletableFuture<Summoner> loadSummonerById(Region region, long summonerId) throws RegionNotSupportedException
+	{
+		return getLoader(summonerByIdLoaders, region, ids -> {
+			long[] batch = new long[ids.size()];
+			for(int n = 0; n < batch.length; n++)
+				batch[n] = ids.get(n);
+			return getSummonersById(region, batch);
+		}).load(summonerId);
+	}
+	
+	/**
+	 * <p>Queues a lookup of the summoner with the specified summoner name.</p>
+	 * <p>Lookups from all threads in the same region are sent together once 40 are queued or the batch window has passed.</p>
+	 * @param region The game region (NA, EUW, EUNE, etc.)
+	 * @param summonerName The name of the summoner.
+	 * @return The future summoner, or <code>null</code> if the summoner was not found.
+	 * @throws RegionNotSupportedException If the region is not supported by the method.
+	 */
+	public CompletableFuture<Summoner> loadSummonerByName(Region region, String summonerName) throws RegionNotSupportedException
+	{
+		return getLoader(summonerByNameLoaders, region, names -> getSummonersByName(region, names.toArray(new String[names.size()])))
+				.load(ApiUtil.standardizeSummonerName(summonerName));
+	}
+	
+	/**
+	 * <p>Queues a lookup of the summoner name of the given summoner ID.</p>
+	 * <p>Lookups from all threads in the same region are sent together once 40 are queued or the batch window has passed.</p>
+	 * @param region The game region (NA, EUW, EUNE, etc.)
+	 * @param summonerId The summoner ID.
+	 * @return The future summoner name, or <code>null</code> if the summoner was not found.
+	 * @throws RegionNotSupportedException If the region is not supported by the method.
+	 */
+	public CompletableFuture<String> loadSummonerName(Region region, long summonerId) throws RegionNotSupportedException
+	{
+		return getLoader(summonerNameLoaders, region, ids -> {
+			long[] batch = new long[ids.size()];
+			for(int n = 0; n < batch.length; n++)
+				batch[n] = ids.get(n);
+			return getSummonerNames(region, batch);
+		}).load(summonerId);
+	}
+	
+	/**
+	 * Returns the longest time (in milliseconds) queued lookups wait for a batch to fill.
+	 * @return The batch window.
+	 */
+	public synchronized long getBatchWindow()
+	{
+		return batchWindow;
+	}
+	
+	/**
+	 * Sets the longest time queued lookups wait for a batch to fill. Defaults to {@value #DEFAULT_BATCH_WINDOW} milliseconds.
+	 * @param window The batch window.
+	 * @param unit The unit of the window.
+	 */
+	public synchronized void setBatchWindow(long window, TimeUnit unit)
+	{
+		batchWindow = unit.toMillis(window);
+		for(Map<Region, ? extends BatchLoader<?, ?>> loaders : Arrays.asList(summonerByIdLoaders, summonerByNameLoaders, summonerNameLoaders))
+			for(BatchLoader<?, ?> loader : loaders.values())
+				loader.setWindow(batchWindow, TimeUnit.MILLISECONDS);
+	}
+	
+	/**
+	 * Returns the batch loader of an operation for the given region, creating it if required.
+	 * @param loaders The loaders of the operation.
+	 * @param region The region.
+	 * @param function The function used to load a batch if the loader is created.
+	 * @return The loader.
+	 * @throws RegionNotSupportedException If the region is not supported by the method.
+	 */
+	private synchronized <K, V> BatchLoader<K, V> getLoader(Map<Region, BatchLoader<K, V>> loaders, Region region, BatchLoader.BatchFunction<K, V> function) throws RegionNotSupportedException
+	{
+		checkRegionSupported(region);
+		
+		BatchLoader<K, V> loader = loaders.get(region);
+		if(loader == null)
+		{
+			loader = new BatchLoader<>(function, getMaxThings(), batchWindow, TimeUnit.MILLISECONDS, api.getScheduler(), api.getExecutor());
+			loaders.put(region, loader);
+		}
+		return loader;
+	}
+	
 	//Other operation methods
 	
 	/**
@@ -420,31 +657,126 @@ public class SummonerMethod extends Method
 		return false;
 	}
 	
+	/**
+	 * <p>Fills missing information in any number of summoners, such as the members of a team or the players of a game.</p>
+	 * <p>Summoners that are already filled are skipped. The rest are requested by ID, or by name if the ID is missing,
+	 * in concurrent batches of 40 per region. Summoners that weren't found are left as they are.</p>
+	 * @param summoners The summoners to fill.
+	 * @return The number of summoners filled.
+	 * @throws RegionNotSupportedException If the region of a summoner is not supported by the method.
+	 * @throws RiotApiException If there was an exception or error from the server.
+	 */
+	public int fillSummoners(Collection<? extends Summoner> summoners) throws RiotApiException
+	{
+		//Group the summoners that need filling by region and by what's known about them
+		Map<Region, Map<Long, List<Summoner>>> byId = new EnumMap<>(Region.class);
+		Map<Region, Map<String, List<Summoner>>> byName = new EnumMap<>(Region.class);
+		for(Summoner summoner : summoners)
+		{
+			if(summoner.isFilled())
+				continue;
+			
+			Region region = summoner.getRegion();
+			if(summoner.getKnownId() >= 0)
+				byId.computeIfAbsent(region, r -> new HashMap<>()).computeIfAbsent(summoner.getKnownId(), id -> new ArrayList<>(1)).add(summoner);
+			else if(summoner.getKnownName() != null)
+				byName.computeIfAbsent(region, r -> new HashMap<>()).computeIfAbsent(ApiUtil.standardizeSummonerName(summoner.getKnownName()), name -> new ArrayList<>(1)).add(summoner);
+		}
+		
+		int filled = 0;
+		for(Map.Entry<Region, Map<Long, List<Summoner>>> entry : byId.entrySet())
+		{
+			Map<Long, List<Summoner>> waiting = entry.getValue();
+			long[] ids = new long[waiting.size()];
+			int n = 0;
+			for(long id : waiting.keySet())
+				ids[n++] = id;
+			
+			for(Summoner found : getSummonersByIdBulk(entry.getKey(), ids).values())
+				filled += fillAll(waiting.get(found.getId()), found);
+		}
+		for(Map.Entry<Region, Map<String, List<Summoner>>> entry : byName.entrySet())
+		{
+			Map<String, List<Summoner>> waiting = entry.getValue();
+			for(Map.Entry<String, Summoner> found : getSummonersByNameBulk(entry.getKey(), waiting.keySet().toArray(new String[waiting.size()])).entrySet())
+				filled += fillAll(waiting.get(found.getKey()), found.getValue());
+		}
+		return filled;
+	}
+	
+	private static int fillAll(List<Summoner> summoners, Summoner found) throws RiotApiException
+	{
+		if(summoners == null)
+			return 0;
+		for(Summoner summoner : summoners)
+			summoner.fillFrom(found);
+		return summoners.size();
+	}
+	
+	//Entity cache helper methods
+	
+	/**
+	 * Private helper to cache a summoner by ID and by name, along with its name.
+	 * @param region The region of the summoner.
+	 * @param summoner The summoner.
+	 * @throws RiotApiException If the summoner is missing information and failed to fill.
+	 */
+	private void cacheSummoner(Region region, Summoner summoner) throws RiotApiException
+	{
+		if(summoner == null)
+			return;
+		
+		cacheEntity(region, EntityCache.Type.SUMMONER, summoner.getId(), summoner);
+		cacheEntity(region, EntityCache.Type.SUMMONER_BY_NAME, ApiUtil.standardizeSummonerName(summoner.getName()), summoner);
+		cacheEntity(region, EntityCache.Type.SUMMONER_NAME, summoner.getId(), summoner.getName());
+	}
+	
+	/**
+	 * Private helper to handle a request in which none of the requested summoners were found.
+	 * Summoners served from the cache are still returned.
+	 * @param region The region of the summoners.
+	 * @param cached The summoners served from the cache.
+	 * @return The cached summoners, if any.
+	 * @throws SummonerNotFoundException If none of the summoners were found.
+	 */
+	private static <K, V> Map<K, V> checkFound(Region region, Map<K, V> cached) throws SummonerNotFoundException
+	{
+		if(cached.isEmpty())
+			throw new SummonerNotFoundException(region);
+		return cached;
+	}
+	
 	//Private parsing methods
 	
 	/**
-	 * Private helper to parse a summoner JSON object.
+	 * Private helper to bind a summoner JSON object directly from the reader.
 	 * @param region The region of the summoner.
-	 * @param summonerObject The JSON object to parse.
+	 * @param reader The reader, positioned at the summoner object.
 	 * @return The summoner.
+	 * @throws RiotApiException If the JSON is malformed.
 	 */
-	private Summoner convertSummoner(Region region, JsonObject summonerObject)
+	private Summoner bindSummoner(Region region, JsonReader reader) throws RiotApiException
 	{
-		try
-		{
-			Summoner summoner = new Summoner(api, region,
-					summonerObject.getLong("id"), summonerObject.getString("name"),
-					summonerObject.getInt("profileIconId"), summonerObject.getLong("summonerLevel"),
-					summonerObject.getLong("revisionDate"));
-			return summoner;
-		}
-		catch(JsonException e)
+		long id = 0, summonerLevel = 0, revisionDate = 0;
+		String name = null;
+		int profileIconId = 0;
+		
+		reader.beginObject();
+		while(reader.hasNext())
 		{
-			//Shouldn't happen since the JSON is already parsed
-			System.err.println("JSON parse error");
-			e.printStackTrace();
-			return null;
+			switch(reader.nextName())
+			{
+				case "id": id = reader.nextLong(); break;
+				case "name": name = reader.nextString(); break;
+				case "profileIconId": profileIconId = reader.nextInt(); break;
+				case "summonerLevel": summonerLevel = reader.nextLong(); break;
+				case "revisionDate": revisionDate = reader.nextLong(); break;
+				default: reader.skipValue();
+			}
 		}
+		reader.endObject();
+		
+		return internSummoner(new Summoner(api, region, id, name, profileIconId, summonerLevel, revisionDate));
 	}
 	
 	/**
@@ -72,7 +72,9 @@ public class TeamMethod extends Method
 		for(int t = 0; t < teamsArray.size(); t++)
 		{
 			JsonObject teamObject = teamsArray.getObject(t);
-			teams.add(convertTeam(teamObject, region));
+			Team team = convertTeam(teamObject, region);
+			teams.add(team);
+			cacheEntity(region, EntityCache.Type.TEAM, team.getId(), team);
 		}
 		
 		return teams;
@@ -92,7 +94,13 @@ public class TeamMethod extends Method
 	{
 		checkAmountOfThings(teamIds, "team ID");
 		
-		String ids = IOUtil.createCommaDelimitedString(teamIds);
+		//Only request teams that aren't cached
+		Map<String, Team> teams = new HashMap<String, Team>();
+		String[] missingIds = getCachedEntities(region, EntityCache.Type.TEAM, teamIds, teams);
+		if(missingIds.length == 0)
+			return teams;
+		
+		String ids = IOUtil.createCommaDelimitedString(missingIds);
 		
 		//Make request
 		Response response = getMethodResult(region,
@@ -101,19 +109,60 @@ public class TeamMethod extends Method
 		
 		//Check errors
 		if(response.getCode() == 404)
-			throw new TeamNotFoundException(region);
+		{
+			if(teams.isEmpty())
+				throw new TeamNotFoundException(region);
+			return teams;
+		}
 		
 		//Parse response
 		JsonObject teamsObject = (JsonObject)response.getValue();
-		Map<String, Team> teams = new HashMap<String, Team>();
 		for(String teamId : teamsObject.keySet())
 		{
 			JsonObject teamObject = teamsObject.getObject(teamId);
-			teams.put(teamId, convertTeam(teamObject, region));
+			Team team = convertTeam(teamObject, region);
+			teams.put(teamId, team);
+			cacheEntity(region, EntityCache.Type.TEAM, teamId, team);
 		}
 		return teams;
 	}
 	
+	//Bulk operation methods
+	
+	/**
+	 * <p>Returns the teams any number of summoners are in. Teams shared by several summoners are only returned once.</p>
+	 * <p>IDs are requested in concurrent batches of 10. Summoners not in any teams are ignored.</p>
+	 * @param region The game region (NA, EUW, EUNE, etc.)
+	 * @param summonerIds The IDs of the summoners.
+	 * @return A list of teams.
+	 * @throws RegionNotSupportedException If the region is not supported by the method.
+	 * @throws RiotApiException If there was an exception or error from the server.
+	 */
+	public List<Team> getSummonerTeamsBulk(Region region, long[] summonerIds) throws RiotApiException
+	{
+		Map<String, Team> teams = executeInBatches(summonerIds, batch -> {
+			Map<String, Team> batchTeams = new HashMap<>();
+			for(Team team : getSummonerTeams(region, batch))
+				batchTeams.put(team.getId(), team);
+			return batchTeams;
+		});
+		return new ArrayList<>(teams.values());
+	}
+	
+	/**
+	 * <p>Returns a map of the teams corresponding to any number of team IDs.</p>
+	 * <p>IDs are requested in concurrent batches of 10. Teams that weren't found are missing from the returned map.</p>
+	 * @param region The game region (NA, EUW, EUNE, etc.)
+	 * @param teamIds The team IDs.
+	 * @return A map of team IDs to teams.
+	 * @throws RegionNotSupportedException If the region is not supported by the method.
+	 * @throws RiotApiException If there was an exception or error from the server.
+	 */
+	public Map<String, Team> getTeamsBulk(Region region, String[] teamIds) throws RiotApiException
+	{
+		return executeInBatches(teamIds, batch -> getTeams(region, batch));
+	}
+	
 	//Private converter methods
 	
 	/**
@@ -122,7 +171,7 @@ public class TeamMethod extends Method
 	 * @param region The game region.
 	 * @return The converted team object.
 	 */
-	private Team convertTeam(JsonObject teamObject, Region region)
+	private Team convertTeam(JsonObject teamObject, Region region) throws RiotApiException
 	{
 		//Get team ID
 		String id = teamObject.getString("fullId");
@@ -181,20 +230,29 @@ public class TeamMethod extends Method
 	 * @return The team roster.
 	 * @throws JsonException Parse error (shouldn't happen).
 	 */
-	private Team.Roster convertRoster(JsonObject rosterObject, Region region)
+	private Team.Roster convertRoster(JsonObject rosterObject, Region region) throws RiotApiException
 	{
 		//Create list of members
 		JsonArray membersArray = rosterObject.getArray("memberList");
 		List<Team.Roster.Member> members = new ArrayList<>(membersArray.size());
+		List<Summoner> summoners = new ArrayList<>(membersArray.size());
 		for(int m = 0; m < membersArray.size(); m++)
 		{
 			JsonObject memberObject = membersArray.getObject(m);
-			Summoner summoner = new Summoner(api, region, memberObject.getLong("playerId"), null);
+			long summonerId = memberObject.getLong("playerId");
+			Summoner summoner = getCanonicalSummoner(region, summonerId);
+			if(summoner == null)
+				summoner = new Summoner(api, region, summonerId, null);
 			Team.Roster.Member member = new Team.Roster.Member(summoner, memberObject.getString("status"),
 					memberObject.getLong("inviteDate"), memberObject.getLong("joinDate"));
 			members.add(member);
+			summoners.add(summoner);
 		}
-		return null;
+		
+		//Fill all members together the first time one is accessed
+		Summoner.fillTogether(summoners);
+		
+		return new Team.Roster(members, rosterObject.getLong("ownerId"));
 	}
 	
 	/**
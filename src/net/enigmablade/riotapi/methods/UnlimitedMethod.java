@@ -1,10 +1,7 @@
 package net.enigmablade.riotapi.methods;
 
-import java.util.*;
 import net.enigmablade.riotapi.*;
-import net.enigmablade.riotapi.Requester.*;
 import net.enigmablade.riotapi.constants.*;
-import net.enigmablade.riotapi.exceptions.*;
 
 public class UnlimitedMethod extends Method
 {
@@ -19,12 +16,8 @@ public class UnlimitedMethod extends Method
 	}
 	
 	@Override
-	protected Response getMethodResult(Region region, String operation, boolean isGlobal, Map<String, String> pathArgs, Map<String, String> queryArgs) throws RiotApiException
+	protected boolean isRateLimited()
 	{
-		boolean save = api.isRateLimitEnabled();
-		api.setRateLimitEnabled(false);
-		Response response = super.getMethodResult(region, operation, isGlobal, pathArgs, queryArgs);
-		api.setRateLimitEnabled(save);
-		return response;
+		return false;
 	}
 }
@@ -0,0 +1,246 @@
+package net.enigmablade.riotapi.types;
+
+import java.util.*;
+import net.enigmablade.riotapi.constants.*;
+
+/**
+ * <p>A set of aggregated stats, as part of a player's stat summary or ranked champion stats.</p>
+ * <p>Known stats are stored in an <code>int</code> array indexed by {@link AggregatedStatType} ordinal with a bitset marking which
+ * stats are present, so a set of stats is two small arrays rather than a map of boxed values.
+ * Stats unknown to {@link AggregatedStatType} are kept separately by their API name.</p>
+ * 
+ * @author Enigma
+ */
+public class AggregatedStats
+{
+	private static final AggregatedStatType[] TYPES = AggregatedStatType.values();
+	
+	private int[] values;
+	private long[] present;
+	private Map<String, Integer> unknown;
+	
+	/**
+	 * Creates a new set of stats with no stats present.
+	 */
+	public AggregatedStats()
+	{
+		values = new int[TYPES.length];
+		present = new long[(TYPES.length+63)/64];
+	}
+	
+	/**
+	 * Creates a new set of stats from a map of API stat names to values.
+	 * @param stats The stats.
+	 */
+	public AggregatedStats(Map<String, Integer> stats)
+	{
+		this();
+		if(stats != null)
+			for(Map.Entry<String, Integer> stat : stats.entrySet())
+				set(stat.getKey(), stat.getValue());
+	}
+	
+	//Accessor methods
+	
+	/**
+	 * Returns whether or not the stat was given.
+	 * @param type The stat type.
+	 * @return <code>true</code> if present, otherwise <code>false</code>.
+	 */
+	public boolean has(AggregatedStatType type)
+	{
+		int n = type.ordinal();
+		return (present[n >>> 6] & (1L << n)) != 0;
+	}
+	
+	/**
+	 * Returns the value of a stat, or <code>0</code> if not present.
+	 * @param type The stat type.
+	 * @return The value.
+	 */
+	public int get(AggregatedStatType type)
+	{
+		return values[type.ordinal()];
+	}
+	
+	/**
+	 * Returns the value of a stat by its API name, including stats unknown to {@link AggregatedStatType}.
+	 * @param key The API name of the stat.
+	 * @return The value, or <code>null</code> if not present.
+	 */
+	public Integer get(String key)
+	{
+		AggregatedStatType type = AggregatedStatType.getFromValue(key);
+		if(type == null)
+			return unknown != null ? unknown.get(key) : null;
+		return has(type) ? values[type.ordinal()] : null;
+	}
+	
+	/**
+	 * Sets the value of a stat.
+	 * @param type The stat type.
+	 * @param value The value.
+	 */
+	public void set(AggregatedStatType type, int value)
+	{
+		int n = type.ordinal();
+		values[n] = value;
+		present[n >>> 6] |= 1L << n;
+	}
+	
+	/**
+	 * Sets a stat by its API name. Known stats are stored in their slot, unknown stats are kept by name.
+	 * @param key The API name of the stat.
+	 * @param value The value.
+	 */
+	public void set(String key, int value)
+	{
+		AggregatedStatType type = AggregatedStatType.getFromValue(key);
+		if(type != null)
+		{
+			set(type, value);
+		}
+		else
+		{
+			if(unknown == null)
+				unknown = new HashMap<>(4);
+			unknown.put(key, value);
+		}
+	}
+	
+	/**
+	 * Returns the stats unknown to {@link AggregatedStatType}, keyed by API name.
+	 * @return The unknown stats.
+	 */
+	public Map<String, Integer> getUnknownStats()
+	{
+		return unknown != null ? Collections.unmodifiableMap(unknown) : Collections.emptyMap();
+	}
+	
+	//Typed accessor methods
+	
+	public int getTotalGamesPlayed()
+	{
+		return get(AggregatedStatType.TOTAL_GAMES_PLAYED);
+	}
+	
+	public int getTotalGamesWon()
+	{
+		return get(AggregatedStatType.TOTAL_GAMES_WON);
+	}
+	
+	public int getTotalGamesLost()
+	{
+		return get(AggregatedStatType.TOTAL_GAMES_LOST);
+	}
+	
+	public int getTotalChampionKills()
+	{
+		return get(AggregatedStatType.TOTAL_CHAMPION_KILLS);
+	}
+	
+	public int getTotalAssists()
+	{
+		return get(AggregatedStatType.TOTAL_ASSISTS);
+	}
+	
+	public int getTotalMinionKills()
+	{
+		return get(AggregatedStatType.TOTAL_MINION_KILLS);
+	}
+	
+	public int getTotalNeutralMinionsKilled()
+	{
+		return get(AggregatedStatType.TOTAL_NEUTRAL_MINIONS_KILLED);
+	}
+	
+	public int getTotalTurretsKilled()
+	{
+		return get(AggregatedStatType.TOTAL_TURRETS_KILLED);
+	}
+	
+	public int getTotalGoldEarned()
+	{
+		return get(AggregatedStatType.TOTAL_GOLD_EARNED);
+	}
+	
+	public int getTotalDamageDealt()
+	{
+		return get(AggregatedStatType.TOTAL_DAMAGE_DEALT);
+	}
+	
+	public int getTotalPhysicalDamageDealt()
+	{
+		return get(AggregatedStatType.TOTAL_PHYSICAL_DAMAGE_DEALT);
+	}
+	
+	public int getTotalMagicDamageDealt()
+	{
+		return get(AggregatedStatType.TOTAL_MAGIC_DAMAGE_DEALT);
+	}
+	
+	public int getTotalDamageTaken()
+	{
+		return get(AggregatedStatType.TOTAL_DAMAGE_TAKEN);
+	}
+	
+	public int getTotalHealingDone()
+	{
+		return get(AggregatedStatType.TOTAL_HEALING_DONE);
+	}
+	
+	public int getTotalFirstBloods()
+	{
+		return get(AggregatedStatType.TOTAL_FIRST_BLOODS);
+	}
+	
+	public int getTotalDoubleKills()
+	{
+		return get(AggregatedStatType.TOTAL_DOUBLE_KILLS);
+	}
+	
+	public int getTotalTripleKills()
+	{
+		return get(AggregatedStatType.TOTAL_TRIPLE_KILLS);
+	}
+	
+	public int getTotalQuadraKills()
+	{
+		return get(AggregatedStatType.TOTAL_QUADRA_KILLS);
+	}
+	
+	public int getTotalPentaKills()
+	{
+		return get(AggregatedStatType.TOTAL_PENTA_KILLS);
+	}
+	
+	public int getTotalUnrealKills()
+	{
+		return get(AggregatedStatType.TOTAL_UNREAL_KILLS);
+	}
+	
+	public int getMaxChampionsKilled()
+	{
+		return get(AggregatedStatType.MAX_CHAMPIONS_KILLED);
+	}
+	
+	public int getLargestKillingSpree()
+	{
+		return get(AggregatedStatType.LARGEST_KILLING_SPREE);
+	}
+	
+	public int getLargestCriticalStrike()
+	{
+		return get(AggregatedStatType.LARGEST_CRITICAL_STRIKE);
+	}
+	
+	public int getMostTimePlayed()
+	{
+		return get(AggregatedStatType.MOST_TIME_PLAYED);
+	}
+	
+	public int getMostTimeSpentLiving()
+	{
+		return get(AggregatedStatType.MOST_TIME_SPENT_LIVING);
+	}
+}
@@ -61,8 +61,7 @@ public class Champion extends DynamicType
 	//Identification data
 	private long id;
 	
-	//Dynamic data
-	private static final Object DYNAMIC_DATA = new Object();
+	//Dynamic data, tracked as the default part
 	private boolean active, freeToPlay;
 	private boolean botMatchMadeEnabled, botCustomEnabled, rankedEnabled;
 	private int attackRank, magicRank, defenseRank, difficultyRank;
@@ -107,7 +106,7 @@ public class Champion extends DynamicType
 		this.rankedEnabled = rankedEnabled;
 		
 		if(upToDate)
-			setTypeUpdated(DYNAMIC_DATA);
+			setTypeUpdated();
 		
 		this.attackRank = -1;
 		this.magicRank = -1;
@@ -154,28 +153,70 @@ public class Champion extends DynamicType
 	 */
 	private void verifyDynamicState() throws RiotApiException
 	{
-		if(!hasTypeUpdated(DYNAMIC_DATA))
-		{
-			setTypeUpdated(DYNAMIC_DATA);
-			api.getChampionApiMethod().fillChampion(this, region);
-		}
+		fillOnce(() -> api.getChampionApiMethod().fillChampion(this, region));
 	}
 	
 	/**
 	 * Verifies required information for static information methods is available.
-	 * If not found, makes an API call to get dynamic champion information.
+	 * If not found, fills all static data from the champion registry, which loads all champions at once if needed.
+	 * Only champions missing from the registry make an API call for the type of static data.
 	 * @param type The type of static data being checked.
 	 * @throws RiotApiException If there was an exception or an error from the server.
 	 */
 	private void verifyStaticState(ChampionDataType type) throws RiotApiException
 	{
-		if(!hasTypeUpdated(type))
+		fillOnce(type, () -> {
+			if(!api.getChampionRegistry().fill(this))
+				api.getStaticDataApiMethod().fillChampion(this, region, type);
+		});
+	}
+	
+	/**
+	 * Marks static data as loaded, so accessing it doesn't make an API call. Marking <code>ALL</code> marks every type.
+	 * @param type The type of static data that was loaded.
+	 */
+	public void setStaticDataLoaded(ChampionDataType type)
+	{
+		if(type == ChampionDataType.ALL)
+		{
+			for(ChampionDataType t : ChampionDataType.values())
+				setTypeUpdated(t);
+		}
+		else
 		{
 			setTypeUpdated(type);
-			api.getStaticDataApiMethod().fillChampion(this, region, type);
 		}
 	}
 	
+	/**
+	 * Copies all static data from another instance of the same champion and marks it loaded.
+	 * @param champion The champion to copy from, with all static data loaded.
+	 */
+	public void fillStaticData(Champion champion)
+	{
+		name = champion.name;
+		key = champion.key;
+		title = champion.title;
+		resourceType = champion.resourceType;
+		blurb = champion.blurb;
+		lore = champion.lore;
+		attackRank = champion.attackRank;
+		magicRank = champion.magicRank;
+		defenseRank = champion.defenseRank;
+		difficultyRank = champion.difficultyRank;
+		allyTips = champion.allyTips;
+		enemyTips = champion.enemyTips;
+		tags = champion.tags;
+		image = champion.image;
+		skins = champion.skins;
+		recommended = champion.recommended;
+		passive = champion.passive;
+		spells = champion.spells;
+		stats = champion.stats;
+		
+		setStaticDataLoaded(ChampionDataType.ALL);
+	}
+	
 	//Accessor methods
 	
 	public Region getRegion()
@@ -201,6 +242,33 @@ public class Champion extends DynamicType
 		return id;
 	}
 	
+	/**
+	 * Returns the champion ID if it's known, without making an API call.
+	 * @return The champion ID, or a negative number if unknown.
+	 */
+	public long getKnownId()
+	{
+		return id;
+	}
+	
+	/**
+	 * Returns the champion name if it's known, without making an API call.
+	 * @return The champion name, or <code>null</code> if unknown.
+	 */
+	public String getKnownName()
+	{
+		return name;
+	}
+	
+	/**
+	 * Returns the champion key if it's known, without making an API call.
+	 * @return The champion key, or <code>null</code> if unknown.
+	 */
+	public String getKnownKey()
+	{
+		return key;
+	}
+	
 	////Dynamic accessor methods
 	
 	public boolean isActive() throws RiotApiException
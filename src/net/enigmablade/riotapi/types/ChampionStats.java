@@ -13,9 +13,14 @@ public class ChampionStats
 {
 	private int championId;
 	private String championName;
-	private Map<String, Integer> stats;
+	private AggregatedStats stats;
 	
 	public ChampionStats(int championId, String championName, Map<String, Integer> stats)
+	{
+		this(championId, championName, new AggregatedStats(stats));
+	}
+	
+	public ChampionStats(int championId, String championName, AggregatedStats stats)
 	{
 		this.championId = championId;
 		this.championName = championName;
@@ -32,8 +37,22 @@ public class ChampionStats
 		return championName;
 	}
 	
+	/**
+	 * Returns the value of an aggregated stat, or <code>0</code> if the stat wasn't given.
+	 * @param statType The stat type.
+	 * @return The value.
+	 */
 	public int getAggregatedStat(AggregatedStatType statType)
 	{
-		return stats.get(statType.getValue());
-	}	
+		return stats.get(statType);
+	}
+	
+	/**
+	 * Returns all of the aggregated stats, with typed accessors for the common stats.
+	 * @return The stats.
+	 */
+	public AggregatedStats getAggregatedStats()
+	{
+		return stats;
+	}
 }
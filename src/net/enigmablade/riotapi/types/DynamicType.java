@@ -1,51 +1,173 @@
 package net.enigmablade.riotapi.types;
 
 import java.util.*;
+import java.util.concurrent.atomic.*;
 import net.enigmablade.riotapi.*;
+import net.enigmablade.riotapi.exceptions.*;
 
 /**
- * A simple class to keep track of whether or not a dynamic type (a type that can update its stored information dynamically) has been updated.
- * Includes support tracking multiple parts of a type at once, such as a Champion that gets information from multiple sources.
+ * <p>A simple class to keep track of whether or not a dynamic type (a type that can update its stored information dynamically) has been updated.
+ * Includes support tracking multiple parts of a type at once, such as a Champion that gets information from multiple sources.</p>
+ * <p>Each part is a bit in a <code>long</code>: the default part is bit 0, and a part identified by an enum constant (ex. a
+ * <code>ChampionDataType</code>) is the bit after its ordinal. Transitions are atomic, and {@link #fillOnce(Enum, Fill)} makes sure
+ * a part is filled by at most one thread at a time. Other threads asking for the same part wait for the fill to finish,
+ * while the filling thread itself may read the type again during the fill without filling recursively.</p>
  * 
  * @author Enigma
  */
 public abstract class DynamicType
 {
-	protected RiotApi api;
-	private Map<Object, Boolean> updated;
+	private static final int MAX_PARTS = 63;
+	
+	private static final AtomicLongFieldUpdater<DynamicType> UPDATED = AtomicLongFieldUpdater.newUpdater(DynamicType.class, "updated");
+	private static final AtomicLongFieldUpdater<DynamicType> FILLING = AtomicLongFieldUpdater.newUpdater(DynamicType.class, "filling");
 	
-	private static final Object DEFAULT_KEY = new Object();
+	//The parts each thread is currently filling, to allow reads of the same part during a fill
+	private static final ThreadLocal<Map<DynamicType, Long>> ownFills = ThreadLocal.withInitial(IdentityHashMap::new);
+	
+	protected RiotApi api;
+	private volatile long updated;
+	private volatile long filling;
 	
 	protected DynamicType(RiotApi api)
 	{
-		this(api, 1);
+		this.api = api;
 	}
 	
+	/**
+	 * @param api The API instance being used.
+	 * @param num The number of parts being tracked, at most 63 including the default part.
+	 */
 	protected DynamicType(RiotApi api, int num)
 	{
-		this.api = api;
-		
-		updated = new HashMap<>(num);
+		this(api);
+		if(num > MAX_PARTS)
+			throw new IllegalArgumentException("Too many parts: "+num);
 	}
 	
+	//State methods
+	
 	protected boolean hasTypeUpdated()
 	{
-		return updated.get(DEFAULT_KEY);
+		return (updated & 1L) != 0;
 	}
 	
 	protected void setTypeUpdated()
 	{
-		updated.put(DEFAULT_KEY, true);
+		UPDATED.getAndAccumulate(this, 1L, (a, b) -> a | b);
+	}
+	
+	protected boolean hasTypeUpdated(Enum<?> key)
+	{
+		return (updated & mask(key)) != 0;
 	}
 	
-	protected boolean hasTypeUpdated(Object key)
+	protected void setTypeUpdated(Enum<?> key)
 	{
-		Boolean b = updated.get(key);
-		return b != null ? b : false;
+		UPDATED.getAndAccumulate(this, mask(key), (a, b) -> a | b);
 	}
 	
-	protected void setTypeUpdated(Object key)
+	/**
+	 * Fills the default part of the type if it hasn't been updated yet.
+	 * @param fill The fill to run.
+	 * @throws RiotApiException If the fill failed.
+	 * @see #fillOnce(Enum, Fill)
+	 */
+	protected void fillOnce(Fill fill) throws RiotApiException
+	{
+		fillOnce(1L, fill);
+	}
+	
+	/**
+	 * Fills a part of the type if it hasn't been updated yet, and marks it updated once the fill finishes.
+	 * <p>If another thread is already filling the part, waits for it to finish instead.
+	 * If the current thread is already filling the part, returns immediately.
+	 * If the fill fails, the part is left not updated and the next caller tries again.</p>
+	 * @param key The part to fill.
+	 * @param fill The fill to run.
+	 * @throws RiotApiException If the fill failed.
+	 */
+	protected void fillOnce(Enum<?> key, Fill fill) throws RiotApiException
+	{
+		fillOnce(mask(key), fill);
+	}
+	
+	private void fillOnce(long mask, Fill fill) throws RiotApiException
+	{
+		while(true)
+		{
+			if((updated & mask) != 0)
+				return;
+			
+			long current = filling;
+			if((current & mask) == 0)
+			{
+				if(FILLING.compareAndSet(this, current, current | mask))
+					break;
+				continue;
+			}
+			
+			//Being filled, either further up this thread's stack or by another thread
+			Long own = ownFills.get().get(this);
+			if(own != null && (own & mask) != 0)
+				return;
+			
+			synchronized(this)
+			{
+				while((filling & mask) != 0 && (updated & mask) == 0)
+				{
+					try
+					{
+						wait();
+					}
+					catch(InterruptedException e)
+					{
+						Thread.currentThread().interrupt();
+						throw new RiotApiException("Interrupted while waiting for data", e);
+					}
+				}
+			}
+		}
+		
+		Map<DynamicType, Long> own = ownFills.get();
+		own.merge(this, mask, (a, b) -> a | b);
+		try
+		{
+			fill.fill();
+			UPDATED.getAndAccumulate(this, mask, (a, b) -> a | b);
+		}
+		finally
+		{
+			long remaining = own.get(this) & ~mask;
+			if(remaining == 0)
+				own.remove(this);
+			else
+				own.put(this, remaining);
+			
+			FILLING.getAndAccumulate(this, mask, (a, b) -> a & ~b);
+			synchronized(this)
+			{
+				notifyAll();
+			}
+		}
+	}
+	
+	private static long mask(Enum<?> key)
+	{
+		int bit = key.ordinal()+1;
+		if(bit > MAX_PARTS)
+			throw new IllegalArgumentException("Too many parts: "+key);
+		return 1L << bit;
+	}
+	
+	//Helper classes
+	
+	/**
+	 * Fills part of a dynamic type, usually by calling the API.
+	 */
+	@FunctionalInterface
+	protected interface Fill
 	{
-		updated.put(key, true);
+		public void fill() throws RiotApiException;
 	}
 }
@@ -31,11 +31,18 @@ public class Game implements Comparable<Game>
 	
 	private int teamId;					//teamId
 	private List<Player> players;		//fellowPlayers
-	private Map<String, Object> stats;	//statistics
+	private GameStats stats;			//statistics
 	
 	private int ipEarned;				//ipEarned
 	
+	private static final GameStatType[] ITEM_STATS = {GameStatType.ITEM0, GameStatType.ITEM1, GameStatType.ITEM2, GameStatType.ITEM3, GameStatType.ITEM4, GameStatType.ITEM5, GameStatType.ITEM6};
+	
 	public Game(RiotApi api, Region region, int championId, int level, int spell1, int spell2, long playedDate, boolean invalid, long gameId, String gameMode, String gameType, String gameSubType, int mapId, int teamId, List<Player> players, Map<String, Object> stats, int ipEarned)
+	{
+		this(api, region, championId, level, spell1, spell2, playedDate, invalid, gameId, gameMode, gameType, gameSubType, mapId, teamId, players, new GameStats(stats), ipEarned);
+	}
+	
+	public Game(RiotApi api, Region region, int championId, int level, int spell1, int spell2, long playedDate, boolean invalid, long gameId, String gameMode, String gameType, String gameSubType, int mapId, int teamId, List<Player> players, GameStats stats, int ipEarned)
 	{
 		this.api = api;
 		this.region = region;
@@ -73,6 +80,15 @@ public class Game implements Comparable<Game>
 		return new Champion(api, region, championId);
 	}
 	
+	/**
+	 * Returns the ID of the champion played by the target summoner of the request.
+	 * @return The played champion ID.
+	 */
+	public int getChampionId()
+	{
+		return championId;
+	}
+	
 	/**
 	 * Returns the level of the target summoner of the request.
 	 * @return The summoner level.
@@ -193,91 +209,94 @@ public class Game implements Comparable<Game>
 	//Stat accessor methods
 	
 	/**
-	 * Returns a boolean represented by the given key.
+	 * Returns all of the stats of the game.
+	 * @return The stats.
+	 */
+	public GameStats getStats()
+	{
+		return stats;
+	}
+	
+	/**
+	 * Returns the boolean stat of the given type.
 	 * If the value doesn't exist, returns <code>false</code>.
-	 * If the value exists, assumes the value is a valid boolean.
-	 * @param key The stat key.
+	 * @param type The stat type.
 	 * @return The boolean value.
 	 */
-	private boolean getBooleanStat(String key)
+	private boolean getBooleanStat(GameStatType type)
 	{
-		if(stats.containsKey(key))
-			return (Boolean)stats.get(key);
-		return false;
+		return stats.getBoolean(type);
 	}
 	
 	/**
-	 * Returns an integer represented by the given key.
+	 * Returns the integer stat of the given type.
 	 * If the value doesn't exist, returns <code>0</code>.
-	 * If the value exists, assumes the value is a valid integer.
-	 * @param key The stat key.
+	 * @param type The stat type.
 	 * @return The integer value.
 	 */
-	private int getIntStat(String key)
+	private int getIntStat(GameStatType type)
 	{
-		if(stats.containsKey(key))
-			return ((Long)stats.get(key)).intValue();
-		return 0;
+		return stats.getInt(type);
 	}
 	
 	public int getLevel()
 	{
-		return getIntStat("level");
+		return getIntStat(GameStatType.LEVEL);
 	}
 	
 	public int getAssists()
 	{
-		return getIntStat("assists");
+		return getIntStat(GameStatType.ASSISTS);
 	}
 	
 	public int getBarracksKilled()
 	{
-		return getIntStat("barracksKilled");
+		return getIntStat(GameStatType.BARRACKS_KILLED);
 	}
 	
 	public int getChampionsKilled()
 	{
-		return getIntStat("championsKilled");
+		return getIntStat(GameStatType.CHAMPIONS_KILLED);
 	}
 	
 	public int getCombatPlayerScore()
 	{
-		return getIntStat("combatPlayerScore");
+		return getIntStat(GameStatType.COMBAT_PLAYER_SCORE);
 	}
 	
 	public int getConsumablesPurchased()
 	{
-		return getIntStat("consumablesPurchased");
+		return getIntStat(GameStatType.CONSUMABLES_PURCHASED);
 	}
 	
 	public int getDamageDealt()
 	{
-		return getIntStat("damageDealtPlayer");
+		return getIntStat(GameStatType.DAMAGE_DEALT_PLAYER);
 	}
 	
 	public int getDoubleKills()
 	{
-		return getIntStat("doubleKills");
+		return getIntStat(GameStatType.DOUBLE_KILLS);
 	}
 	
 	public boolean getGotFirstBlood()
 	{
-		return getIntStat("firstBlood") > 0;
+		return getIntStat(GameStatType.FIRST_BLOOD) > 0;
 	}
 	
 	public int getGoldLeft()
 	{
-		return getIntStat("gold");
+		return getIntStat(GameStatType.GOLD);
 	}
 	
 	public int getGoldEarned()
 	{
-		return getIntStat("goldEarned");
+		return getIntStat(GameStatType.GOLD_EARNED);
 	}
 	
 	public int getGoldSpent()
 	{
-		return getIntStat("goldSpent");
+		return getIntStat(GameStatType.GOLD_SPENT);
 	}
 	
 	public List<Integer> getItems()
@@ -286,7 +305,7 @@ public class Game implements Comparable<Game>
 		int item;
 		for(int n = 0; n < 7; n++)
 		{
-			if((item = getIntStat("item"+n)) > 0)
+			if((item = getIntStat(ITEM_STATS[n])) > 0)
 				items.add(item);
 		}
 		return items;
@@ -294,42 +313,42 @@ public class Game implements Comparable<Game>
 	
 	public int getNumItemsPurchased()
 	{
-		return getIntStat("itemsPurchased");
+		return getIntStat(GameStatType.ITEMS_PURCHASED);
 	}
 	
 	public int getNumKillingSprees()
 	{
-		return getIntStat("killingSprees");
+		return getIntStat(GameStatType.KILLING_SPREES);
 	}
 	
 	public int getLargestCriticalStrike()
 	{
-		return getIntStat("largestCriticalStrike");
+		return getIntStat(GameStatType.LARGEST_CRITICAL_STRIKE);
 	}
 	
 	public int getLargestKillingSpree()
 	{
-		return getIntStat("largestKillingSpree");
+		return getIntStat(GameStatType.LARGEST_KILLING_SPREE);
 	}
 	
 	public int getLargestMultiKill()
 	{
-		return getIntStat("largestMultiKill");
+		return getIntStat(GameStatType.LARGEST_MULTI_KILL);
 	}
 	
 	public int getNumLegendaryItemsPurchased()
 	{
-		return getIntStat("legendaryItemsCreated");
+		return getIntStat(GameStatType.LEGENDARY_ITEMS_CREATED);
 	}
 	
 	public int getTotalMagicDamageDealt()
 	{
-		return getIntStat("magicDamageDealtPlayer");
+		return getIntStat(GameStatType.MAGIC_DAMAGE_DEALT_PLAYER);
 	}
 	
 	public int getMagicDamageDealtToChampions()
 	{
-		return getIntStat("magicDamageDealtToChampions");
+		return getIntStat(GameStatType.MAGIC_DAMAGE_DEALT_TO_CHAMPIONS);
 	}
 	
 	public int getMagicDamageDealtToMinions()
@@ -339,13 +358,13 @@ public class Game implements Comparable<Game>
 	
 	public int getMagicDamageTaken()
 	{
-		return getIntStat("magicDamageTaken");
+		return getIntStat(GameStatType.MAGIC_DAMAGE_TAKEN);
 	}
 	
 	@Deprecated
 	public int getNumMinionsDenied()
 	{
-		return getIntStat("minionsDenied");
+		return getIntStat(GameStatType.MINIONS_DENIED);
 	}
 	
 	public int getTotalMinionsKilled()
@@ -355,77 +374,77 @@ public class Game implements Comparable<Game>
 	
 	public int getEnemyMinionsKilled()
 	{
-		return getIntStat("minionsKilled");
+		return getIntStat(GameStatType.MINIONS_KILLED);
 	}
 	
 	public int getNeutralMinionsKilled()
 	{
-		return getIntStat("neutralMinionsKilled");
+		return getIntStat(GameStatType.NEUTRAL_MINIONS_KILLED);
 	}
 	
 	public int getNeutralMinionsKilledInEnemyJungle()
 	{
-		return getIntStat("neutralMinionsKilledEnemyJungle");
+		return getIntStat(GameStatType.NEUTRAL_MINIONS_KILLED_ENEMY_JUNGLE);
 	}
 	
 	public int getNeutralMinionsKilledInAlliedJungle()
 	{
-		return getIntStat("neutralMinionsKilledYourJungle");
+		return getIntStat(GameStatType.NEUTRAL_MINIONS_KILLED_YOUR_JUNGLE);
 	}
 	
 	public boolean killedNexus()
 	{
-		return getBooleanStat("nexusKilled");
+		return getBooleanStat(GameStatType.NEXUS_KILLED);
 	}
 	
 	public int getDominionPointCaptures()
 	{
-		return getIntStat("nodeCapture");
+		return getIntStat(GameStatType.NODE_CAPTURE);
 	}
 	
 	public int getDominionPointCaptureAssists()
 	{
-		return getIntStat("nodeCaptureAssist");
+		return getIntStat(GameStatType.NODE_CAPTURE_ASSIST);
 	}
 	
 	public int getDominionPointNeutralized()
 	{
-		return getIntStat("nodeNeutralize");
+		return getIntStat(GameStatType.NODE_NEUTRALIZE);
 	}
 	
 	public int getDominionPointNeutralizeAssists()
 	{
-		return getIntStat("nodeNeutralizeAssist");
+		return getIntStat(GameStatType.NODE_NEUTRALIZE_ASSIST);
 	}
 	
 	public int getDeaths()
 	{
-		return getIntStat("numDeaths");
+		return getIntStat(GameStatType.NUM_DEATHS);
 	}
 	
 	public int getNumItemsBought()
 	{
-		return getIntStat("numItemsBought");
+		return getIntStat(GameStatType.NUM_ITEMS_BOUGHT);
 	}
 	
 	public int getObjectivePlayerScore()
 	{
-		return getIntStat("objectivePlayerScore");
+		return getIntStat(GameStatType.OBJECTIVE_PLAYER_SCORE);
 	}
 	
 	public int getPentaKills()
 	{
-		return getIntStat("pentaKills");
+		return getIntStat(GameStatType.PENTA_KILLS);
 	}
 	
 	public int getTotalPhysicalDamageDealth()
 	{
-		return getIntStat("physicalDamageDealtPlayer");
+		return getIntStat(GameStatType.PHYSICAL_DAMAGE_DEALT_PLAYER);
 	}
 	
 	public int getPhysicalDamageDealtToChampions()
 	{
-		return getIntStat("physicalDamageDealtToChampions");
+		return getIntStat(GameStatType.PHYSICAL_DAMAGE_DEALT_TO_CHAMPIONS);
 	}
 	
 	public int getPhysicalDamageDealtToOther()
@@ -435,37 +454,37 @@ public class Game implements Comparable<Game>
 	
 	public int getPhysicalDamageTaken()
 	{
-		return getIntStat("physicalDamageTaken");
+		return getIntStat(GameStatType.PHYSICAL_DAMAGE_TAKEN);
 	}
 	
 	public int getQuadraKills()
 	{
-		return getIntStat("quadraKills");
+		return getIntStat(GameStatType.QUADRA_KILLS);
 	}
 	
 	public int getNumSightWardsBought()
 	{
-		return getIntStat("sightWardsBought");
+		return getIntStat(GameStatType.SIGHT_WARDS_BOUGHT);
 	}
 	
 	public int getNumTimesSpell1Cast()
 	{
-		return getIntStat("spell1Cast");
+		return getIntStat(GameStatType.SPELL1_CAST);
 	}
 	
 	public int getNumTimesSpell2Cast()
 	{
-		return getIntStat("spell2Cast");
+		return getIntStat(GameStatType.SPELL2_CAST);
 	}
 	
 	public int getNumTimesSpell3Cast()
 	{
-		return getIntStat("spell3Cast");
+		return getIntStat(GameStatType.SPELL3_CAST);
 	}
 	
 	public int getNumTimesSpell4Cast()
 	{
-		return getIntStat("spell4Cast");
+		return getIntStat(GameStatType.SPELL4_CAST);
 	}
 	
 	public int getTotalNumTimesSpellsCast()
@@ -475,12 +494,12 @@ public class Game implements Comparable<Game>
 	
 	public int getNumTimesSummonerSpell1Cast()
 	{
-		return getIntStat("summonSpell1Cast");
+		return getIntStat(GameStatType.SUMMON_SPELL1_CAST);
 	}
 	
 	public int getNumTimesSummonerSpell2Cast()
 	{
-		return getIntStat("summonSpell2Cast");
+		return getIntStat(GameStatType.SUMMON_SPELL2_CAST);
 	}
 	
 	public int getTotalTimesSummonerSpellsCast()
@@ -490,32 +509,32 @@ public class Game implements Comparable<Game>
 	
 	public int getSuperMinionsKilled()
 	{
-		return getIntStat("superMonsterKilled");
+		return getIntStat(GameStatType.SUPER_MONSTER_KILLED);
 	}
 	
 	public int getTeam()
 	{
-		return getIntStat("team");
+		return getIntStat(GameStatType.TEAM);
 	}
 	
 	public int getTeamObjective()
 	{
-		return getIntStat("teamObjective");
+		return getIntStat(GameStatType.TEAM_OBJECTIVE);
 	}
 	
 	public int getLength()
 	{
-		return getIntStat("timePlayed");
+		return getIntStat(GameStatType.TIME_PLAYED);
 	}
 	
 	public int getTotalDamageDealt()
 	{
-		return getIntStat("totalDamageDealt");
+		return getIntStat(GameStatType.TOTAL_DAMAGE_DEALT);
 	}
 	
 	public int getTotalDamageDealtToChampions()
 	{
-		return getIntStat("totalDamageDealtToChampions");
+		return getIntStat(GameStatType.TOTAL_DAMAGE_DEALT_TO_CHAMPIONS);
 	}
 	
 	public int getTotalDamageDealtToOther()
@@ -525,47 +544,47 @@ public class Game implements Comparable<Game>
 	
 	public int getTotalDamageTaken()
 	{
-		return getIntStat("totalDamageTaken");
+		return getIntStat(GameStatType.TOTAL_DAMAGE_TAKEN);
 	}
 	
 	public int getTotalHealed()
 	{
-		return getIntStat("totalHeal");
+		return getIntStat(GameStatType.TOTAL_HEAL);
 	}
 	
 	public int getTotalPlayerScore()
 	{
-		return getIntStat("totalPlayerScore");
+		return getIntStat(GameStatType.TOTAL_PLAYER_SCORE);
 	}
 	
 	public int getScoreRank()
 	{
-		return getIntStat("totalScoreRank");
+		return getIntStat(GameStatType.TOTAL_SCORE_RANK);
 	}
 	
 	public int getTotalCrowdControlTimeDealt()
 	{
-		return getIntStat("totalTimeCrowdControlDealt");
+		return getIntStat(GameStatType.TOTAL_TIME_CROWD_CONTROL_DEALT);
 	}
 	
 	public int getNumUnitsHealed()
 	{
-		return getIntStat("totalUnitsHealed");
+		return getIntStat(GameStatType.TOTAL_UNITS_HEALED);
 	}
 	
 	public int getTripleKills()
 	{
-		return getIntStat("tripleKills");
+		return getIntStat(GameStatType.TRIPLE_KILLS);
 	}
 	
 	public int getTotalTrueDamageDealt()
 	{
-		return getIntStat("trueDamageDealtPlayer");
+		return getIntStat(GameStatType.TRUE_DAMAGE_DEALT_PLAYER);
 	}
 	
 	public int getTrueDamageDealtToChampions()
 	{
-		return getIntStat("trueDamageDealtToChampions");
+		return getIntStat(GameStatType.TRUE_DAMAGE_DEALT_TO_CHAMPIONS);
 	}
 	
 	public int getTrueDamageDealtToOther()
@@ -575,42 +594,42 @@ public class Game implements Comparable<Game>
 	
 	public int getTrueDamageTaken()
 	{
-		return getIntStat("trueDamageTaken");
+		return getIntStat(GameStatType.TRUE_DAMAGE_TAKEN);
 	}
 	
 	public int getTurretsKilled()
 	{
-		return getIntStat("turretsKilled");
+		return getIntStat(GameStatType.TURRETS_KILLED);
 	}
 	
 	public int getUnrealKills()
 	{
-		return getIntStat("unrealKills");
+		return getIntStat(GameStatType.UNREAL_KILLS);
 	}
 	
 	public int getTotalVictoryPoints()
 	{
-		return getIntStat("victoryPointTotal");
+		return getIntStat(GameStatType.VICTORY_POINT_TOTAL);
 	}
 	
 	public int getVisionWardsBought()
 	{
-		return getIntStat("visionWardsBought");
+		return getIntStat(GameStatType.VISION_WARDS_BOUGHT);
 	}
 	
 	public int getWardsKilled()
 	{
-		return getIntStat("wardKilled");
+		return getIntStat(GameStatType.WARD_KILLED);
 	}
 	
 	public int getWardsPlaced()
 	{
-		return getIntStat("wardPlaced");
+		return getIntStat(GameStatType.WARD_PLACED);
 	}
 	
 	public boolean isWin()
 	{
-		return getBooleanStat("win");
+		return getBooleanStat(GameStatType.WIN);
 	}
 	
 	//Other methods
@@ -0,0 +1,157 @@
+package net.enigmablade.riotapi.types;
+
+import java.util.*;
+import net.enigmablade.riotapi.constants.*;
+
+/**
+ * <p>The stats of a player in a game, stored in a compact primitive layout.</p>
+ * <p>Known stats are stored in an <code>int</code> array indexed by {@link GameStatType} ordinal, with bitsets
+ * marking which stats are present and the values of boolean stats. Reading a stat is an array load and a bit test.
+ * Stats unknown to {@link GameStatType} are kept separately with their original values.</p>
+ * 
+ * @author Enigma
+ */
+public class GameStats
+{
+	private static final GameStatType[] TYPES = GameStatType.values();
+	private static final int NUM_WORDS = (TYPES.length+63)/64;
+	
+	private int[] values;
+	private long[] present;
+	private long[] booleans;
+	private Map<String, Object> unknown;
+	
+	/**
+	 * Creates a new set of stats with no stats present.
+	 */
+	public GameStats()
+	{
+		values = new int[TYPES.length];
+		present = new long[NUM_WORDS];
+		booleans = new long[NUM_WORDS];
+	}
+	
+	/**
+	 * Creates a new set of stats from a map of API stat names to values, as given by the tree parser.
+	 * @param stats The stats, with <code>Number</code> or <code>Boolean</code> values.
+	 */
+	public GameStats(Map<String, Object> stats)
+	{
+		this();
+		if(stats != null)
+			for(Map.Entry<String, Object> stat : stats.entrySet())
+				set(stat.getKey(), stat.getValue());
+	}
+	
+	//Accessor methods
+	
+	/**
+	 * Returns whether or not the stat was given for the game.
+	 * @param type The stat type.
+	 * @return <code>true</code> if present, otherwise <code>false</code>.
+	 */
+	public boolean has(GameStatType type)
+	{
+		int n = type.ordinal();
+		return (present[n >>> 6] & (1L << n)) != 0;
+	}
+	
+	/**
+	 * Returns the value of an integer stat, or <code>0</code> if not present.
+	 * @param type The stat type.
+	 * @return The value.
+	 */
+	public int getInt(GameStatType type)
+	{
+		return values[type.ordinal()];
+	}
+	
+	/**
+	 * Returns the value of a boolean stat, or <code>false</code> if not present.
+	 * @param type The stat type.
+	 * @return The value.
+	 */
+	public boolean getBoolean(GameStatType type)
+	{
+		int n = type.ordinal();
+		return (booleans[n >>> 6] & (1L << n)) != 0;
+	}
+	
+	/**
+	 * Sets the value of an integer stat.
+	 * @param type The stat type.
+	 * @param value The value.
+	 */
+	public void setInt(GameStatType type, int value)
+	{
+		int n = type.ordinal();
+		values[n] = value;
+		present[n >>> 6] |= 1L << n;
+	}
+	
+	/**
+	 * Sets the value of a boolean stat. Its integer value is <code>1</code> or <code>0</code>.
+	 * @param type The stat type.
+	 * @param value The value.
+	 */
+	public void setBoolean(GameStatType type, boolean value)
+	{
+		int n = type.ordinal();
+		values[n] = value ? 1 : 0;
+		present[n >>> 6] |= 1L << n;
+		if(value)
+			booleans[n >>> 6] |= 1L << n;
+		else
+			booleans[n >>> 6] &= ~(1L << n);
+	}
+	
+	/**
+	 * Sets a stat by its API name. Known stats are stored in their slot, unknown stats (and known stats of an unexpected type) are kept as given.
+	 * @param key The API name of the stat.
+	 * @param value The value, a <code>Number</code> or <code>Boolean</code> for known stats.
+	 */
+	public void set(String key, Object value)
+	{
+		GameStatType type = GameStatType.getFromValue(key);
+		if(type != null && value instanceof Boolean)
+			setBoolean(type, (Boolean)value);
+		else if(type != null && value instanceof Number)
+			setInt(type, ((Number)value).intValue());
+		else
+			setUnknown(key, value);
+	}
+	
+	/**
+	 * Keeps a stat unknown to {@link GameStatType}.
+	 * @param key The API name of the stat.
+	 * @param value The value.
+	 */
+	public void setUnknown(String key, Object value)
+	{
+		if(unknown == null)
+			unknown = new HashMap<>(4);
+		unknown.put(key, value);
+	}
+	
+	/**
+	 * Returns the value of a stat by its API name, boxed as a <code>Long</code> or <code>Boolean</code> like the tree parser.
+	 * @param key The API name of the stat.
+	 * @return The value, or <code>null</code> if not present.
+	 */
+	public Object get(String key)
+	{
+		GameStatType type = GameStatType.getFromValue(key);
+		if(type == null || !has(type))
+			return unknown != null ? unknown.get(key) : null;
+		return type.isBoolean() ? (Object)getBoolean(type) : (Object)(long)getInt(type);
+	}
+	
+	/**
+	 * Returns the stats unknown to {@link GameStatType}, and known stats that had an unexpected type, keyed by API name.
+	 * @return The unknown stats.
+	 */
+	public Map<String, Object> getUnknownStats()
+	{
+		return unknown != null ? Collections.unmodifiableMap(unknown) : Collections.emptyMap();
+	}
+}
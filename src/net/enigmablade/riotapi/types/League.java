@@ -4,8 +4,10 @@ import java.util.*;
 import net.enigmablade.riotapi.constants.*;
 
 /**
- * Information about a League of Legends league.
- * Can be a player-based league of a team-based league.
+ * <p>Information about a League of Legends league.
+ * Can be a player-based league of a team-based league.</p>
+ * <p>Entries are ranked once when the league is created: by division, then league points, then series wins, then total wins.
+ * The rank of an entry is looked up by ID in constant time, and ranges of the ladder are views of the ranked entries.</p>
  * 
  * @author Enigma
  */
@@ -81,6 +83,26 @@ public class League
 			{
 				return progress;
 			}
+			
+			//Object methods
+			
+			@Override
+			public boolean equals(Object o)
+			{
+				if(this == o)
+					return true;
+				if(!(o instanceof Series))
+					return false;
+				
+				Series s = (Series)o;
+				return targetWins == s.targetWins && numWins == s.numWins && numLosses == s.numLosses && Arrays.equals(progress, s.progress);
+			}
+			
+			@Override
+			public int hashCode()
+			{
+				return Objects.hash(targetWins, numWins, numLosses)*31+Arrays.hashCode(progress);
+			}
 		}
 		
 		private LeagueTier division;
@@ -198,15 +220,69 @@ public class League
 		{
 			return series;
 		}
+		
+		//Object methods
+		
+		/**
+		 * Returns whether or not the given entry has the same ID and standing as this entry.
+		 * @param o The other entry.
+		 * @return <code>true</code> if equal, otherwise <code>false</code>.
+		 */
+		@Override
+		public boolean equals(Object o)
+		{
+			if(this == o)
+				return true;
+			if(!(o instanceof Entry))
+				return false;
+			
+			Entry e = (Entry)o;
+			return leaguePoints == e.leaguePoints && wins == e.wins && division == e.division
+					&& isHotStreak == e.isHotStreak && isFreshBlood == e.isFreshBlood && isVeteran == e.isVeteran && isInactive == e.isInactive
+					&& Objects.equals(playerOrTeamId, e.playerOrTeamId) && Objects.equals(playerOrTeamName, e.playerOrTeamName)
+					&& Objects.equals(series, e.series);
+		}
+		
+		@Override
+		public int hashCode()
+		{
+			return Objects.hash(playerOrTeamId, division, leaguePoints, wins);
+		}
+		
+		@Override
+		public String toString()
+		{
+			return playerOrTeamName+" ("+playerOrTeamId+"): "+division.getName()+" "+leaguePoints+" LP";
+		}
 	}
 	
+	/**
+	 * Orders entries from the top of the ladder to the bottom.
+	 */
+	public static final Comparator<Entry> RANK_ORDER = (a, b) -> {
+		int c = Integer.compare(divisionRank(b.getDivision()), divisionRank(a.getDivision()));
+		if(c != 0)
+			return c;
+		c = Integer.compare(b.getLeaguePoints(), a.getLeaguePoints());
+		if(c != 0)
+			return c;
+		c = Integer.compare(seriesWins(b), seriesWins(a));
+		if(c != 0)
+			return c;
+		c = Integer.compare(b.getWins(), a.getWins());
+		if(c != 0)
+			return c;
+		return a.getPlayerOrTeamId().compareTo(b.getPlayerOrTeamId());
+	};
+	
 	//Data
 	
 	private String name;
 	private String participantId;
 	private QueueType queueType;
 	private LeagueTier tier;
-	private Map<String, Entry> entries;
+	private List<Entry> ranked;					//Sorted by RANK_ORDER, unmodifiable
+	private Map<String, Integer> positions;		//Entry ID to index in ranked
 	
 	//Constructors
 	
@@ -216,9 +292,32 @@ public class League
 		this.participantId = participantId;
 		this.queueType = QueueType.getFromGameValue(queueType);
 		this.tier = LeagueTier.stringToConstant(tier);
-		this.entries = new HashMap<String, Entry>(entries.size());
-		for(Entry e : entries)
-			this.entries.put(e.getPlayerOrTeamId(), e);
+		
+		//Rank the entries once, later reads are views and lookups
+		Entry[] sorted = entries.toArray(new Entry[entries.size()]);
+		Arrays.sort(sorted, RANK_ORDER);
+		this.ranked = Collections.unmodifiableList(Arrays.asList(sorted));
+		this.positions = new HashMap<>(sorted.length*4/3+1);
+		for(int n = 0; n < sorted.length; n++)
+			positions.put(sorted[n].getPlayerOrTeamId(), n);
+	}
+	
+	private static int divisionRank(LeagueTier division)
+	{
+		switch(division)
+		{
+			case DIVISION_I: return 5;
+			case DIVISION_II: return 4;
+			case DIVISION_III: return 3;
+			case DIVISION_IV: return 2;
+			case DIVISION_V: return 1;
+			default: return 0;
+		}
+	}
+	
+	private static int seriesWins(Entry entry)
+	{
+		return entry.getSeries() != null ? entry.getSeries().getNumWins() : -1;
 	}
 	
 	//Accessor methods
@@ -262,16 +361,89 @@ public class League
 	}
 	
 	/**
-	 * Returns the entries in the league. A league can consist of exclusively teams or summoners.
+	 * Returns the entries in the league, from the top of the ladder to the bottom. A league can consist of exclusively teams or summoners.
 	 * @return The league's entries.
 	 */
 	public Collection<Entry> getEntries()
 	{
-		return entries.values();
+		return ranked;
 	}
 	
+	/**
+	 * Returns the entry with the given ID.
+	 * @param id The team ID or summoner ID.
+	 * @return The entry, or <code>null</code> if it's not in the league.
+	 */
 	public Entry getEntry(String id)
 	{
-		return entries.get(id);
+		Integer position = positions.get(id);
+		return position != null ? ranked.get(position) : null;
+	}
+	
+	/**
+	 * Returns the number of entries in the league.
+	 * @return The number of entries.
+	 */
+	public int getNumEntries()
+	{
+		return ranked.size();
+	}
+	
+	//Ladder methods
+	
+	/**
+	 * Returns the position of an entry on the ladder, starting at 1 for the top entry.
+	 * @param id The team ID or summoner ID.
+	 * @return The position, or <code>-1</code> if the entry is not in the league.
+	 */
+	public int getPosition(String id)
+	{
+		Integer position = positions.get(id);
+		return position != null ? position+1 : -1;
+	}
+	
+	/**
+	 * Returns the entry at a position on the ladder, starting at 1 for the top entry.
+	 * @param position The position.
+	 * @return The entry.
+	 * @throws IndexOutOfBoundsException If there is no entry at the position.
+	 */
+	public Entry getEntryAt(int position)
+	{
+		return ranked.get(position-1);
+	}
+	
+	/**
+	 * Returns the top entries of the ladder.
+	 * @param count The maximum number of entries.
+	 * @return The top entries, in order.
+	 */
+	public List<Entry> getTopEntries(int count)
+	{
+		return ranked.subList(0, Math.max(0, Math.min(count, ranked.size())));
+	}
+	
+	/**
+	 * Returns a range of the ladder. Positions outside of the ladder are ignored.
+	 * @param from The first position, starting at 1 for the top entry.
+	 * @param to The last position, inclusive.
+	 * @return The entries in the range, in order.
+	 */
+	public List<Entry> getEntries(int from, int to)
+	{
+		int start = Math.max(0, from-1);
+		int end = Math.min(ranked.size(), to);
+		return start < end ? ranked.subList(start, end) : Collections.emptyList();
+	}
+	
+	/**
+	 * Returns a page of the ladder.
+	 * @param page The page, starting at 0 for the top of the ladder.
+	 * @param pageSize The number of entries per page.
+	 * @return The entries on the page, in order.
+	 */
+	public List<Entry> getPage(int page, int pageSize)
+	{
+		return getEntries(page*pageSize+1, (page+1)*pageSize);
 	}
 }
@@ -1,10 +1,14 @@
 package net.enigmablade.riotapi.types;
 
+import java.util.*;
 import net.enigmablade.riotapi.*;
 import net.enigmablade.riotapi.constants.*;
+import net.enigmablade.riotapi.exceptions.*;
 
 /**
- * Information about a player that participated in a game or match.
+ * <p>Information about a player that participated in a game or match.</p>
+ * <p>If summoner identity mapping is enabled, the summoner information of the player is that of the canonical summoner,
+ * so it's filled once for every game the summoner played in.</p>
  * 
  * @author Enigma
  */
@@ -13,11 +17,29 @@ public class Player extends Summoner
 	private int championId;
 	private int teamId;
 	
+	private Summoner summoner;		//Canonical summoner, may be null
+	
 	public Player(RiotApi api, Region region, long summonerId, int championId, int teamId)
+	{
+		this(api, region, summonerId, championId, teamId, null);
+	}
+	
+	/**
+	 * <p>Create a new player backed by a canonical summoner.</p>
+	 * <p><b>Note</b>: Internal use only (unless you know what you're doing).</p>
+	 * @param api The current API instance.
+	 * @param region The game region (NA, EUW, EUNE, etc.)
+	 * @param summonerId The summoner ID.
+	 * @param championId The ID of the champion played.
+	 * @param teamId The ID of the team played on.
+	 * @param summoner The canonical summoner, or <code>null</code> to keep the summoner information in the player.
+	 */
+	public Player(RiotApi api, Region region, long summonerId, int championId, int teamId, Summoner summoner)
 	{
 		super(api, region, summonerId, null);
 		this.championId = championId;
 		this.teamId = teamId;
+		this.summoner = summoner;
 	}
 	
 	//Accessor methods
@@ -31,4 +53,81 @@ public class Player extends Summoner
 	{
 		return teamId;
 	}
+	
+	/**
+	 * Returns the summoner holding the summoner information of the player.
+	 * @return The canonical summoner, or the player itself if it isn't backed by one.
+	 */
+	public Summoner getSummoner()
+	{
+		return summoner != null ? summoner : this;
+	}
+	
+	//Delegated summoner methods
+	
+	@Override
+	protected void verifyConvenienceState() throws RiotApiException
+	{
+		if(summoner != null)
+			summoner.verifyConvenienceState();
+		else
+			super.verifyConvenienceState();
+	}
+	
+	@Override
+	public void fillFrom(Summoner summoner) throws RiotApiException
+	{
+		if(this.summoner != null)
+			this.summoner.fillFrom(summoner);
+		else
+			super.fillFrom(summoner);
+	}
+	
+	@Override
+	public boolean isFilled()
+	{
+		return summoner != null ? summoner.isFilled() : super.isFilled();
+	}
+	
+	@Override
+	public long getId() throws RiotApiException
+	{
+		return summoner != null ? summoner.getId() : super.getId();
+	}
+	
+	@Override
+	public long getKnownId()
+	{
+		return summoner != null ? summoner.getKnownId() : super.getKnownId();
+	}
+	
+	@Override
+	public String getName() throws RiotApiException
+	{
+		return summoner != null ? summoner.getName() : super.getName();
+	}
+	
+	@Override
+	public String getKnownName()
+	{
+		return summoner != null ? summoner.getKnownName() : super.getKnownName();
+	}
+	
+	@Override
+	public int getProfileIconId() throws RiotApiException
+	{
+		return summoner != null ? summoner.getProfileIconId() : super.getProfileIconId();
+	}
+	
+	@Override
+	public long getSummonerLevel() throws RiotApiException
+	{
+		return summoner != null ? summoner.getSummonerLevel() : super.getSummonerLevel();
+	}
+	
+	@Override
+	public Date getRevisionDate() throws RiotApiException
+	{
+		return summoner != null ? summoner.getRevisionDate() : super.getRevisionDate();
+	}
 }
@@ -14,9 +14,14 @@ public class PlayerStats
 	private QueueType summaryType;
 	private Date modifyDate;
 	private int wins, losses;
-	private Map<String, Integer> stats;
+	private AggregatedStats stats;
 	
 	public PlayerStats(String summaryType, long modifyDate, int wins, int losses, Map<String, Integer> stats)
+	{
+		this(summaryType, modifyDate, wins, losses, new AggregatedStats(stats));
+	}
+	
+	public PlayerStats(String summaryType, long modifyDate, int wins, int losses, AggregatedStats stats)
 	{
 		this.summaryType = QueueType.getFromStatsValue(summaryType);
 		this.modifyDate = new Date(modifyDate);
@@ -46,9 +51,23 @@ public class PlayerStats
 	{
 		return losses;
 	}
-
+	
+	/**
+	 * Returns the value of an aggregated stat, or <code>0</code> if the stat wasn't given.
+	 * @param statType The stat type.
+	 * @return The value.
+	 */
 	public int getAggregatedStat(AggregatedStatType statType)
 	{
-		return stats.get(statType.getValue());
+		return stats.get(statType);
+	}
+	
+	/**
+	 * Returns all of the aggregated stats, with typed accessors for the common stats.
+	 * @return The stats.
+	 */
+	public AggregatedStats getAggregatedStats()
+	{
+		return stats;
 	}
 }
@@ -19,6 +19,8 @@ public class Summoner extends DynamicType
 	private long summonerLevel;
 	private Date revisionDate;
 	
+	private Collection<? extends Summoner> siblings;		//Filled together with this summoner, may be null
+	
 	/**
 	 * <p>Create a new summoner in the given region. One or both of ID and name must be given.</p>
 	 * <p><b>Note</b>: Internal use only (unless you know what you're doing).</p>
@@ -62,15 +64,61 @@ public class Summoner extends DynamicType
 	/**
 	 * Verifies required information for convenience methods is available, such as summoner ID.
 	 * If not found, makes an API call to get summoner information.
+	 * If the summoner was loaded along with others, such as the members of a team, all of them are filled at once.
 	 * @throws RiotApiException If there was an exception or error from the server.
 	 */
-	private void verifyConvenienceState() throws RiotApiException
+	protected void verifyConvenienceState() throws RiotApiException
 	{
-		if(!hasTypeUpdated())
-		{
-			setTypeUpdated();
+		fillOnce(() -> {
+			Collection<? extends Summoner> group = siblings;
+			if(group != null)
+			{
+				siblings = null;
+				api.getSummonerApiMethod().fillSummoners(group);
+				if(hasTypeUpdated())
+					return;
+			}
 			api.getSummonerApiMethod().fillSummoner(this);
-		}
+		});
+	}
+	
+	/**
+	 * <p>Groups summoners so that accessing missing information of any one of them fills all of them in batched requests.</p>
+	 * <p><b>Note</b>: Internal use only (unless you know what you're doing).</p>
+	 * @param summoners The summoners to group.
+	 */
+	public static void fillTogether(Collection<? extends Summoner> summoners)
+	{
+		if(summoners.size() <= 1)
+			return;
+		for(Summoner summoner : summoners)
+			summoner.siblings = summoners;
+	}
+	
+	/**
+	 * <p>Copies the information of a fully loaded summoner into this summoner and marks it filled.</p>
+	 * <p><b>Note</b>: Internal use only (unless you know what you're doing).</p>
+	 * @param summoner The loaded summoner.
+	 * @throws RiotApiException If the loaded summoner is missing information and failed to fill.
+	 */
+	public void fillFrom(Summoner summoner) throws RiotApiException
+	{
+		setId(summoner.getId());
+		setName(summoner.getName());
+		setProfileIconId(summoner.getProfileIconId());
+		setSummonerLevel(summoner.getSummonerLevel());
+		setRevisionDate(summoner.getRevisionDate().getTime());
+		siblings = null;
+		setTypeUpdated();
+	}
+	
+	/**
+	 * Returns whether or not all of the summoner's information is available without an API call.
+	 * @return <code>true</code> if filled, otherwise <code>false</code>.
+	 */
+	public boolean isFilled()
+	{
+		return hasTypeUpdated();
 	}
 	
 	/**
@@ -216,6 +264,15 @@ public class Summoner extends DynamicType
 		return id;
 	}
 	
+	/**
+	 * Returns the summoner ID if it's known, without making an API call.
+	 * @return The summoner ID, or a negative number if unknown.
+	 */
+	public long getKnownId()
+	{
+		return id;
+	}
+	
 	public void setId(long id)
 	{
 		this.id = id;
@@ -228,6 +285,15 @@ public class Summoner extends DynamicType
 		return name;
 	}
 	
+	/**
+	 * Returns the summoner name if it's known, without making an API call.
+	 * @return The summoner name, or <code>null</code> if unknown.
+	 */
+	public String getKnownName()
+	{
+		return name;
+	}
+	
 	public void setName(String name)
 	{
 		this.name = name;
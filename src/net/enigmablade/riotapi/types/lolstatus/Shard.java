@@ -30,10 +30,7 @@ public class Shard extends DynamicType
 	
 	private void verifyState() throws RiotApiException
 	{
-		if(!hasTypeUpdated())
-		{
-			api.getLolStatusApiMethod().fillShard(this);
-		}
+		fillOnce(() -> api.getLolStatusApiMethod().fillShard(this));
 	}
 	
 	//Accessor methods
@@ -89,6 +89,10 @@ public class Spell
 	private List<List<Integer>> effects;
 	private List<String> effectBurns;
 	
+	//Compiled on first use, reset when the data changes
+	private volatile SpellTooltip compiledTooltip, compiledResourceUsage;
+	private volatile List<String> renderedTooltips;
+	
 	//Initialization
 	
 	public Spell(String name, String id, String description, Image image)
@@ -106,6 +110,7 @@ public class Spell
 		this.levelTipEffects = levelTipEffects;
 		this.maxRank = maxRank;
 		this.vars = vars;
+		resetCompiled();
 	}
 	
 	public void initResource(ResourceType resourceType, String resourceUsage, List<Integer> cost, String costBurn)
@@ -114,6 +119,7 @@ public class Spell
 		this.resourceUsage = resourceUsage;
 		this.costs = cost;
 		this.costBurn = costBurn;
+		resetCompiled();
 	}
 	
 	public void initInfo(List<Integer> cooldowns, String cooldownBurn, List<Integer> ranges, String rangeBurn)
@@ -128,6 +134,7 @@ public class Spell
 	{
 		this.effects = effects;
 		this.effectBurns = effectBurns;
+		resetCompiled();
 	}
 	
 	//Accessor methods
@@ -157,11 +164,48 @@ public class Spell
 		return tooltip;
 	}
 	
+	/**
+	 * Returns the tooltip of a rank, with its placeholders replaced by the values of that rank.
+	 * @param rank The spell rank, starting at 1.
+	 * @return The rendered tooltip.
+	 */
 	public String getTooltip(int rank)
 	{
 		checkRank(rank);
-		//TODO: implement conversion
-		return null;
+		List<String> rendered = renderedTooltips;
+		if(rendered != null)
+			return rendered.get(rank-1);
+		return getCompiledTooltip().render(rank);
+	}
+	
+	/**
+	 * Returns the tooltip of every rank. They are rendered once and kept until the spell's data changes.
+	 * @return The rendered tooltips, by rank starting at 1.
+	 */
+	public List<String> getTooltips()
+	{
+		List<String> rendered = renderedTooltips;
+		if(rendered == null)
+		{
+			SpellTooltip compiled = getCompiledTooltip();
+			rendered = new ArrayList<>(maxRank);
+			for(int rank = 1; rank <= maxRank; rank++)
+				rendered.add(compiled.render(rank));
+			renderedTooltips = rendered = Collections.unmodifiableList(rendered);
+		}
+		return rendered;
+	}
+	
+	/**
+	 * Returns the tooltip compiled into a template bound to this spell's data.
+	 * @return The compiled tooltip.
+	 */
+	public SpellTooltip getCompiledTooltip()
+	{
+		SpellTooltip compiled = compiledTooltip;
+		if(compiled == null)
+			compiledTooltip = compiled = SpellTooltip.compile(tooltip, this);
+		return compiled;
 	}
 	
 	public List<String> getLevelTipLabels()
@@ -189,16 +233,27 @@ public class Spell
 		return resourceUsage;
 	}
 	
+	/**
+	 * Returns the resource usage of a rank, with its placeholders replaced by the values of that rank.
+	 * @param rank The spell rank, starting at 1.
+	 * @return The rendered resource usage.
+	 */
 	public String getResourceUsage(int rank)
 	{
 		checkRank(rank);
-		//TODO: implement conversion
-		return null;
+		SpellTooltip compiled = compiledResourceUsage;
+		if(compiled == null)
+			compiledResourceUsage = compiled = SpellTooltip.compile(resourceUsage, this);
+		return compiled.render(rank);
 	}
 	
+	/**
+	 * Returns the cost of each rank.
+	 * @return The costs, or <code>null</code> if they weren't loaded.
+	 */
 	public List<Integer> getCosts()
 	{
-		return new ArrayList<Integer>(costs);
+		return costs != null ? new ArrayList<Integer>(costs) : null;
 	}
 	
 	public String getCost()
@@ -228,9 +283,13 @@ public class Spell
 		return cooldowns.get(rank-1);
 	}
 	
+	/**
+	 * Returns the range of each rank.
+	 * @return The ranges, or <code>null</code> if the spell targets self.
+	 */
 	public List<Integer> getRanges()
 	{
-		return new ArrayList<Integer>(ranges);
+		return ranges != null ? new ArrayList<Integer>(ranges) : null;
 	}
 	
 	public String getRange()
@@ -244,8 +303,30 @@ public class Spell
 		return ranges.get(rank-1);
 	}
 	
+	public List<SpellVar> getVars()
+	{
+		return vars;
+	}
+	
+	public List<List<Integer>> getEffects()
+	{
+		return effects;
+	}
+	
+	public List<String> getEffectBurns()
+	{
+		return effectBurns;
+	}
+	
 	//Helper methods
 	
+	private void resetCompiled()
+	{
+		compiledTooltip = null;
+		compiledResourceUsage = null;
+		renderedTooltips = null;
+	}
+	
 	private void checkRank(int rank) throws RuntimeException
 	{
 		if(rank < 1)
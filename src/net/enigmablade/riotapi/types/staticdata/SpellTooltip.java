@@ -0,0 +1,201 @@
+package net.enigmablade.riotapi.types.staticdata;
+
+import java.util.*;
+
+/**
+ * <p>A spell tooltip (or resource usage) template compiled once and bound to the spell's data, so rendering any rank only joins strings.</p>
+ * <p>Placeholders such as <code>{{ e1 }}</code> are resolved when compiling: <code>eN</code> is the Nth effect, <code>aN</code> and <code>fN</code> are
+ * the coefficients of the var with that key, and <code>cost</code> is the cost. An effect without a value for the rank is rendered from its effect burn.
+ * Unknown placeholders are left as they are.</p>
+ * 
+ * @author Enigma
+ */
+public class SpellTooltip
+{
+	private String[] literals;		//One more than values, around them
+	private Value[] values;
+	private int length;				//Estimated rendered length
+	
+	private SpellTooltip(List<String> literals, List<Value> values)
+	{
+		this.literals = literals.toArray(new String[literals.size()]);
+		this.values = values.toArray(new Value[values.size()]);
+		
+		for(String literal : literals)
+			length += literal.length();
+		length += this.values.length*4;
+	}
+	
+	/**
+	 * Compiles a template bound to the data of a spell.
+	 * @param template The template, such as the spell's tooltip.
+	 * @param spell The spell.
+	 * @return The compiled template.
+	 */
+	public static SpellTooltip compile(String template, Spell spell)
+	{
+		List<String> literals = new ArrayList<>();
+		List<Value> values = new ArrayList<>();
+		if(template == null)
+		{
+			literals.add("");
+			return new SpellTooltip(literals, values);
+		}
+		
+		StringBuilder literal = new StringBuilder();
+		int n = 0;
+		while(n < template.length())
+		{
+			int start = template.indexOf("{{", n);
+			int end = start >= 0 ? template.indexOf("}}", start+2) : -1;
+			if(end < 0)
+			{
+				literal.append(template, n, template.length());
+				break;
+			}
+			
+			literal.append(template, n, start);
+			Value value = bind(template.substring(start+2, end).trim(), spell);
+			if(value != null)
+			{
+				literals.add(literal.toString());
+				literal.setLength(0);
+				values.add(value);
+			}
+			else
+			{
+				//Unknown, leave it
+				literal.append(template, start, end+2);
+			}
+			n = end+2;
+		}
+		literals.add(literal.toString());
+		
+		return new SpellTooltip(literals, values);
+	}
+	
+	/**
+	 * Renders the template for a rank.
+	 * @param rank The spell rank, starting at 1.
+	 * @return The rendered text.
+	 */
+	public String render(int rank)
+	{
+		if(values.length == 0)
+			return literals[0];
+		
+		StringBuilder s = new StringBuilder(length);
+		for(int n = 0; n < values.length; n++)
+		{
+			s.append(literals[n]);
+			s.append(values[n].get(rank));
+		}
+		s.append(literals[values.length]);
+		return s.toString();
+	}
+	
+	/**
+	 * Returns whether or not the template has any placeholders that depend on the rank.
+	 * @return <code>true</code> if it has placeholders, otherwise <code>false</code>.
+	 */
+	public boolean hasPlaceholders()
+	{
+		return values.length > 0;
+	}
+	
+	//Binding
+	
+	private static Value bind(String key, Spell spell)
+	{
+		if(key.equals("cost"))
+		{
+			List<Integer> costs = spell.getCosts();
+			String costBurn = spell.getCost();
+			if(costs != null && !costs.isEmpty())
+				return rank -> format(atRank(costs, rank));
+			if(costBurn != null)
+				return rank -> costBurn;
+			return null;
+		}
+		
+		if(key.length() < 2)
+			return null;
+		
+		char type = key.charAt(0);
+		if(type == 'e')
+		{
+			int index;
+			try
+			{
+				index = Integer.parseInt(key.substring(1));
+			}
+			catch(NumberFormatException e)
+			{
+				return null;
+			}
+			
+			List<List<Integer>> effects = spell.getEffects();
+			List<String> effectBurns = spell.getEffectBurns();
+			List<Integer> effect = effects != null && index < effects.size() ? effects.get(index) : null;
+			String burn = effectBurns != null && index < effectBurns.size() ? effectBurns.get(index) : null;
+			if(effect != null && !effect.isEmpty())
+				return rank -> format(atRank(effect, rank));
+			if(burn != null)
+				return rank -> burn;
+			return null;
+		}
+		
+		if(type == 'a' || type == 'f')
+		{
+			if(spell.getVars() != null)
+			{
+				for(Spell.SpellVar var : spell.getVars())
+				{
+					if(key.equals(var.key))
+					{
+						Object coeff = var.getCoeff();
+						if(coeff instanceof List)
+						{
+							List<?> coeffs = (List<?>)coeff;
+							if(!coeffs.isEmpty())
+								return rank -> format(atRank(coeffs, rank));
+						}
+						else if(coeff != null)
+						{
+							String formatted = format(coeff);
+							return rank -> formatted;
+						}
+					}
+				}
+			}
+			return null;
+		}
+		
+		return null;
+	}
+	
+	private static <T> T atRank(List<T> values, int rank)
+	{
+		//Lists shorter than the max rank stay at their last value
+		return values.get(Math.max(0, Math.min(rank, values.size())-1));
+	}
+	
+	private static String format(Object value)
+	{
+		if(value instanceof Number)
+		{
+			double d = ((Number)value).doubleValue();
+			if(d == Math.rint(d) && !Double.isInfinite(d))
+				return Long.toString((long)d);
+		}
+		return String.valueOf(value);
+	}
+	
+	//Helper classes
+	
+	@FunctionalInterface
+	private interface Value
+	{
+		public String get(int rank);
+	}
+}
@@ -35,11 +35,8 @@ public class Masteries extends DynamicType
 	 */
 	private void verifyStaticState(ChampionDataType type) throws RiotApiException
 	{
-		if(!hasTypeUpdated(type))
-		{
-			setTypeUpdated(type);
-			//api.getStaticDataApiMethod().fillMasteries(this, region, type);
-		}
+		//Left unmarked since nothing is filled yet, so it's loaded once filling masteries is supported
+		//api.getStaticDataApiMethod().fillMasteries(this, region, type);
 	}
 	
 	//Accessor methods
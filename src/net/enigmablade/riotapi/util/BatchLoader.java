@@ -0,0 +1,196 @@
+package net.enigmablade.riotapi.util;
+
+import java.util.*;
+import java.util.concurrent.*;
+import net.enigmablade.riotapi.exceptions.*;
+
+/**
+ * <p>Collects single lookups from any number of threads and loads them together in one batch.</p>
+ * <p>A batch is loaded once it's full or once the batch window has passed since the first lookup in it, whichever comes first.
+ * Lookups of the same key within a batch share the same future.</p>
+ * 
+ * @author Enigma
+ * 
+ * @param <K> The key type
+ * @param <V> The value type
+ */
+public class BatchLoader<K, V>
+{
+	/**
+	 * Loads the values of a batch of keys at once.
+	 * 
+	 * @param <K> The key type
+	 * @param <V> The value type
+	 */
+	public interface BatchFunction<K, V>
+	{
+		/**
+		 * Loads the values of the given keys. Keys that weren't found should be missing from the returned map.
+		 * @param keys The keys, at most the maximum batch size.
+		 * @return A map of keys to values.
+		 * @throws RiotApiException If the batch failed to load.
+		 */
+		Map<K, V> load(List<K> keys) throws RiotApiException;
+	}
+	
+	private BatchFunction<K, V> function;
+	private int maxBatchSize;
+	private volatile long windowNanos;
+	
+	private ScheduledExecutorService scheduler;
+	private Executor executor;
+	
+	private final Object lock = new Object();
+	private Map<K, CompletableFuture<V>> pending;
+	private ScheduledFuture<?> flushTask;
+	
+	/**
+	 * Creates a new batch loader.
+	 * @param function The function used to load a batch.
+	 * @param maxBatchSize The maximum number of keys in a batch.
+	 * @param window The longest time to wait for a batch to fill.
+	 * @param windowUnit The unit of the window.
+	 * @param scheduler The scheduler used to load batches once their window has passed.
+	 * @param executor The executor on which batches are loaded.
+	 */
+	public BatchLoader(BatchFunction<K, V> function, int maxBatchSize, long window, TimeUnit windowUnit, ScheduledExecutorService scheduler, Executor executor)
+	{
+		if(maxBatchSize < 1)
+			throw new IllegalArgumentException("Batch size must be greater than 0.");
+		
+		this.function = function;
+		this.maxBatchSize = maxBatchSize;
+		this.scheduler = scheduler;
+		this.executor = executor;
+		setWindow(window, windowUnit);
+		
+		pending = new LinkedHashMap<>();
+	}
+	
+	//Functionality
+	
+	/**
+	 * Queues a key to be loaded in the next batch.
+	 * The future completes with <code>null</code> if the key wasn't found.
+	 * @param key The key.
+	 * @return The future value.
+	 */
+	public CompletableFuture<V> load(K key)
+	{
+		CompletableFuture<V> future;
+		Map<K, CompletableFuture<V>> batch = null;
+		
+		synchronized(lock)
+		{
+			future = pending.get(key);
+			if(future == null)
+			{
+				future = new CompletableFuture<>();
+				pending.put(key, future);
+			}
+			
+			//Send full batches right away, otherwise wait for the window if not already waiting
+			if(pending.size() >= maxBatchSize)
+				batch = takePending();
+			else if(flushTask == null)
+				flushTask = scheduler.schedule(this::flush, windowNanos, TimeUnit.NANOSECONDS);
+		}
+		
+		if(batch != null)
+			dispatch(batch);
+		return future;
+	}
+	
+	/**
+	 * Loads all queued keys now instead of waiting for the window to pass.
+	 */
+	public void flush()
+	{
+		Map<K, CompletableFuture<V>> batch;
+		synchronized(lock)
+		{
+			batch = takePending();
+		}
+		
+		if(!batch.isEmpty())
+			dispatch(batch);
+	}
+	
+	//Helper methods
+	
+	/**
+	 * Removes and returns the queued keys. Must be called while holding the lock.
+	 * @return The queued keys and their futures.
+	 */
+	private Map<K, CompletableFuture<V>> takePending()
+	{
+		Map<K, CompletableFuture<V>> batch = pending;
+		pending = new LinkedHashMap<>();
+		
+		if(flushTask != null)
+		{
+			flushTask.cancel(false);
+			flushTask = null;
+		}
+		return batch;
+	}
+	
+	private void dispatch(Map<K, CompletableFuture<V>> batch)
+	{
+		try
+		{
+			executor.execute(() -> execute(batch));
+		}
+		catch(RejectedExecutionException e)
+		{
+			for(CompletableFuture<V> future : batch.values())
+				future.completeExceptionally(e);
+		}
+	}
+	
+	private void execute(Map<K, CompletableFuture<V>> batch)
+	{
+		Map<K, V> results;
+		try
+		{
+			results = function.load(new ArrayList<>(batch.keySet()));
+		}
+		catch(NotFoundException e)
+		{
+			//None of the batch was found
+			results = Collections.emptyMap();
+		}
+		catch(Throwable e)
+		{
+			for(CompletableFuture<V> future : batch.values())
+				future.completeExceptionally(e);
+			return;
+		}
+		
+		for(Map.Entry<K, CompletableFuture<V>> entry : batch.entrySet())
+			entry.getValue().complete(results.get(entry.getKey()));
+	}
+	
+	//Accessor methods
+	
+	/**
+	 * Returns the maximum number of keys in a batch.
+	 * @return The maximum batch size.
+	 */
+	public int getMaxBatchSize()
+	{
+		return maxBatchSize;
+	}
+	
+	/**
+	 * Sets the longest time to wait for a batch to fill. Applies to batches started after the change.
+	 * @param window The window.
+	 * @param unit The unit of the window.
+	 */
+	public void setWindow(long window, TimeUnit unit)
+	{
+		if(window < 0)
+			throw new IllegalArgumentException("Batch window must be greater than or equal to 0.");
+		this.windowNanos = unit.toNanos(window);
+	}
+}
@@ -80,6 +80,32 @@ public class BufferPool<K, V>
 		return null;
 	}
 	
+	/**
+	 * Removes a value from the buffer pool.
+	 * 
+	 * @param targetKey The key to remove
+	 * @return The value associated with the key, or <code>null</code> if there was none
+	 */
+	public V remove(K targetKey)
+	{
+		Iterator<K> keyIt = keys.iterator();
+		Iterator<V> valueIt = values.iterator();
+		
+		while(keyIt.hasNext())
+		{
+			K key = keyIt.next();
+			V value = valueIt.next();
+			if(key.equals(targetKey))
+			{
+				keyIt.remove();
+				valueIt.remove();
+				return value;
+			}
+		}
+		
+		return null;
+	}
+	
 	/**
 	 * Clears the buffer pool, removing all keys and values.
 	 */
@@ -62,7 +62,7 @@ public class IOUtil
 		String part2 = s;
 		while((start = s.indexOf('{', end)) >= 0)				//Find each arg
 		{
-			if((end = s.indexOf('}')) > 0)						//Find the end of the arg
+			if((end = s.indexOf('}', start)) > 0)				//Find the end of the arg
 			{
 				String key = s.substring(start+1, end);			//Get the arg's key
 				if(args.containsKey(key))						//Ignore if there's no replacement
@@ -74,6 +74,10 @@ public class IOUtil
 					buf.append(part1).append(args.get(key));
 				}
 			}
+			else
+			{
+				break;
+			}
 		}
 		buf.append(part2);										//Add any remaining bits
 		
@@ -86,7 +90,7 @@ public class IOUtil
 		if(queryArgs != null)
 		{
 			int i = 0;
-			for(String key : queryArgs.keySet())
+			for(String key : new TreeMap<>(queryArgs).keySet())
 			{
 				queryArgsStr.append(key).append('=').append(queryArgs.get(key));
 				if(i++ < queryArgs.size()-1)
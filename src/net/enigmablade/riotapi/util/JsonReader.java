@@ -0,0 +1,490 @@
+package net.enigmablade.riotapi.util;
+
+import java.util.*;
+import net.enigmablade.riotapi.exceptions.*;
+
+/**
+ * <p>A pull tokenizer for JSON text, used to bind responses directly to entity objects without building a JSON tree first.</p>
+ * <p>Values are read in document order with <code>begin/end</code> methods for objects and arrays,
+ * {@link #nextName()} for object keys, and <code>next</code> methods for primitive values.
+ * Values that aren't needed can be skipped with {@link #skipValue()}.</p>
+ * <p><b>Example</b>:<br/>
+ * <pre>
+ * reader.beginObject();
+ * while(reader.hasNext())
+ * {
+ * 	switch(reader.nextName())
+ * 	{
+ * 		case "id": id = reader.nextLong(); break;
+ * 		default: reader.skipValue();
+ * 	}
+ * }
+ * reader.endObject();
+ * </pre></p>
+ * 
+ * @author Enigma
+ */
+public class JsonReader
+{
+	/**
+	 * The types of tokens in a JSON document.
+	 */
+	public static enum Token
+	{
+		BEGIN_OBJECT, END_OBJECT, BEGIN_ARRAY, END_ARRAY, NAME, STRING, NUMBER, BOOLEAN, NULL, END_DOCUMENT
+	}
+	
+	//Scope states
+	private static final byte EMPTY_DOCUMENT = 0, NONEMPTY_DOCUMENT = 1;
+	private static final byte EMPTY_OBJECT = 2, NONEMPTY_OBJECT = 3, DANGLING_NAME = 4;
+	private static final byte EMPTY_ARRAY = 5, NONEMPTY_ARRAY = 6;
+	
+	private String in;
+	private int pos;
+	
+	private byte[] scopes = new byte[16];
+	private int depth;
+	
+	private Token peeked;
+	
+	/**
+	 * Creates a new reader of the given JSON text.
+	 * @param in The JSON text.
+	 */
+	public JsonReader(String in)
+	{
+		this.in = in;
+		scopes[depth++] = EMPTY_DOCUMENT;
+	}
+	
+	//Structure
+	
+	public void beginObject() throws RiotApiException
+	{
+		expect(Token.BEGIN_OBJECT);
+		push(EMPTY_OBJECT);
+	}
+	
+	public void endObject() throws RiotApiException
+	{
+		expect(Token.END_OBJECT);
+		depth--;
+	}
+	
+	public void beginArray() throws RiotApiException
+	{
+		expect(Token.BEGIN_ARRAY);
+		push(EMPTY_ARRAY);
+	}
+	
+	public void endArray() throws RiotApiException
+	{
+		expect(Token.END_ARRAY);
+		depth--;
+	}
+	
+	/**
+	 * Returns whether or not the current object or array has another element.
+	 * @return <code>true</code> if there's another element, otherwise <code>false</code>.
+	 * @throws RiotApiException If the JSON is malformed.
+	 */
+	public boolean hasNext() throws RiotApiException
+	{
+		Token t = peek();
+		return t != Token.END_OBJECT && t != Token.END_ARRAY && t != Token.END_DOCUMENT;
+	}
+	
+	/**
+	 * Returns the type of the next token without consuming it.
+	 * @return The next token type.
+	 * @throws RiotApiException If the JSON is malformed.
+	 */
+	public Token peek() throws RiotApiException
+	{
+		if(peeked != null)
+			return peeked;
+		
+		char c;
+		switch(scopes[depth-1])
+		{
+			case EMPTY_ARRAY:
+				scopes[depth-1] = NONEMPTY_ARRAY;
+				if(nextNonWhitespace() == ']')
+					return consumePeeked(Token.END_ARRAY);
+				return peekValue();
+			
+			case NONEMPTY_ARRAY:
+				c = nextNonWhitespace();
+				if(c == ']')
+					return consumePeeked(Token.END_ARRAY);
+				if(c != ',')
+					throw syntaxError("Expected ',' or ']'");
+				pos++;
+				return peekValue();
+			
+			case EMPTY_OBJECT:
+			case NONEMPTY_OBJECT:
+				c = nextNonWhitespace();
+				if(c == '}')
+					return consumePeeked(Token.END_OBJECT);
+				if(scopes[depth-1] == NONEMPTY_OBJECT)
+				{
+					if(c != ',')
+						throw syntaxError("Expected ',' or '}'");
+					pos++;
+					c = nextNonWhitespace();
+				}
+				if(c != '"')
+					throw syntaxError("Expected name");
+				scopes[depth-1] = DANGLING_NAME;
+				return peeked = Token.NAME;
+			
+			case DANGLING_NAME:
+				if(nextNonWhitespace() != ':')
+					throw syntaxError("Expected ':'");
+				pos++;
+				scopes[depth-1] = NONEMPTY_OBJECT;
+				return peekValue();
+			
+			case EMPTY_DOCUMENT:
+				scopes[depth-1] = NONEMPTY_DOCUMENT;
+				return peekValue();
+			
+			default:	//NONEMPTY_DOCUMENT
+				if(pos < in.length() && nextNonWhitespace() != 0)
+					throw syntaxError("Expected end of document");
+				return peeked = Token.END_DOCUMENT;
+		}
+	}
+	
+	//Values
+	
+	/**
+	 * Consumes and returns the next object key.
+	 * @return The key.
+	 * @throws RiotApiException If the next token isn't a key or the JSON is malformed.
+	 */
+	public String nextName() throws RiotApiException
+	{
+		expect(Token.NAME);
+		return readString();
+	}
+	
+	/**
+	 * Consumes and returns the next string, or the text of the next number.
+	 * @return The string, or <code>null</code> if the value is null.
+	 * @throws RiotApiException If the next token isn't a string or number or the JSON is malformed.
+	 */
+	public String nextString() throws RiotApiException
+	{
+		Token t = peek();
+		peeked = null;
+		switch(t)
+		{
+			case STRING: return readString();
+			case NUMBER: return readNumber();
+			case NULL: readLiteral("null"); return null;
+			default: throw syntaxError("Expected string but was "+t);
+		}
+	}
+	
+	/**
+	 * Consumes and returns the next number as a long. Numbers in strings are also accepted.
+	 * @return The value, or <code>0</code> if the value is null.
+	 * @throws RiotApiException If the next token isn't a number or the JSON is malformed.
+	 */
+	public long nextLong() throws RiotApiException
+	{
+		String s = nextString();
+		if(s == null)
+			return 0;
+		
+		try
+		{
+			return Long.parseLong(s);
+		}
+		catch(NumberFormatException e)
+		{
+			try
+			{
+				return (long)Double.parseDouble(s);
+			}
+			catch(NumberFormatException e2)
+			{
+				throw syntaxError("Expected number but was \""+s+"\"");
+			}
+		}
+	}
+	
+	public int nextInt() throws RiotApiException
+	{
+		return (int)nextLong();
+	}
+	
+	public double nextDouble() throws RiotApiException
+	{
+		String s = nextString();
+		if(s == null)
+			return 0;
+		
+		try
+		{
+			return Double.parseDouble(s);
+		}
+		catch(NumberFormatException e)
+		{
+			throw syntaxError("Expected number but was \""+s+"\"");
+		}
+	}
+	
+	/**
+	 * Consumes and returns the next boolean.
+	 * @return The value, or <code>false</code> if the value is null.
+	 * @throws RiotApiException If the next token isn't a boolean or the JSON is malformed.
+	 */
+	public boolean nextBoolean() throws RiotApiException
+	{
+		Token t = peek();
+		peeked = null;
+		if(t == Token.NULL)
+		{
+			readLiteral("null");
+			return false;
+		}
+		if(t != Token.BOOLEAN)
+			throw syntaxError("Expected boolean but was "+t);
+		
+		if(in.charAt(pos) == 't')
+		{
+			readLiteral("true");
+			return true;
+		}
+		readLiteral("false");
+		return false;
+	}
+	
+	/**
+	 * Consumes the next value if it's null.
+	 * @return <code>true</code> if the value was null and consumed, otherwise <code>false</code>.
+	 * @throws RiotApiException If the JSON is malformed.
+	 */
+	public boolean nextNull() throws RiotApiException
+	{
+		if(peek() != Token.NULL)
+			return false;
+		peeked = null;
+		readLiteral("null");
+		return true;
+	}
+	
+	/**
+	 * <p>Consumes and returns the next value as a plain Java object, with the same types the tree parser uses:
+	 * <code>Long</code> for integers, <code>Double</code> for decimals, <code>Boolean</code>, <code>String</code>,
+	 * and <code>null</code>. Objects and arrays are returned as <code>Map</code>s and <code>List</code>s.</p>
+	 * <p>Meant for the rare values with no known structure, such as unknown stats.</p>
+	 * @return The value.
+	 * @throws RiotApiException If the JSON is malformed.
+	 */
+	public Object nextValue() throws RiotApiException
+	{
+		switch(peek())
+		{
+			case BEGIN_OBJECT:
+				Map<String, Object> map = new LinkedHashMap<>();
+				beginObject();
+				while(hasNext())
+					map.put(nextName(), nextValue());
+				endObject();
+				return map;
+			
+			case BEGIN_ARRAY:
+				List<Object> list = new ArrayList<>();
+				beginArray();
+				while(hasNext())
+					list.add(nextValue());
+				endArray();
+				return list;
+			
+			case NUMBER:
+				String s = nextString();
+				try
+				{
+					return Long.parseLong(s);
+				}
+				catch(NumberFormatException e)
+				{
+					return Double.parseDouble(s);
+				}
+			
+			case BOOLEAN: return nextBoolean();
+			case NULL: nextNull(); return null;
+			default: return nextString();
+		}
+	}
+	
+	/**
+	 * Skips the next value, including all nested values of an object or array.
+	 * @throws RiotApiException If the JSON is malformed.
+	 */
+	public void skipValue() throws RiotApiException
+	{
+		int skipDepth = 0;
+		do
+		{
+			switch(peek())
+			{
+				case BEGIN_OBJECT: beginObject(); skipDepth++; break;
+				case BEGIN_ARRAY: beginArray(); skipDepth++; break;
+				case END_OBJECT: endObject(); skipDepth--; break;
+				case END_ARRAY: endArray(); skipDepth--; break;
+				case NAME: nextName(); break;
+				case BOOLEAN: nextBoolean(); break;
+				case NULL: nextNull(); break;
+				case END_DOCUMENT: throw syntaxError("Unexpected end of document");
+				default: nextString();
+			}
+		}
+		while(skipDepth > 0);
+	}
+	
+	//Helper methods
+	
+	private Token peekValue() throws RiotApiException
+	{
+		char c = nextNonWhitespace();
+		switch(c)
+		{
+			case '{': return consumePeeked(Token.BEGIN_OBJECT);
+			case '[': return consumePeeked(Token.BEGIN_ARRAY);
+			case '"': return peeked = Token.STRING;
+			case 't':
+			case 'f': return peeked = Token.BOOLEAN;
+			case 'n': return peeked = Token.NULL;
+			default:
+				if(c == '-' || (c >= '0' && c <= '9'))
+					return peeked = Token.NUMBER;
+				throw syntaxError("Unexpected character '"+c+"'");
+		}
+	}
+	
+	private Token consumePeeked(Token token)
+	{
+		pos++;
+		return peeked = token;
+	}
+	
+	private void expect(Token token) throws RiotApiException
+	{
+		Token t = peek();
+		if(t != token)
+			throw syntaxError("Expected "+token+" but was "+t);
+		peeked = null;
+	}
+	
+	private void push(byte scope)
+	{
+		if(depth == scopes.length)
+			scopes = Arrays.copyOf(scopes, depth*2);
+		scopes[depth++] = scope;
+	}
+	
+	/**
+	 * Moves to the next non-whitespace character and returns it without consuming it.
+	 * @return The character, or <code>0</code> at the end of the text.
+	 */
+	private char nextNonWhitespace()
+	{
+		while(pos < in.length())
+		{
+			char c = in.charAt(pos);
+			if(c != ' ' && c != '\n' && c != '\r' && c != '\t')
+				return c;
+			pos++;
+		}
+		return 0;
+	}
+	
+	/**
+	 * Reads a quoted string starting at the current position.
+	 */
+	private String readString() throws RiotApiException
+	{
+		int start = ++pos;
+		StringBuilder s = null;
+		while(pos < in.length())
+		{
+			char c = in.charAt(pos);
+			if(c == '"')
+			{
+				String value = s == null ? in.substring(start, pos) : s.append(in, start, pos).toString();
+				pos++;
+				return value;
+			}
+			if(c == '\\')
+			{
+				//Only copy once there's an escape, most strings don't have any
+				if(s == null)
+					s = new StringBuilder(pos-start+16);
+				s.append(in, start, pos);
+				
+				if(++pos >= in.length())
+					break;
+				c = in.charAt(pos++);
+				switch(c)
+				{
+					case 'b': s.append('\b'); break;
+					case 'f': s.append('\f'); break;
+					case 'n': s.append('\n'); break;
+					case 'r': s.append('\r'); break;
+					case 't': s.append('\t'); break;
+					case 'u':
+						if(pos+4 > in.length())
+							throw syntaxError("Unterminated escape");
+						try
+						{
+							s.append((char)Integer.parseInt(in.substring(pos, pos+4), 16));
+						}
+						catch(NumberFormatException e)
+						{
+							throw syntaxError("Invalid escape");
+						}
+						pos += 4;
+						break;
+					default: s.append(c);	//Quotes, slashes
+				}
+				start = pos;
+			}
+			else
+			{
+				pos++;
+			}
+		}
+		throw syntaxError("Unterminated string");
+	}
+	
+	private String readNumber()
+	{
+		int start = pos;
+		while(pos < in.length())
+		{
+			char c = in.charAt(pos);
+			if((c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E')
+				pos++;
+			else
+				break;
+		}
+		return in.substring(start, pos);
+	}
+	
+	private void readLiteral(String literal) throws RiotApiException
+	{
+		if(!in.startsWith(literal, pos))
+			throw syntaxError("Expected "+literal);
+		pos += literal.length();
+	}
+	
+	private RiotApiException syntaxError(String message)
+	{
+		return new RiotApiException("Malformed JSON at position "+pos+": "+message);
+	}
+}
@@ -0,0 +1,141 @@
+package net.enigmablade.riotapi.util;
+
+import java.util.*;
+
+/**
+ * <p>A set of <code>long</code>s using open addressing over a primitive array, for sets of IDs too large to box.</p>
+ * <p>Not thread-safe. Values can't be removed.</p>
+ * 
+ * @author Enigma
+ */
+public class LongHashSet
+{
+	private static final long EMPTY = 0;		//0 is tracked separately
+	
+	private long[] table;
+	private int size;
+	private boolean hasZero;
+	
+	/**
+	 * Creates a new empty set.
+	 */
+	public LongHashSet()
+	{
+		this(16);
+	}
+	
+	/**
+	 * Creates a new empty set with room for the given number of values before growing.
+	 * @param capacity The initial capacity.
+	 */
+	public LongHashSet(int capacity)
+	{
+		int length = 16;
+		while(length*3/4 < capacity)
+			length <<= 1;
+		table = new long[length];
+	}
+	
+	//Functionality
+	
+	/**
+	 * Adds a value to the set.
+	 * @param value The value.
+	 * @return <code>true</code> if the value was added, or <code>false</code> if it was already in the set.
+	 */
+	public boolean add(long value)
+	{
+		if(value == EMPTY)
+		{
+			if(hasZero)
+				return false;
+			hasZero = true;
+			size++;
+			return true;
+		}
+		
+		int mask = table.length-1;
+		int n = hash(value) & mask;
+		while(table[n] != EMPTY)
+		{
+			if(table[n] == value)
+				return false;
+			n = (n+1) & mask;
+		}
+		table[n] = value;
+		size++;
+		
+		if(size*4 > table.length*3)
+			grow();
+		return true;
+	}
+	
+	public boolean contains(long value)
+	{
+		if(value == EMPTY)
+			return hasZero;
+		
+		int mask = table.length-1;
+		int n = hash(value) & mask;
+		while(table[n] != EMPTY)
+		{
+			if(table[n] == value)
+				return true;
+			n = (n+1) & mask;
+		}
+		return false;
+	}
+	
+	public int size()
+	{
+		return size;
+	}
+	
+	public void clear()
+	{
+		Arrays.fill(table, EMPTY);
+		size = 0;
+		hasZero = false;
+	}
+	
+	/**
+	 * Returns all values of the set, in no particular order.
+	 * @return The values.
+	 */
+	public long[] toArray()
+	{
+		long[] values = new long[size];
+		int i = 0;
+		if(hasZero)
+			values[i++] = 0;
+		for(long value : table)
+			if(value != EMPTY)
+				values[i++] = value;
+		return values;
+	}
+	
+	//Helper methods
+	
+	private void grow()
+	{
+		long[] old = table;
+		table = new long[old.length*2];
+		int mask = table.length-1;
+		for(long value : old)
+		{
+			if(value == EMPTY)
+				continue;
+			int n = hash(value) & mask;
+			while(table[n] != EMPTY)
+				n = (n+1) & mask;
+			table[n] = value;
+		}
+	}
+	
+	private static int hash(long value)
+	{
+		//Mix the bits so sequential IDs spread over the table
+		long h = value*0x9E3779B97F4A7C15L;
+		return (int)(h ^ (h >>> 32));
+	}
+}
@@ -0,0 +1,149 @@
+package net.enigmablade.riotapi.util;
+
+import java.nio.charset.*;
+import java.util.*;
+
+/**
+ * <p>A URL path pattern compiled once into literal parts and argument slots, so it can be rendered without searching the pattern again.</p>
+ * <p>The substring <code>{ARG}</code> denotes a slot for the argument with the key "<code>ARG</code>".
+ * Slot values are inserted as given, so they must already be encoded.</p>
+ * <p>Slots are filled by name from an argument map, with one lookup per slot. Compiling saves searching and splitting the pattern on every call,
+ * but not the argument map: requests are identified by their arguments (see {@link net.enigmablade.riotapi.RequestKey}), so each call still builds one.</p>
+ * <p><b>Example</b>:<br/>
+ * Pattern: "<code>by-name/{summonerNames}</code>"<br/>
+ * Arguments: <code>{summonerNames=theenigmablade}</code><br/>
+ * Result: "<code>by-name/theenigmablade</code>"</p>
+ * 
+ * @author Enigma
+ */
+public class UrlTemplate
+{
+	private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+	
+	private String pattern;
+	private String[] literals;		//One more literal than slots, the first and last may be empty
+	private String[] slots;
+	
+	private UrlTemplate(String pattern, String[] literals, String[] slots)
+	{
+		this.pattern = pattern;
+		this.literals = literals;
+		this.slots = slots;
+	}
+	
+	/**
+	 * Compiles a pattern into a template. An unclosed <code>{</code> is treated as literal text.
+	 * @param pattern The pattern.
+	 * @return The compiled template.
+	 */
+	public static UrlTemplate compile(String pattern)
+	{
+		List<String> literals = new ArrayList<>(2);
+		List<String> slots = new ArrayList<>(1);
+		
+		int literalStart = 0, start, end;
+		while((start = pattern.indexOf('{', literalStart)) >= 0 && (end = pattern.indexOf('}', start)) > 0)
+		{
+			literals.add(pattern.substring(literalStart, start));
+			slots.add(pattern.substring(start+1, end));
+			literalStart = end+1;
+		}
+		literals.add(pattern.substring(literalStart));
+		
+		return new UrlTemplate(pattern, literals.toArray(new String[literals.size()]), slots.toArray(new String[slots.size()]));
+	}
+	
+	//Rendering
+	
+	/**
+	 * Appends the template to the buffer with the slots filled by name. Slots without a mapping are left as they are.
+	 * @param out The buffer.
+	 * @param args The slot values by slot name, or <code>null</code>.
+	 */
+	public void render(StringBuilder out, Map<String, String> args)
+	{
+		out.append(literals[0]);
+		for(int n = 0; n < slots.length; n++)
+		{
+			String value = args != null ? args.get(slots[n]) : null;
+			if(value != null)
+				out.append(value);
+			else
+				out.append('{').append(slots[n]).append('}');
+			out.append(literals[n+1]);
+		}
+	}
+	
+	/**
+	 * Appends query arguments to the buffer sorted by key, so equal arguments always render the same way.
+	 * Keys and values are percent-encoded.
+	 * @param out The buffer.
+	 * @param args The query arguments, or <code>null</code>.
+	 * @param separator The character placed before the first argument, usually <code>'?'</code> or <code>'&'</code>.
+	 */
+	public static void appendQueryArgs(StringBuilder out, Map<String, String> args, char separator)
+	{
+		if(args == null || args.isEmpty())
+			return;
+		
+		String[] keys = args.keySet().toArray(new String[args.size()]);
+		if(keys.length > 1)
+			Arrays.sort(keys);
+		
+		for(String key : keys)
+		{
+			out.append(separator);
+			appendEncoded(out, key);
+			out.append('=');
+			appendEncoded(out, args.get(key));
+			separator = '&';
+		}
+	}
+	
+	/**
+	 * Appends text to the buffer, percent-encoding the UTF-8 bytes of everything except unreserved characters.
+	 * @param out The buffer.
+	 * @param text The text.
+	 */
+	public static void appendEncoded(StringBuilder out, String text)
+	{
+		for(int n = 0; n < text.length(); n++)
+		{
+			char c = text.charAt(n);
+			if(isUnreserved(c))
+			{
+				out.append(c);
+			}
+			else
+			{
+				//Encode the rest of the string, it's rare enough
+				for(byte b : text.substring(n).getBytes(StandardCharsets.UTF_8))
+				{
+					if(isUnreserved((char)b))
+						out.append((char)b);
+					else
+						out.append('%').append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+				}
+				return;
+			}
+		}
+	}
+	
+	private static boolean isUnreserved(char c)
+	{
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '-' || c == '_' || c == '.' || c == '~';
+	}
+	
+	//Accessor methods
+	
+	public String getPattern()
+	{
+		return pattern;
+	}
+	
+	@Override
+	public String toString()
+	{
+		return pattern;
+	}
+}
@@ -0,0 +1,239 @@
+package net.enigmablade.riotapi.watchers;
+
+import java.util.*;
+import net.enigmablade.riotapi.constants.*;
+import net.enigmablade.riotapi.types.*;
+
+/**
+ * <p>The changes to a league between two snapshots: entries that were added, removed, or changed.</p>
+ * <p>The first snapshot of a league is reported as an initial diff with every entry added.</p>
+ * 
+ * @author Enigma
+ */
+public class LeagueDiff
+{
+	/**
+	 * A change to an entry that is in both snapshots.
+	 * 
+	 * @author Enigma
+	 */
+	public static class Change
+	{
+		private League.Entry previous, current;
+		
+		public Change(League.Entry previous, League.Entry current)
+		{
+			this.previous = previous;
+			this.current = current;
+		}
+		
+		//Accessor methods
+		
+		public League.Entry getPrevious()
+		{
+			return previous;
+		}
+		
+		public League.Entry getCurrent()
+		{
+			return current;
+		}
+		
+		public String getPlayerOrTeamId()
+		{
+			return current.getPlayerOrTeamId();
+		}
+		
+		/**
+		 * Returns the change in league points.
+		 * @return The league points gained, negative if lost.
+		 */
+		public int getLeaguePointsChange()
+		{
+			return current.getLeaguePoints()-previous.getLeaguePoints();
+		}
+		
+		/**
+		 * Returns the change in wins.
+		 * @return The number of wins gained.
+		 */
+		public int getWinsChange()
+		{
+			return current.getWins()-previous.getWins();
+		}
+		
+		/**
+		 * Returns whether or not the entry moved up a division.
+		 * @return <code>true</code> if promoted, otherwise <code>false</code>.
+		 */
+		public boolean isPromoted()
+		{
+			return isKnown(previous.getDivision()) && isKnown(current.getDivision()) && current.getDivision().ordinal() > previous.getDivision().ordinal();
+		}
+		
+		/**
+		 * Returns whether or not the entry moved down a division.
+		 * @return <code>true</code> if demoted, otherwise <code>false</code>.
+		 */
+		public boolean isDemoted()
+		{
+			return isKnown(previous.getDivision()) && isKnown(current.getDivision()) && current.getDivision().ordinal() < previous.getDivision().ordinal();
+		}
+		
+		/**
+		 * Returns whether or not the entry started a series.
+		 * @return <code>true</code> if a series started, otherwise <code>false</code>.
+		 */
+		public boolean isSeriesStarted()
+		{
+			return previous.getSeries() == null && current.getSeries() != null;
+		}
+		
+		/**
+		 * Returns whether or not the entry finished or left a series.
+		 * @return <code>true</code> if a series ended, otherwise <code>false</code>.
+		 */
+		public boolean isSeriesEnded()
+		{
+			return previous.getSeries() != null && current.getSeries() == null;
+		}
+		
+		/**
+		 * Returns whether or not the entry played a game in an ongoing series.
+		 * @return <code>true</code> if the series progressed, otherwise <code>false</code>.
+		 */
+		public boolean isSeriesProgressed()
+		{
+			return previous.getSeries() != null && current.getSeries() != null && !previous.getSeries().equals(current.getSeries());
+		}
+		
+		private static boolean isKnown(LeagueTier division)
+		{
+			return division != null && division.ordinal() >= LeagueTier.DIVISION_V.ordinal() && division.ordinal() <= LeagueTier.DIVISION_I.ordinal();
+		}
+		
+		@Override
+		public String toString()
+		{
+			return previous+" -> "+current;
+		}
+	}
+	
+	private Region region;
+	private League previous, current;
+	private List<League.Entry> added, removed;
+	private List<Change> changed;
+	
+	public LeagueDiff(Region region, League previous, League current, List<League.Entry> added, List<League.Entry> removed, List<Change> changed)
+	{
+		this.region = region;
+		this.previous = previous;
+		this.current = current;
+		this.added = Collections.unmodifiableList(added);
+		this.removed = Collections.unmodifiableList(removed);
+		this.changed = Collections.unmodifiableList(changed);
+	}
+	
+	/**
+	 * Computes the changes between two snapshots of the same league.
+	 * @param region The region of the league.
+	 * @param previous The previous snapshot, or <code>null</code> if there is none.
+	 * @param current The current snapshot.
+	 * @return The changes.
+	 */
+	public static LeagueDiff compute(Region region, League previous, League current)
+	{
+		List<League.Entry> added = new ArrayList<>();
+		List<League.Entry> removed = new ArrayList<>();
+		List<Change> changed = new ArrayList<>();
+		
+		for(League.Entry entry : current.getEntries())
+		{
+			League.Entry old = previous != null ? previous.getEntry(entry.getPlayerOrTeamId()) : null;
+			if(old == null)
+				added.add(entry);
+			else if(!old.equals(entry))
+				changed.add(new Change(old, entry));
+		}
+		if(previous != null)
+			for(League.Entry entry : previous.getEntries())
+				if(current.getEntry(entry.getPlayerOrTeamId()) == null)
+					removed.add(entry);
+		
+		return new LeagueDiff(region, previous, current, added, removed, changed);
+	}
+	
+	//Accessor methods
+	
+	public Region getRegion()
+	{
+		return region;
+	}
+	
+	public QueueType getQueueType()
+	{
+		return current.getQueueType();
+	}
+	
+	public String getLeagueName()
+	{
+		return current.getName();
+	}
+	
+	/**
+	 * Returns the previous snapshot of the league.
+	 * @return The previous snapshot, or <code>null</code> if this is the initial diff.
+	 */
+	public League getPrevious()
+	{
+		return previous;
+	}
+	
+	/**
+	 * Returns the current snapshot of the league.
+	 * @return The current snapshot.
+	 */
+	public League getCurrent()
+	{
+		return current;
+	}
+	
+	/**
+	 * Returns whether or not this is the first snapshot of the league, in which case every entry is added.
+	 * @return <code>true</code> if initial, otherwise <code>false</code>.
+	 */
+	public boolean isInitial()
+	{
+		return previous == null;
+	}
+	
+	/**
+	 * Returns whether or not nothing changed.
+	 * @return <code>true</code> if empty, otherwise <code>false</code>.
+	 */
+	public boolean isEmpty()
+	{
+		return added.isEmpty() && removed.isEmpty() && changed.isEmpty();
+	}
+	
+	public List<League.Entry> getAdded()
+	{
+		return added;
+	}
+	
+	public List<League.Entry> getRemoved()
+	{
+		return removed;
+	}
+	
+	public List<Change> getChanged()
+	{
+		return changed;
+	}
+	
+	@Override
+	public String toString()
+	{
+		return getLeagueName()+" ("+region+", "+getQueueType()+"): "+added.size()+" added, "+removed.size()+" removed, "+changed.size()+" changed";
+	}
+}
@@ -0,0 +1,25 @@
+package net.enigmablade.riotapi.watchers;
+
+import net.enigmablade.riotapi.exceptions.*;
+
+/**
+ * Receives the changes to leagues found by a {@link LeagueWatcher}.
+ * 
+ * @author Enigma
+ */
+public interface LeagueListener
+{
+	/**
+	 * Called when a refresh of a league found changes. Not called for refreshes without changes.
+	 * @param diff The changes since the last snapshot of the league.
+	 */
+	public void leagueChanged(LeagueDiff diff);
+	
+	/**
+	 * Called when a scheduled poll failed. The next poll happens as scheduled.
+	 * @param e The exception.
+	 */
+	public default void pollFailed(RiotApiException e)
+	{
+	}
+}
@@ -0,0 +1,250 @@
+package net.enigmablade.riotapi.watchers;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import net.enigmablade.riotapi.*;
+import net.enigmablade.riotapi.constants.*;
+import net.enigmablade.riotapi.exceptions.*;
+import net.enigmablade.riotapi.types.*;
+
+/**
+ * <p>Watches leagues for changes by keeping the last snapshot of each league (by region, queue, tier, and name)
+ * and delivering only the differences to listeners on every refresh.</p>
+ * <p>Leagues can be refreshed manually, polled once, or polled on a schedule using the API's scheduler.</p>
+ * 
+ * <p><b>Example</b>:<br/>
+ * <code>LeagueWatcher watcher = new LeagueWatcher(api);<br/>
+ * watcher.addListener(diff -&gt; ...);<br/>
+ * watcher.watchChallengerLeague(Region.NA, QueueType.RANKED_5V5_SOLO, 5, TimeUnit.MINUTES);</code></p>
+ * 
+ * @author Enigma
+ */
+public class LeagueWatcher
+{
+	private RiotApi api;
+	private Map<Key, League> snapshots;
+	private ConcurrentMap<Key, Object> locks;
+	private List<LeagueListener> listeners;
+	
+	/**
+	 * Creates a new league watcher without any snapshots.
+	 * @param api The API instance being used.
+	 */
+	public LeagueWatcher(RiotApi api)
+	{
+		this.api = api;
+		snapshots = new HashMap<>();
+		locks = new ConcurrentHashMap<>();
+		listeners = new CopyOnWriteArrayList<>();
+	}
+	
+	//Listener methods
+	
+	public void addListener(LeagueListener listener)
+	{
+		listeners.add(listener);
+	}
+	
+	public void removeListener(LeagueListener listener)
+	{
+		listeners.remove(listener);
+	}
+	
+	//Refresh methods
+	
+	/**
+	 * Replaces the snapshot of a league and notifies listeners if anything changed.
+	 * Refreshes of the same league are computed and delivered one at a time, in order.
+	 * @param region The region of the league.
+	 * @param league The new snapshot of the league.
+	 * @return The changes since the last snapshot.
+	 */
+	public LeagueDiff refresh(Region region, League league)
+	{
+		Key key = new Key(region, league);
+		synchronized(locks.computeIfAbsent(key, k -> new Object()))
+		{
+			League previous;
+			synchronized(snapshots)
+			{
+				previous = snapshots.put(key, league);
+			}
+			
+			LeagueDiff diff = LeagueDiff.compute(region, previous, league);
+			if(!diff.isEmpty())
+				for(LeagueListener listener : listeners)
+					listener.leagueChanged(diff);
+			return diff;
+		}
+	}
+	
+	/**
+	 * Fetches and refreshes the challenger league of a queue. The league is always requested from the server, never from a cache.
+	 * @param region The game region (NA, EUW, EUNE, etc.)
+	 * @param queue The ranked queue.
+	 * @return The changes since the last snapshot.
+	 * @throws RiotApiException If there was an exception or error from the server.
+	 */
+	public LeagueDiff pollChallengerLeague(Region region, QueueType queue) throws RiotApiException
+	{
+		return refresh(region, api.getLeagueApiMethod().getChallengerLeague(region, queue, false));
+	}
+	
+	/**
+	 * Fetches and refreshes all leagues of the given summoners. Leagues shared by several summoners are only refreshed once.
+	 * The leagues are always requested from the server, never from a cache.
+	 * @param region The game region (NA, EUW, EUNE, etc.)
+	 * @param summonerIds The IDs of the summoners.
+	 * @return The changes to each league since the last snapshot.
+	 * @throws RiotApiException If there was an exception or error from the server.
+	 */
+	public List<LeagueDiff> pollLeagues(Region region, long... summonerIds) throws RiotApiException
+	{
+		Map<Key, League> leagues = new LinkedHashMap<>();
+		for(List<League> summonerLeagues : api.getLeagueApiMethod().getLeaguesBulk(region, summonerIds, false).values())
+			for(League league : summonerLeagues)
+				leagues.putIfAbsent(new Key(region, league), league);
+		
+		List<LeagueDiff> diffs = new ArrayList<>(leagues.size());
+		for(League league : leagues.values())
+			diffs.add(refresh(region, league));
+		return diffs;
+	}
+	
+	/**
+	 * Polls the challenger league of a queue on a fixed schedule until the returned future is cancelled.
+	 * Failed polls are reported to listeners, and a poll is skipped while the previous one is still running.
+	 * @param region The game region (NA, EUW, EUNE, etc.)
+	 * @param queue The ranked queue.
+	 * @param period The time between polls.
+	 * @param unit The unit of the period.
+	 * @return The future of the scheduled polls.
+	 */
+	public ScheduledFuture<?> watchChallengerLeague(Region region, QueueType queue, long period, TimeUnit unit)
+	{
+		return schedule(() -> pollChallengerLeague(region, queue), period, unit);
+	}
+	
+	/**
+	 * Polls all leagues of the given summoners on a fixed schedule until the returned future is cancelled.
+	 * Failed polls are reported to listeners, and a poll is skipped while the previous one is still running.
+	 * @param region The game region (NA, EUW, EUNE, etc.)
+	 * @param period The time between polls.
+	 * @param unit The unit of the period.
+	 * @param summonerIds The IDs of the summoners.
+	 * @return The future of the scheduled polls.
+	 */
+	public ScheduledFuture<?> watchLeagues(Region region, long period, TimeUnit unit, long... summonerIds)
+	{
+		long[] ids = summonerIds.clone();
+		return schedule(() -> pollLeagues(region, ids), period, unit);
+	}
+	
+	private ScheduledFuture<?> schedule(Poll poll, long period, TimeUnit unit)
+	{
+		//Polls are handed off to the executor so a slow request doesn't hold up the shared scheduler
+		ExecutorService executor = api.getExecutor();
+		AtomicBoolean polling = new AtomicBoolean();
+		return api.getScheduler().scheduleAtFixedRate(() -> {
+			//Skip the tick while the last poll is still running, so polls never overlap
+			if(!polling.compareAndSet(false, true))
+				return;
+			try
+			{
+				executor.execute(() -> {
+					try
+					{
+						poll.poll();
+					}
+					catch(RiotApiException e)
+					{
+						for(LeagueListener listener : listeners)
+							listener.pollFailed(e);
+					}
+					finally
+					{
+						polling.set(false);
+					}
+				});
+			}
+			catch(RejectedExecutionException e)
+			{
+				polling.set(false);
+				throw e;
+			}
+		}, 0, period, unit);
+	}
+	
+	//Snapshot methods
+	
+	/**
+	 * Returns the last snapshot of a league.
+	 * @param region The region of the league.
+	 * @param queue The queue of the league.
+	 * @param tier The tier of the league.
+	 * @param name The name of the league.
+	 * @return The snapshot, or <code>null</code> if the league hasn't been refreshed.
+	 */
+	public League getSnapshot(Region region, QueueType queue, LeagueTier tier, String name)
+	{
+		synchronized(snapshots)
+		{
+			return snapshots.get(new Key(region, queue, tier, name));
+		}
+	}
+	
+	/**
+	 * Removes all snapshots, so the next refresh of every league is reported as initial.
+	 */
+	public void clearSnapshots()
+	{
+		synchronized(snapshots)
+		{
+			snapshots.clear();
+		}
+	}
+	
+	//Helper classes
+	
+	private static interface Poll
+	{
+		public void poll() throws RiotApiException;
+	}
+	
+	private static class Key
+	{
+		private Region region;
+		private QueueType queue;
+		private LeagueTier tier;
+		private String name;
+		
+		public Key(Region region, League league)
+		{
+			this(region, league.getQueueType(), league.getTier(), league.getName());
+		}
+		
+		public Key(Region region, QueueType queue, LeagueTier tier, String name)
+		{
+			this.region = region;
+			this.queue = queue;
+			this.tier = tier;
+			this.name = name;
+		}
+		
+		@Override
+		public boolean equals(Object o)
+		{
+			if(!(o instanceof Key))
+				return false;
+			Key k = (Key)o;
+			return region == k.region && queue == k.queue && tier == k.tier && Objects.equals(name, k.name);
+		}
+		
+		@Override
+		public int hashCode()
+		{
+			return Objects.hash(region, queue, tier, name);
+		}
+	}
+}
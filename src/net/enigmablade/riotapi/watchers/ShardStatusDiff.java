@@ -0,0 +1,176 @@
+package net.enigmablade.riotapi.watchers;
+
+import java.util.*;
+import net.enigmablade.riotapi.constants.*;
+import net.enigmablade.riotapi.exceptions.*;
+import net.enigmablade.riotapi.types.lolstatus.*;
+
+/**
+ * <p>The changes to the status of a shard between two polls: services whose status changed, and incidents that were added, updated, or removed.</p>
+ * <p>The first status of a shard is reported as an initial diff with every service changed and every incident added.</p>
+ * 
+ * @author Enigma
+ */
+public class ShardStatusDiff
+{
+	private Region region;
+	private Shard previous, current;
+	private List<Service> changedServices;
+	private List<Incident> addedIncidents, updatedIncidents, removedIncidents;
+	
+	public ShardStatusDiff(Region region, Shard previous, Shard current, List<Service> changedServices, List<Incident> addedIncidents, List<Incident> updatedIncidents, List<Incident> removedIncidents)
+	{
+		this.region = region;
+		this.previous = previous;
+		this.current = current;
+		this.changedServices = Collections.unmodifiableList(changedServices);
+		this.addedIncidents = Collections.unmodifiableList(addedIncidents);
+		this.updatedIncidents = Collections.unmodifiableList(updatedIncidents);
+		this.removedIncidents = Collections.unmodifiableList(removedIncidents);
+	}
+	
+	/**
+	 * Computes the changes between two statuses of the same shard.
+	 * @param region The region of the shard.
+	 * @param previous The previous status, or <code>null</code> if there is none.
+	 * @param current The current status.
+	 * @return The changes.
+	 * @throws RiotApiException If there was an exception or error from the server.
+	 */
+	public static ShardStatusDiff compute(Region region, Shard previous, Shard current) throws RiotApiException
+	{
+		List<Service> changedServices = new ArrayList<>();
+		List<Incident> addedIncidents = new ArrayList<>();
+		List<Incident> updatedIncidents = new ArrayList<>();
+		List<Incident> removedIncidents = new ArrayList<>();
+		
+		Map<String, Service> oldServices = new HashMap<>();
+		Map<Long, Incident> oldIncidents = new HashMap<>();
+		if(previous != null)
+			for(Service service : previous.getServices())
+			{
+				oldServices.put(service.getSlug(), service);
+				for(Incident incident : service.getIncidents())
+					oldIncidents.put(incident.getId(), incident);
+			}
+		
+		Set<Long> incidentIds = new HashSet<>();
+		for(Service service : current.getServices())
+		{
+			Service old = oldServices.get(service.getSlug());
+			if(old == null || !Objects.equals(old.getStatus(), service.getStatus()))
+				changedServices.add(service);
+			
+			for(Incident incident : service.getIncidents())
+			{
+				incidentIds.add(incident.getId());
+				Incident oldIncident = oldIncidents.get(incident.getId());
+				if(oldIncident == null)
+					addedIncidents.add(incident);
+				else if(isUpdated(oldIncident, incident))
+					updatedIncidents.add(incident);
+			}
+		}
+		for(Incident incident : oldIncidents.values())
+			if(!incidentIds.contains(incident.getId()))
+				removedIncidents.add(incident);
+		
+		return new ShardStatusDiff(region, previous, current, changedServices, addedIncidents, updatedIncidents, removedIncidents);
+	}
+	
+	private static boolean isUpdated(Incident previous, Incident current)
+	{
+		if(previous.isActive() != current.isActive())
+			return true;
+		
+		List<Incident.Message> oldMessages = previous.getMessages();
+		List<Incident.Message> messages = current.getMessages();
+		if(oldMessages.size() != messages.size())
+			return true;
+		for(int n = 0; n < messages.size(); n++)
+		{
+			Incident.Message oldMessage = oldMessages.get(n);
+			Incident.Message message = messages.get(n);
+			if(oldMessage.getId() != message.getId() || !Objects.equals(oldMessage.getUpdatedAt(), message.getUpdatedAt()) || !Objects.equals(oldMessage.getContent(), message.getContent()))
+				return true;
+		}
+		return false;
+	}
+	
+	//Accessor methods
+	
+	public Region getRegion()
+	{
+		return region;
+	}
+	
+	/**
+	 * Returns the previous status of the shard.
+	 * @return The previous status, or <code>null</code> if this is the initial diff.
+	 */
+	public Shard getPrevious()
+	{
+		return previous;
+	}
+	
+	/**
+	 * Returns the current status of the shard.
+	 * @return The current status.
+	 */
+	public Shard getCurrent()
+	{
+		return current;
+	}
+	
+	/**
+	 * Returns whether or not this is the first status of the shard, in which case every service is changed.
+	 * @return <code>true</code> if initial, otherwise <code>false</code>.
+	 */
+	public boolean isInitial()
+	{
+		return previous == null;
+	}
+	
+	/**
+	 * Returns whether or not nothing changed.
+	 * @return <code>true</code> if empty, otherwise <code>false</code>.
+	 */
+	public boolean isEmpty()
+	{
+		return changedServices.isEmpty() && addedIncidents.isEmpty() && updatedIncidents.isEmpty() && removedIncidents.isEmpty();
+	}
+	
+	/**
+	 * Returns the services that are new or whose status changed.
+	 * @return The changed services.
+	 */
+	public List<Service> getChangedServices()
+	{
+		return changedServices;
+	}
+	
+	public List<Incident> getAddedIncidents()
+	{
+		return addedIncidents;
+	}
+	
+	/**
+	 * Returns the incidents that became active or inactive, or whose messages were added or updated.
+	 * @return The updated incidents.
+	 */
+	public List<Incident> getUpdatedIncidents()
+	{
+		return updatedIncidents;
+	}
+	
+	public List<Incident> getRemovedIncidents()
+	{
+		return removedIncidents;
+	}
+	
+	@Override
+	public String toString()
+	{
+		return region+": "+changedServices.size()+" services changed, "+addedIncidents.size()+" incidents added, "+updatedIncidents.size()+" updated, "+removedIncidents.size()+" removed";
+	}
+}
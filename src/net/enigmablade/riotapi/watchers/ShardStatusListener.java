@@ -0,0 +1,27 @@
+package net.enigmablade.riotapi.watchers;
+
+import net.enigmablade.riotapi.constants.*;
+import net.enigmablade.riotapi.exceptions.*;
+
+/**
+ * Receives the changes to shard statuses found by a {@link ShardStatusWatcher}.
+ * 
+ * @author Enigma
+ */
+public interface ShardStatusListener
+{
+	/**
+	 * Called when a poll of a shard found changed services or incidents. Not called for polls without changes.
+	 * @param diff The changes since the last status of the shard.
+	 */
+	public void statusChanged(ShardStatusDiff diff);
+	
+	/**
+	 * Called when a scheduled poll of a shard failed. The next poll happens as scheduled.
+	 * @param region The region of the shard.
+	 * @param e The exception.
+	 */
+	public default void pollFailed(Region region, RiotApiException e)
+	{
+	}
+}
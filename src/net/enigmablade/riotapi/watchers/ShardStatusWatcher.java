@@ -0,0 +1,253 @@
+package net.enigmablade.riotapi.watchers;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import net.enigmablade.riotapi.*;
+import net.enigmablade.riotapi.constants.*;
+import net.enigmablade.riotapi.exceptions.*;
+import net.enigmablade.riotapi.methods.*;
+import net.enigmablade.riotapi.types.lolstatus.*;
+
+/**
+ * <p>Watches the status of shards for changes by keeping the last status of each region
+ * and delivering only the changed services and incidents to listeners on every poll.</p>
+ * <p>Each poll downloads the shard's JSON text and compares it to the last one, so a status that didn't change
+ * isn't parsed or converted again. All regions can be polled concurrently, once or on a schedule using the API's scheduler.
+ * Status requests don't count towards the rate limit.</p>
+ * 
+ * <p><b>Example</b>:<br/>
+ * <code>ShardStatusWatcher watcher = new ShardStatusWatcher(api);<br/>
+ * watcher.addListener(diff -&gt; ...);<br/>
+ * watcher.watchAll(1, TimeUnit.MINUTES);</code></p>
+ * 
+ * @author Enigma
+ */
+public class ShardStatusWatcher
+{
+	private RiotApi api;
+	private ConcurrentMap<Region, Status> statuses;
+	private List<ShardStatusListener> listeners;
+	
+	/**
+	 * Creates a new shard status watcher without any statuses.
+	 * @param api The API instance being used.
+	 */
+	public ShardStatusWatcher(RiotApi api)
+	{
+		this.api = api;
+		statuses = new ConcurrentHashMap<>();
+		listeners = new CopyOnWriteArrayList<>();
+	}
+	
+	//Listener methods
+	
+	public void addListener(ShardStatusListener listener)
+	{
+		listeners.add(listener);
+	}
+	
+	public void removeListener(ShardStatusListener listener)
+	{
+		listeners.remove(listener);
+	}
+	
+	//Poll methods
+	
+	/**
+	 * Fetches the status of a shard and notifies listeners if any services or incidents changed.
+	 * Polls of the same shard are done and delivered one at a time, in order.
+	 * @param region The game region (NA, EUW, EUNE, etc.)
+	 * @return The changes since the last status, or <code>null</code> if the status is identical and wasn't converted.
+	 * @throws RiotApiException If there was an exception or error from the server.
+	 */
+	public ShardStatusDiff poll(Region region) throws RiotApiException
+	{
+		LolStatusMethod method = api.getLolStatusApiMethod();
+		Status status = statuses.computeIfAbsent(region, r -> new Status());
+		
+		synchronized(status)
+		{
+			String json = method.getShardJson(region);
+			if(json.equals(status.json))
+				return null;
+			
+			Shard shard = method.convertShard(json);
+			ShardStatusDiff diff = ShardStatusDiff.compute(region, status.shard, shard);
+			status.json = json;
+			status.shard = shard;
+			
+			if(!diff.isEmpty())
+				for(ShardStatusListener listener : listeners)
+					listener.statusChanged(diff);
+			return diff;
+		}
+	}
+	
+	/**
+	 * Fetches the status of all shards concurrently, notifying listeners of each that changed.
+	 * A failed region doesn't stop the others from being polled.
+	 * @return The changes to each shard whose status changed, by region.
+	 * @throws RiotApiException If polling any region failed, after all regions were polled.
+	 */
+	public Map<Region, ShardStatusDiff> pollAll() throws RiotApiException
+	{
+		ExecutorService executor = api.getExecutor();
+		Map<Region, FutureTask<ShardStatusDiff>> futures = new LinkedHashMap<>();
+		for(Region region : getRegions())
+		{
+			FutureTask<ShardStatusDiff> future = new FutureTask<>(() -> poll(region));
+			futures.put(region, future);
+			executor.execute(future);
+		}
+		
+		Map<Region, ShardStatusDiff> diffs = new LinkedHashMap<>();
+		RiotApiException failure = null;
+		try
+		{
+			//Regions no worker started yet are polled on this thread, which may be a worker itself
+			for(Map.Entry<Region, FutureTask<ShardStatusDiff>> entry : futures.entrySet())
+			{
+				try
+				{
+					entry.getValue().run();
+					ShardStatusDiff diff = entry.getValue().get();
+					if(diff != null && !diff.isEmpty())
+						diffs.put(entry.getKey(), diff);
+				}
+				catch(ExecutionException e)
+				{
+					if(failure == null)
+						failure = e.getCause() instanceof RiotApiException ? (RiotApiException)e.getCause() : new RiotApiException("Failed to poll the status of "+entry.getKey(), e.getCause());
+				}
+			}
+		}
+		catch(InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new RiotApiException("Interrupted while polling shard statuses", e);
+		}
+		finally
+		{
+			for(FutureTask<ShardStatusDiff> future : futures.values())
+				future.cancel(false);
+		}
+		
+		if(failure != null)
+			throw failure;
+		return diffs;
+	}
+	
+	/**
+	 * Polls the status of a shard on a fixed schedule until the returned future is cancelled.
+	 * Failed polls are reported to listeners, and a poll is skipped while the previous one of the same shard is still running.
+	 * @param region The game region (NA, EUW, EUNE, etc.)
+	 * @param period The time between polls.
+	 * @param unit The unit of the period.
+	 * @return The future of the scheduled polls.
+	 */
+	public ScheduledFuture<?> watch(Region region, long period, TimeUnit unit)
+	{
+		return schedule(Collections.singletonList(region), period, unit);
+	}
+	
+	/**
+	 * Polls the status of all shards concurrently on a fixed schedule until the returned future is cancelled.
+	 * Failed polls are reported to listeners, and a poll is skipped while the previous one of the same shard is still running.
+	 * @param period The time between polls.
+	 * @param unit The unit of the period.
+	 * @return The future of the scheduled polls.
+	 */
+	public ScheduledFuture<?> watchAll(long period, TimeUnit unit)
+	{
+		return schedule(getRegions(), period, unit);
+	}
+	
+	private ScheduledFuture<?> schedule(List<Region> regions, long period, TimeUnit unit)
+	{
+		//Each region is polled separately on the executor so a slow shard doesn't hold up the others or the shared scheduler
+		ExecutorService executor = api.getExecutor();
+		Map<Region, AtomicBoolean> polling = new HashMap<>();
+		for(Region region : regions)
+			polling.put(region, new AtomicBoolean());
+		
+		return api.getScheduler().scheduleAtFixedRate(() -> {
+			for(Region region : regions)
+			{
+				//Skip the region while its last poll is still running, so polls never overlap
+				AtomicBoolean regionPolling = polling.get(region);
+				if(!regionPolling.compareAndSet(false, true))
+					continue;
+				try
+				{
+					executor.execute(() -> {
+						try
+						{
+							poll(region);
+						}
+						catch(RiotApiException e)
+						{
+							for(ShardStatusListener listener : listeners)
+								listener.pollFailed(region, e);
+						}
+						finally
+						{
+							regionPolling.set(false);
+						}
+					});
+				}
+				catch(RejectedExecutionException e)
+				{
+					regionPolling.set(false);
+					throw e;
+				}
+			}
+		}, 0, period, unit);
+	}
+	
+	//Status methods
+	
+	/**
+	 * Returns the last status of a shard.
+	 * @param region The game region (NA, EUW, EUNE, etc.)
+	 * @return The status, or <code>null</code> if the shard hasn't been polled.
+	 */
+	public Shard getStatus(Region region)
+	{
+		Status status = statuses.get(region);
+		if(status == null)
+			return null;
+		synchronized(status)
+		{
+			return status.shard;
+		}
+	}
+	
+	/**
+	 * Removes all statuses, so the next poll of every shard is converted and reported as initial.
+	 */
+	public void clearStatuses()
+	{
+		statuses.clear();
+	}
+	
+	//Helper methods
+	
+	private List<Region> getRegions()
+	{
+		LolStatusMethod method = api.getLolStatusApiMethod();
+		List<Region> regions = new ArrayList<>();
+		for(Region region : Region.values())
+			if(method.isRegionSupported(region))
+				regions.add(region);
+		return regions;
+	}
+	
+	//Helper classes
+	
+	private static class Status
+	{
+		private String json;
+		private Shard shard;
+	}
+}
@@ -0,0 +1,27 @@
+package net.enigmablade.riotapi.watchers;
+
+import net.enigmablade.riotapi.*;
+import net.enigmablade.riotapi.exceptions.*;
+
+/**
+ * Receives the static data snapshots of new patches found by a {@link StaticDataWatcher}.
+ * 
+ * @author Enigma
+ */
+public interface StaticDataListener
+{
+	/**
+	 * Called after the snapshot of a new patch was swapped in.
+	 * @param previous The snapshot of the previous patch.
+	 * @param current The snapshot of the new patch, now being served.
+	 */
+	public void snapshotChanged(StaticDataSnapshot previous, StaticDataSnapshot current);
+	
+	/**
+	 * Called when a scheduled check failed. The next check happens as scheduled, and the previous snapshot is still served.
+	 * @param e The exception.
+	 */
+	public default void checkFailed(RiotApiException e)
+	{
+	}
+}
@@ -0,0 +1,111 @@
+package net.enigmablade.riotapi.watchers;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import net.enigmablade.riotapi.*;
+import net.enigmablade.riotapi.exceptions.*;
+
+/**
+ * <p>Watches for new patches in the background and keeps the static data snapshot of the API's static data method up to date.</p>
+ * <p>Each check only requests the version list. When the latest version changes, the new patch's static data is downloaded
+ * and swapped in for the current snapshot, which readers keep being served until then. A snapshot has to be set or loaded first.</p>
+ * 
+ * <p><b>Example</b>:<br/>
+ * <code>api.getStaticDataApiMethod().loadSnapshot(file, Region.NA, Locale.ENGLISH_US);<br/>
+ * StaticDataWatcher watcher = new StaticDataWatcher(api);<br/>
+ * watcher.watch(1, TimeUnit.HOURS);</code></p>
+ * 
+ * @author Enigma
+ */
+public class StaticDataWatcher
+{
+	private RiotApi api;
+	private List<StaticDataListener> listeners;
+	private final Object checkLock = new Object();
+	
+	/**
+	 * Creates a new static data watcher.
+	 * @param api The API instance being used.
+	 */
+	public StaticDataWatcher(RiotApi api)
+	{
+		this.api = api;
+		listeners = new CopyOnWriteArrayList<>();
+	}
+	
+	//Listener methods
+	
+	public void addListener(StaticDataListener listener)
+	{
+		listeners.add(listener);
+	}
+	
+	public void removeListener(StaticDataListener listener)
+	{
+		listeners.remove(listener);
+	}
+	
+	//Check methods
+	
+	/**
+	 * Checks for a new patch and swaps in its snapshot if there is one, notifying listeners.
+	 * Checks are done and delivered one at a time.
+	 * @return The new snapshot, or <code>null</code> if there's no new patch or no snapshot to replace.
+	 * @throws RiotApiException If there was an exception or error from the server.
+	 */
+	public StaticDataSnapshot check() throws RiotApiException
+	{
+		synchronized(checkLock)
+		{
+			StaticDataSnapshot previous = api.getStaticDataApiMethod().getSnapshot();
+			StaticDataSnapshot current = api.getStaticDataApiMethod().refreshSnapshot();
+			if(current != null)
+				for(StaticDataListener listener : listeners)
+					listener.snapshotChanged(previous, current);
+			return current;
+		}
+	}
+	
+	/**
+	 * Checks for new patches on a fixed schedule until the returned future is cancelled.
+	 * Failed checks are reported to listeners, and a check is skipped while the previous one is still running.
+	 * @param period The time between checks.
+	 * @param unit The unit of the period.
+	 * @return The future of the scheduled checks.
+	 */
+	public ScheduledFuture<?> watch(long period, TimeUnit unit)
+	{
+		//Checks are handed off to the executor so a download doesn't hold up the shared scheduler
+		ExecutorService executor = api.getExecutor();
+		AtomicBoolean checking = new AtomicBoolean();
+		return api.getScheduler().scheduleAtFixedRate(() -> {
+			//Skip the tick while the last check is still running, so checks never overlap
+			if(!checking.compareAndSet(false, true))
+				return;
+			try
+			{
+				executor.execute(() -> {
+					try
+					{
+						check();
+					}
+					catch(RiotApiException e)
+					{
+						for(StaticDataListener listener : listeners)
+							listener.checkFailed(e);
+					}
+					finally
+					{
+						checking.set(false);
+					}
+				});
+			}
+			catch(RejectedExecutionException e)
+			{
+				checking.set(false);
+				throw e;
+			}
+		}, period, period, unit);
+	}
+}